@@ -9,6 +9,7 @@ package io.harness.ng.core.event;
 
 import static io.harness.authorization.AuthorizationServiceHeader.NG_MANAGER;
 import static io.harness.eventsframework.EventsFrameworkConstants.SETUP_USAGE;
+import static io.harness.eventsframework.EventsFrameworkMetadataConstants.ACCOUNT_IDENTIFIER_METRICS_KEY;
 
 import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
@@ -18,11 +19,14 @@ import io.harness.queue.QueueController;
 import io.harness.security.SecurityContextBuilder;
 import io.harness.security.dto.ServicePrincipal;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
@@ -30,9 +34,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SetupUsageStreamConsumer extends RedisTraceConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
+  private static final int HANDLER_THREADS = 4;
   private final Consumer redisConsumer;
   private final List<MessageListener> messageListenersList;
   private final QueueController queueController;
+  private final ExecutorService handlerExecutor = Executors.newFixedThreadPool(
+      HANDLER_THREADS, new ThreadFactoryBuilder().setNameFormat("setup-usage-handler-%d").setDaemon(true).build());
 
   @Inject
   public SetupUsageStreamConsumer(@Named(SETUP_USAGE) Consumer redisConsumer,
@@ -75,28 +82,28 @@ public class SetupUsageStreamConsumer extends RedisTraceConsumer {
     }
   }
 
-  private void pollAndProcessMessages() {
-    List<Message> messages;
-    String messageId;
-    boolean messageProcessed;
-    messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
-    for (Message message : messages) {
-      messageId = message.getId();
-      messageProcessed = handleMessage(message);
-      if (messageProcessed) {
-        redisConsumer.acknowledge(messageId);
-      }
-    }
+  private void pollAndProcessMessages() throws InterruptedException {
+    List<Message> messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    // The usages of an account are updated in order, the accounts concurrently
+    handleMessagesConcurrently(messages,
+        message
+        -> message.getMessage().getMetadataMap().getOrDefault(ACCOUNT_IDENTIFIER_METRICS_KEY, ""),
+        handlerExecutor, redisConsumer);
   }
 
   @Override
   protected boolean processMessage(Message message) {
     AtomicBoolean success = new AtomicBoolean(true);
-    messageListenersList.forEach(messageListener -> {
-      if (!messageListener.handleMessage(message)) {
-        success.set(false);
-      }
-    });
+    SecurityContextBuilder.setContext(new ServicePrincipal(NG_MANAGER.getServiceId()));
+    try {
+      messageListenersList.forEach(messageListener -> {
+        if (!messageListener.handleMessage(message)) {
+          success.set(false);
+        }
+      });
+    } finally {
+      SecurityContextBuilder.unsetCompleteContext();
+    }
 
     return success.get();
   }
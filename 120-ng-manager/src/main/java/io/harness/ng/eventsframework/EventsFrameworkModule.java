@@ -36,6 +36,7 @@ import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.impl.noop.NoOpConsumer;
 import io.harness.eventsframework.impl.noop.NoOpProducer;
 import io.harness.eventsframework.impl.redis.GitAwareRedisProducer;
+import io.harness.eventsframework.impl.redis.RedisBatchingConsumer;
 import io.harness.eventsframework.impl.redis.RedisConsumer;
 import io.harness.eventsframework.impl.redis.RedisProducer;
 import io.harness.pms.redisConsumer.DebeziumConsumersConfig;
@@ -145,8 +146,8 @@ public class EventsFrameworkModule extends AbstractModule {
               redisConfig.getEnvNamespace()));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.ENTITY_CRUD))
-          .toInstance(RedisConsumer.of(EventsFrameworkConstants.ENTITY_CRUD, NG_MANAGER.getServiceId(), redissonClient,
-              EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
+          .toInstance(RedisBatchingConsumer.of(EventsFrameworkConstants.ENTITY_CRUD, NG_MANAGER.getServiceId(),
+              redissonClient, EventsFrameworkConstants.ENTITY_CRUD_MAX_PROCESSING_TIME,
               EventsFrameworkConstants.ENTITY_CRUD_READ_BATCH_SIZE, redisConfig.getEnvNamespace()));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.NG_ACCOUNT_SETUP))
@@ -165,8 +166,8 @@ public class EventsFrameworkModule extends AbstractModule {
               redisConfig.getEnvNamespace()));
       bind(Consumer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.SETUP_USAGE))
-          .toInstance(RedisConsumer.of(EventsFrameworkConstants.SETUP_USAGE, NG_MANAGER.getServiceId(), redissonClient,
-              EventsFrameworkConstants.SETUP_USAGE_MAX_PROCESSING_TIME,
+          .toInstance(RedisBatchingConsumer.of(EventsFrameworkConstants.SETUP_USAGE, NG_MANAGER.getServiceId(),
+              redissonClient, EventsFrameworkConstants.SETUP_USAGE_MAX_PROCESSING_TIME,
               EventsFrameworkConstants.SETUP_USAGE_READ_BATCH_SIZE, redisConfig.getEnvNamespace()));
       bind(Producer.class)
           .annotatedWith(Names.named(EventsFrameworkConstants.ENTITY_ACTIVITY))
@@ -22,4 +22,6 @@ public class GitServiceCacheConfiguration {
   @JsonProperty("validCacheDurationInMillis") long validCacheDurationInMillis;
   @JsonProperty("maxCacheDurationInMillis") long maxCacheDurationInMillis;
   @JsonProperty("backgroundUpdateThreadPool") ThreadPoolConfig backgroundUpdateThreadPoolConfig;
+  // Serves the file contents from the pod once their blob id is read from mongo
+  @JsonProperty("localCacheEnabled") boolean localCacheEnabled;
 }
@@ -15,6 +15,7 @@ import io.harness.ng.DbAliases;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.experimental.FieldNameConstants;
 import org.springframework.data.annotation.TypeAlias;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -22,6 +23,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @Builder
 @StoreIn(DbAliases.NG_MANAGER)
 @Document("gitFileObject")
+@FieldNameConstants(innerTypeName = "GitFileObjectKeys")
 @TypeAlias("io.harness.gitsync.caching.entity.gitFileObject")
 @OwnedBy(PIPELINE)
 public class GitFileObject {
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.caching.helper;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.gitsync.caching.entity.GitFileCache;
+import io.harness.gitsync.caching.entity.GitFileObject;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node local tier in front of the git file cache in mongo. Mongo stays the source of truth for the blob a (repo, branch,
+ * file path) points to and for its freshness, only the file contents are kept on the pod, by git blob id. A blob id
+ * always names the same contents, so the entries never go stale and a file shared by many branches of a repo is kept
+ * once.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class GitFileLocalCache {
+  private static final long BLOBS_MAX_WEIGHT_CHARS = 64L * 1024 * 1024;
+  private static final long BLOBS_TTL_IN_MINUTES = 10;
+
+  private final Cache<String, String> blobs = CacheBuilder.newBuilder()
+                                                  .maximumWeight(BLOBS_MAX_WEIGHT_CHARS)
+                                                  .weigher(new Weigher<String, String>() {
+                                                    @Override
+                                                    public int weigh(String blobKey, String fileContent) {
+                                                      return blobKey.length() + fileContent.length();
+                                                    }
+                                                  })
+                                                  .expireAfterAccess(BLOBS_TTL_IN_MINUTES, TimeUnit.MINUTES)
+                                                  .build();
+
+  /**
+   * Returns the contents of the blob the cached file points to, or null if this pod does not have them.
+   */
+  public String getFileContent(GitFileCache gitFileCache) {
+    GitFileObject gitFileObject = gitFileCache.getGitFileObject();
+    if (gitFileObject == null || isEmpty(gitFileObject.getObjectId())) {
+      return null;
+    }
+    return blobs.getIfPresent(getBlobKey(gitFileCache, gitFileObject.getObjectId()));
+  }
+
+  /**
+   * Keeps the contents of the file as it was written to or read from mongo. Files without a blob id are not kept.
+   */
+  public void put(GitFileCache gitFileCache) {
+    GitFileObject gitFileObject = gitFileCache.getGitFileObject();
+    if (gitFileObject == null || isEmpty(gitFileObject.getObjectId()) || gitFileObject.getFileContent() == null) {
+      return;
+    }
+    blobs.put(getBlobKey(gitFileCache, gitFileObject.getObjectId()), gitFileObject.getFileContent());
+  }
+
+  // Blob ids are only shared within a repo, the contents of other accounts are never served for them
+  private static String getBlobKey(GitFileCache gitFileCache, String objectId) {
+    return String.join("/", gitFileCache.getAccountIdentifier(), String.valueOf(gitFileCache.getGitProvider()),
+        gitFileCache.getRepoName(), objectId);
+  }
+}
@@ -9,6 +9,8 @@ package io.harness.gitsync.caching.service;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.gitsync.GitServiceConfiguration;
+import io.harness.gitsync.caching.GitServiceCacheConfiguration;
 import io.harness.gitsync.caching.beans.CacheDetails;
 import io.harness.gitsync.caching.beans.GitFileCacheDeleteResult;
 import io.harness.gitsync.caching.beans.GitFileCacheKey;
@@ -20,12 +22,15 @@ import io.harness.gitsync.caching.beans.GitFileCacheUpdateRequestValues;
 import io.harness.gitsync.caching.beans.GitFileCacheUpdateResult;
 import io.harness.gitsync.caching.entity.GitFileCache;
 import io.harness.gitsync.caching.entity.GitFileCache.GitFileCacheKeys;
+import io.harness.gitsync.caching.entity.GitFileObject;
 import io.harness.gitsync.caching.helper.GitFileCacheTTLHelper;
+import io.harness.gitsync.caching.helper.GitFileLocalCache;
 import io.harness.gitsync.caching.mapper.GitFileCacheObjectMapper;
 import io.harness.gitsync.caching.mapper.GitProviderMapper;
 import io.harness.repositories.gitfilecache.GitFileCacheRepository;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -35,20 +40,13 @@ import org.springframework.data.mongodb.core.query.Update;
 public class GitFileCacheServiceImpl implements GitFileCacheService {
   @Inject GitFileCacheRepository gitFileCacheRepository;
   @Inject GitFileCacheTTLHelper gitFileCacheTTLHelper;
+  @Inject GitFileLocalCache gitFileLocalCache;
+  @Inject @Named("gitServiceConfiguration") GitServiceConfiguration gitServiceConfiguration;
 
   @Override
   public GitFileCacheResponse fetchFromCache(GitFileCacheKey gitFileCacheKey) {
-    GitFileCache gitFileCache;
-    if (gitFileCacheKey.isDefaultBranch()) {
-      gitFileCache =
-          gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndCompleteFilepathAndIsDefaultBranch(
-              gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
-              gitFileCacheKey.getRepoName(), gitFileCacheKey.getCompleteFilePath(), true);
-    } else {
-      gitFileCache = gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
-          gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
-          gitFileCacheKey.getRepoName(), gitFileCacheKey.getRef(), gitFileCacheKey.getCompleteFilePath());
-    }
+    GitFileCache gitFileCache =
+        isLocalCacheEnabled() ? fetchThroughLocalCache(gitFileCacheKey) : fetchFromMongo(gitFileCacheKey);
     if (gitFileCache == null) {
       return null;
     }
@@ -66,11 +64,52 @@ public class GitFileCacheServiceImpl implements GitFileCacheService {
         .build();
   }
 
+  // The blob id and freshness of the file are always read from mongo, only the contents of the blob come from the pod
+  private GitFileCache fetchThroughLocalCache(GitFileCacheKey gitFileCacheKey) {
+    GitFileCache gitFileCache = gitFileCacheRepository.findWithoutFileContent(getFetchCriteria(gitFileCacheKey));
+    if (gitFileCache == null) {
+      return null;
+    }
+    String fileContent = gitFileLocalCache.getFileContent(gitFileCache);
+    if (fileContent == null) {
+      gitFileCache = fetchFromMongo(gitFileCacheKey);
+      if (gitFileCache != null) {
+        gitFileLocalCache.put(gitFileCache);
+      }
+      return gitFileCache;
+    }
+    GitFileObject gitFileObject = gitFileCache.getGitFileObject();
+    gitFileCache.setGitFileObject(GitFileObject.builder()
+                                      .fileContent(fileContent)
+                                      .objectId(gitFileObject.getObjectId())
+                                      .commitId(gitFileObject.getCommitId())
+                                      .build());
+    return gitFileCache;
+  }
+
+  private GitFileCache fetchFromMongo(GitFileCacheKey gitFileCacheKey) {
+    GitFileCache gitFileCache;
+    if (gitFileCacheKey.isDefaultBranch()) {
+      gitFileCache =
+          gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndCompleteFilepathAndIsDefaultBranch(
+              gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
+              gitFileCacheKey.getRepoName(), gitFileCacheKey.getCompleteFilePath(), true);
+    } else {
+      gitFileCache = gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+          gitFileCacheKey.getAccountIdentifier(), GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()),
+          gitFileCacheKey.getRepoName(), gitFileCacheKey.getRef(), gitFileCacheKey.getCompleteFilePath());
+    }
+    return gitFileCache;
+  }
+
   @Override
   public GitFileCacheResponse upsertCache(GitFileCacheKey gitFileCacheKey, GitFileCacheObject gitFileCacheObject) {
     Criteria criteria = getCriteria(gitFileCacheKey);
     Update update = getUpsertOperationUpdates(gitFileCacheKey, gitFileCacheObject);
     GitFileCache gitFileCache = gitFileCacheRepository.upsert(criteria, update);
+    if (isLocalCacheEnabled()) {
+      gitFileLocalCache.put(gitFileCache);
+    }
 
     CacheDetails cacheDetails =
         gitFileCacheTTLHelper.getCacheDetails(gitFileCache.getLastUpdatedAt(), gitFileCache.getValidUntil().getTime());
@@ -136,6 +175,28 @@ public class GitFileCacheServiceImpl implements GitFileCacheService {
         .is(gitFileCacheKey.getCompleteFilePath());
   }
 
+  // Matches the file the derived queries of fetchFromMongo return
+  private Criteria getFetchCriteria(GitFileCacheKey gitFileCacheKey) {
+    Criteria criteria = Criteria.where(GitFileCacheKeys.accountIdentifier)
+                            .is(gitFileCacheKey.getAccountIdentifier())
+                            .and(GitFileCacheKeys.gitProvider)
+                            .is(GitProviderMapper.toEntity(gitFileCacheKey.getGitProvider()))
+                            .and(GitFileCacheKeys.repoName)
+                            .is(gitFileCacheKey.getRepoName())
+                            .and(GitFileCacheKeys.completeFilepath)
+                            .is(gitFileCacheKey.getCompleteFilePath());
+    if (gitFileCacheKey.isDefaultBranch()) {
+      return criteria.and(GitFileCacheKeys.isDefaultBranch).is(true);
+    }
+    return criteria.and(GitFileCacheKeys.ref).is(gitFileCacheKey.getRef());
+  }
+
+  private boolean isLocalCacheEnabled() {
+    GitServiceCacheConfiguration gitServiceCacheConfiguration =
+        gitServiceConfiguration.getGitServiceCacheConfiguration();
+    return gitServiceCacheConfiguration != null && gitServiceCacheConfiguration.isLocalCacheEnabled();
+  }
+
   private Criteria getOptionalCriteria(GitFileCacheKey gitFileCacheKey) {
     Criteria criteria = new Criteria();
     criteria =
@@ -19,6 +19,7 @@ import org.springframework.data.mongodb.core.query.Update;
 @OwnedBy(HarnessTeam.PIPELINE)
 public interface GitFileCacheRepositoryCustom {
   GitFileCache upsert(Criteria criteria, Update update);
+  GitFileCache findWithoutFileContent(Criteria criteria);
   DeleteResult delete(Criteria criteria);
   UpdateResult update(Criteria criteria, Update update);
 }
@@ -10,6 +10,8 @@ package io.harness.repositories.gitfilecache;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.gitsync.caching.entity.GitFileCache;
+import io.harness.gitsync.caching.entity.GitFileCache.GitFileCacheKeys;
+import io.harness.gitsync.caching.entity.GitFileObject.GitFileObjectKeys;
 
 import com.google.inject.Inject;
 import com.mongodb.client.result.DeleteResult;
@@ -32,6 +34,21 @@ public class GitFileCacheRepositoryCustomImpl implements GitFileCacheRepositoryC
         query, update, new FindAndModifyOptions().returnNew(true).upsert(true), GitFileCache.class);
   }
 
+  public GitFileCache findWithoutFileContent(Criteria criteria) {
+    Query query = new Query(criteria);
+    query.fields()
+        .include(GitFileCacheKeys.accountIdentifier)
+        .include(GitFileCacheKeys.gitProvider)
+        .include(GitFileCacheKeys.repoName)
+        .include(GitFileCacheKeys.ref)
+        .include(GitFileCacheKeys.isDefaultBranch)
+        .include(GitFileCacheKeys.gitFileObject + "." + GitFileObjectKeys.objectId)
+        .include(GitFileCacheKeys.gitFileObject + "." + GitFileObjectKeys.commitId)
+        .include(GitFileCacheKeys.validUntil)
+        .include(GitFileCacheKeys.lastUpdatedAt);
+    return mongoTemplate.findOne(query, GitFileCache.class);
+  }
+
   public DeleteResult delete(Criteria criteria) {
     Query query = new Query(criteria);
     return mongoTemplate.remove(query, GitFileCache.class);
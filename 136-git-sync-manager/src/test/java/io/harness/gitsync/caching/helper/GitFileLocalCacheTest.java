@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.caching.helper;
+
+import static io.harness.rule.OwnerRule.MOHIT_GARG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.gitsync.caching.entity.GitFileCache;
+import io.harness.gitsync.caching.entity.GitFileObject;
+import io.harness.gitsync.caching.entity.GitProvider;
+import io.harness.rule.Owner;
+
+import java.util.Date;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class GitFileLocalCacheTest extends CategoryTest {
+  private static final String ACCOUNT_IDENTIFIER = "accountIdentifier";
+  private static final String REPO_NAME = "repoName";
+  private static final String FILE_PATH = ".harness/pipeline.yaml";
+  private static final String FILE_CONTENT = "pipeline:\n  identifier: pipeline";
+  private static final String OBJECT_ID = "blobId";
+
+  private final GitFileLocalCache gitFileLocalCache = new GitFileLocalCache();
+
+  private static GitFileCache getGitFileCache(String repoName, String ref, String objectId, String fileContent) {
+    return GitFileCache.builder()
+        .accountIdentifier(ACCOUNT_IDENTIFIER)
+        .gitProvider(GitProvider.GITHUB_SAAS)
+        .repoName(repoName)
+        .ref(ref)
+        .completeFilepath(FILE_PATH)
+        .gitFileObject(GitFileObject.builder().fileContent(fileContent).objectId(objectId).commitId("commitId").build())
+        .validUntil(new Date(System.currentTimeMillis() + 60000))
+        .lastUpdatedAt(System.currentTimeMillis())
+        .build();
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testFileContentIsSharedByBlobId() {
+    gitFileLocalCache.put(getGitFileCache(REPO_NAME, "main", OBJECT_ID, FILE_CONTENT));
+
+    // Only the blob id of the file read from mongo is needed to serve its contents, whatever the branch
+    assertThat(gitFileLocalCache.getFileContent(getGitFileCache(REPO_NAME, "feature", OBJECT_ID, null)))
+        .isEqualTo(FILE_CONTENT);
+    assertThat(gitFileLocalCache.getFileContent(getGitFileCache(REPO_NAME, "main", "otherBlobId", null))).isNull();
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testFileContentIsScopedToTheRepo() {
+    gitFileLocalCache.put(getGitFileCache(REPO_NAME, "main", OBJECT_ID, FILE_CONTENT));
+
+    assertThat(gitFileLocalCache.getFileContent(getGitFileCache("otherRepoName", "main", OBJECT_ID, null))).isNull();
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testFilesWithoutBlobIdAreNotCached() {
+    gitFileLocalCache.put(getGitFileCache(REPO_NAME, "main", null, FILE_CONTENT));
+
+    assertThat(gitFileLocalCache.getFileContent(getGitFileCache(REPO_NAME, "main", null, null))).isNull();
+    assertThat(gitFileLocalCache.getFileContent(GitFileCache.builder().repoName(REPO_NAME).build())).isNull();
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.gitsync.caching.service;
+
+import static io.harness.rule.OwnerRule.MOHIT_GARG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.gitsync.GitServiceConfiguration;
+import io.harness.gitsync.caching.GitServiceCacheConfiguration;
+import io.harness.gitsync.caching.beans.CacheDetails;
+import io.harness.gitsync.caching.beans.GitFileCacheKey;
+import io.harness.gitsync.caching.beans.GitFileCacheResponse;
+import io.harness.gitsync.caching.beans.GitProvider;
+import io.harness.gitsync.caching.entity.GitFileCache;
+import io.harness.gitsync.caching.entity.GitFileObject;
+import io.harness.gitsync.caching.helper.GitFileCacheTTLHelper;
+import io.harness.gitsync.caching.helper.GitFileLocalCache;
+import io.harness.repositories.gitfilecache.GitFileCacheRepository;
+import io.harness.rule.Owner;
+
+import java.util.Date;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class GitFileCacheServiceImplTest extends CategoryTest {
+  private static final String ACCOUNT_IDENTIFIER = "accountIdentifier";
+  private static final String REPO_NAME = "repoName";
+  private static final String REF = "main";
+  private static final String FILE_PATH = ".harness/pipeline.yaml";
+  private static final String FILE_CONTENT = "pipeline:\n  identifier: pipeline";
+  private static final String OBJECT_ID = "blobId";
+
+  private static final GitFileCacheKey GIT_FILE_CACHE_KEY = GitFileCacheKey.builder()
+                                                                .accountIdentifier(ACCOUNT_IDENTIFIER)
+                                                                .gitProvider(GitProvider.GITHUB_SAAS)
+                                                                .repoName(REPO_NAME)
+                                                                .ref(REF)
+                                                                .completeFilePath(FILE_PATH)
+                                                                .build();
+
+  private final GitFileCacheRepository gitFileCacheRepository = mock(GitFileCacheRepository.class);
+  private final GitFileLocalCache gitFileLocalCache = new GitFileLocalCache();
+  private final GitFileCacheServiceImpl gitFileCacheService = new GitFileCacheServiceImpl();
+
+  @Before
+  public void setup() {
+    GitFileCacheTTLHelper gitFileCacheTTLHelper = mock(GitFileCacheTTLHelper.class);
+    when(gitFileCacheTTLHelper.getCacheDetails(anyLong(), anyLong())).thenReturn(CacheDetails.builder().build());
+    gitFileCacheService.gitFileCacheRepository = gitFileCacheRepository;
+    gitFileCacheService.gitFileCacheTTLHelper = gitFileCacheTTLHelper;
+    gitFileCacheService.gitFileLocalCache = gitFileLocalCache;
+    gitFileCacheService.gitServiceConfiguration =
+        GitServiceConfiguration.builder()
+            .gitServiceCacheConfiguration(GitServiceCacheConfiguration.builder().localCacheEnabled(true).build())
+            .build();
+  }
+
+  private static GitFileCache getGitFileCache(String objectId, String fileContent) {
+    return GitFileCache.builder()
+        .accountIdentifier(ACCOUNT_IDENTIFIER)
+        .gitProvider(io.harness.gitsync.caching.entity.GitProvider.GITHUB_SAAS)
+        .repoName(REPO_NAME)
+        .ref(REF)
+        .completeFilepath(FILE_PATH)
+        .gitFileObject(GitFileObject.builder().fileContent(fileContent).objectId(objectId).commitId("commitId").build())
+        .validUntil(new Date(System.currentTimeMillis() + 60000))
+        .lastUpdatedAt(System.currentTimeMillis())
+        .build();
+  }
+
+  private void mockMongo(String objectId) {
+    when(gitFileCacheRepository.findWithoutFileContent(any())).thenReturn(getGitFileCache(objectId, null));
+    when(gitFileCacheRepository.findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(
+             any(), any(), any(), any(), any()))
+        .thenReturn(getGitFileCache(objectId, FILE_CONTENT));
+  }
+
+  private void verifyFileContentReadFromMongo(int times) {
+    verify(gitFileCacheRepository, times(times))
+        .findByAccountIdentifierAndGitProviderAndRepoNameAndRefAndCompleteFilepath(any(), any(), any(), any(), any());
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testFetchFromCacheServesLocalBlob() {
+    mockMongo(OBJECT_ID);
+    gitFileLocalCache.put(getGitFileCache(OBJECT_ID, FILE_CONTENT));
+
+    GitFileCacheResponse response = gitFileCacheService.fetchFromCache(GIT_FILE_CACHE_KEY);
+
+    assertThat(response.getGitFileCacheObject().getFileContent()).isEqualTo(FILE_CONTENT);
+    assertThat(response.getGitFileCacheObject().getObjectId()).isEqualTo(OBJECT_ID);
+    verify(gitFileCacheRepository, times(1)).findWithoutFileContent(any());
+    verifyFileContentReadFromMongo(0);
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testFetchFromCacheFillsLocalTierOnMiss() {
+    mockMongo(OBJECT_ID);
+
+    assertThat(gitFileCacheService.fetchFromCache(GIT_FILE_CACHE_KEY).getGitFileCacheObject().getFileContent())
+        .isEqualTo(FILE_CONTENT);
+    verifyFileContentReadFromMongo(1);
+
+    // The blob read from mongo is served by the pod from then on
+    assertThat(gitFileCacheService.fetchFromCache(GIT_FILE_CACHE_KEY).getGitFileCacheObject().getFileContent())
+        .isEqualTo(FILE_CONTENT);
+    verifyFileContentReadFromMongo(1);
+  }
+
+  @Test
+  @Owner(developers = MOHIT_GARG)
+  @Category(UnitTests.class)
+  public void testFetchFromCacheReadsMongoWithoutBlobId() {
+    mockMongo(null);
+
+    assertThat(gitFileCacheService.fetchFromCache(GIT_FILE_CACHE_KEY).getGitFileCacheObject().getFileContent())
+        .isEqualTo(FILE_CONTENT);
+    assertThat(gitFileCacheService.fetchFromCache(GIT_FILE_CACHE_KEY).getGitFileCacheObject().getFileContent())
+        .isEqualTo(FILE_CONTENT);
+
+    // Files without a blob id are never kept on the pod
+    verifyFileContentReadFromMongo(2);
+  }
+}
@@ -217,6 +217,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -270,6 +271,7 @@ import retrofit2.Response;
 @OwnedBy(HarnessTeam.DEL)
 public class DelegateAgentServiceImpl implements DelegateAgentService {
   private static final int POLL_INTERVAL_SECONDS = 3;
+  private static final int MAX_TASK_DISPATCH_CREDITS = 50;
   private static final long UPGRADE_TIMEOUT = TimeUnit.HOURS.toMillis(2);
   private static final long HEARTBEAT_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
   private static final long HEARTBEAT_SOCKET_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
@@ -356,6 +358,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
   @Inject private ExecutionConfigOverrideFromFileOnDelegate delegateLocalConfigService;
   @Inject(optional = true) @Nullable private PerpetualTaskWorker perpetualTaskWorker;
   @Inject(optional = true) @Nullable private LogStreamingClient logStreamingClient;
+  @Inject(optional = true) @Nullable private TaskDispatchClient taskDispatchClient;
   @Inject DelegateTaskFactory delegateTaskFactory;
   @Inject(optional = true) @Nullable private DelegateServiceAgentClient delegateServiceAgentClient;
   @Inject private KryoSerializer kryoSerializer;
@@ -646,6 +649,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         log.info("Polling is enabled for Delegate");
         startHeartbeat(builder);
         startTaskPolling();
+        startTaskDispatchStream();
       } else {
         client = org.atmosphere.wasync.ClientFactory.getDefault().newClient();
 
@@ -1362,6 +1366,9 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     log.info("Stopping executors");
     taskExecutor.shutdown();
     taskPollExecutor.shutdown();
+    if (taskDispatchClient != null) {
+      taskDispatchClient.stop();
+    }
 
     final boolean terminatedTaskExec = taskExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
     final boolean terminatedPoll = taskPollExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
@@ -1429,7 +1436,37 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     }
   }
 
+  /**
+   * With the task dispatch stream enabled the manager pushes the task events as soon as they are broadcast from the
+   * manager the stream is connected to. Polling goes on at the same interval, for the tasks broadcast from other
+   * managers.
+   */
+  private void startTaskDispatchStream() {
+    if (taskDispatchClient == null || !delegateConfiguration.isTaskDispatchStreamEnabled()) {
+      return;
+    }
+    log.info("Task dispatch stream is enabled for Delegate");
+    taskDispatchClient.start(accountId, delegateId, delegateInstanceId, this::getTaskDispatchCapacity,
+        this::processDelegateTaskEventsInBlockingLoop);
+  }
+
+  private int getTaskDispatchCapacity() {
+    if (!acquireTasks.get() || frozen.get() || rejectRequest.get()) {
+      return 0;
+    }
+    int maxCredits = Math.min(taskExecutor.getMaximumPoolSize(), MAX_TASK_DISPATCH_CREDITS);
+    return Math.max(maxCredits - currentlyExecutingFutures.size(), 0);
+  }
+
+  private boolean isTaskDispatchStreamSubscribed() {
+    return taskDispatchClient != null && taskDispatchClient.isSubscribed();
+  }
+
   private void pollForTask() {
+    if (isTaskDispatchStreamSubscribed()) {
+      // Tops up the credits freed by the finished tasks, the events already pushed are deduplicated when acquiring
+      taskDispatchClient.refreshCredits();
+    }
     if (shouldContactManager()) {
       try {
         DelegateTaskEventsResponse taskEventsResponse =
@@ -2042,11 +2079,7 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
         currentlyAcquiringTasks.add(delegateTaskId);
 
         log.debug("Try to acquire DelegateTask - accountId: {}", accountId);
-        Call<DelegateTaskPackage> acquireCall =
-            delegateAgentManagerClient.acquireTask(delegateId, delegateTaskId, accountId, delegateInstanceId);
-
-        DelegateTaskPackage delegateTaskPackage = executeAcquireCallWithRetry(
-            acquireCall, String.format("Failed acquiring delegate task %s by delegate %s", delegateTaskId, delegateId));
+        DelegateTaskPackage delegateTaskPackage = acquireDelegateTask(delegateTaskId);
 
         if (delegateTaskPackage == null || delegateTaskPackage.getData() == null) {
           if (delegateTaskPackage == null) {
@@ -2086,6 +2119,22 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     }
   }
 
+  private DelegateTaskPackage acquireDelegateTask(String delegateTaskId) throws IOException, InterruptedException {
+    if (isTaskDispatchStreamSubscribed()) {
+      try {
+        return taskDispatchClient.acquire(delegateTaskId);
+      } catch (ExecutionException | TimeoutException e) {
+        log.warn("Failed acquiring delegate task {} over the task dispatch stream, acquiring it over rest",
+            delegateTaskId, e);
+      }
+    }
+    Call<DelegateTaskPackage> acquireCall =
+        delegateAgentManagerClient.acquireTask(delegateId, delegateTaskId, accountId, delegateInstanceId);
+
+    return executeAcquireCallWithRetry(
+        acquireCall, String.format("Failed acquiring delegate task %s by delegate %s", delegateTaskId, delegateId));
+  }
+
   private DelegateValidateTask getDelegateValidateTask(
       DelegateTaskEvent delegateTaskEvent, DelegateTaskPackage delegateTaskPackage) {
     Consumer<List<DelegateConnectionResultDetail>> postValidationFunction =
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.delegate.service;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.delegate.beans.DelegateTaskAbortEvent.Builder.aDelegateTaskAbortEvent;
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.DelegateId;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.delegate.beans.DelegateTaskPackage;
+import io.harness.serializer.KryoSerializer;
+import io.harness.taskdispatch.AcquireTasks;
+import io.harness.taskdispatch.AcquiredTask;
+import io.harness.taskdispatch.DispatchRequest;
+import io.harness.taskdispatch.DispatchResponse;
+import io.harness.taskdispatch.GrantCredits;
+import io.harness.taskdispatch.Subscribe;
+import io.harness.taskdispatch.TaskDispatchServiceGrpc;
+import io.harness.taskdispatch.TaskDispatchServiceGrpc.TaskDispatchServiceStub;
+import io.harness.taskdispatch.TaskEvent;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import io.grpc.CallCredentials;
+import io.grpc.Channel;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Client of the task dispatch stream, over which the manager pushes the task events of the delegate instead of the
+ * delegate polling for them.
+ *
+ * The delegate grants the manager one credit per task it is ready to take, up to the free capacity of the task
+ * executor, and the manager pushes at most that many task events. The tasks acquired concurrently are acquired in a
+ * single request over the stream. The manager pushes the tasks broadcast from other managers only on its next sweep,
+ * so the delegate keeps polling alongside the stream. While the stream is down it reconnects every RECONNECT_DELAY.
+ */
+@OwnedBy(DEL)
+@Singleton
+@Slf4j
+public class TaskDispatchClient {
+  private static final Duration RECONNECT_DELAY = Duration.ofSeconds(30);
+  private static final Duration ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+  private final TaskDispatchServiceStub stub;
+  private final KryoSerializer kryoSerializer;
+  private final Map<String, CompletableFuture<DelegateTaskPackage>> pendingAcquires = new ConcurrentHashMap<>();
+  private final Queue<String> acquireQueue = new ConcurrentLinkedQueue<>();
+  private final ScheduledExecutorService reconnectExecutor = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("task-dispatch-reconnect").setDaemon(true).build());
+
+  private String accountId;
+  private String delegateId;
+  private String delegateInstanceId;
+  private IntSupplier capacity;
+  private Consumer<List<DelegateTaskEvent>> eventHandler;
+
+  // Guarded by this
+  private StreamObserver<DispatchRequest> requestObserver;
+  private int generation;
+  private int outstandingCredits;
+  private volatile boolean subscribed;
+  private volatile boolean stopped;
+
+  @Inject
+  public TaskDispatchClient(@Named("manager-channel") Channel channel, CallCredentials callCredentials,
+      @Named("referenceFalseKryoSerializer") KryoSerializer kryoSerializer) {
+    this.stub = TaskDispatchServiceGrpc.newStub(channel).withCallCredentials(callCredentials);
+    this.kryoSerializer = kryoSerializer;
+  }
+
+  /**
+   * Opens the stream, the task events pushed are handed to eventHandler.
+   *
+   * @param capacity the number of tasks the delegate is ready to take at the moment
+   */
+  public synchronized void start(String accountId, String delegateId, String delegateInstanceId, IntSupplier capacity,
+      Consumer<List<DelegateTaskEvent>> eventHandler) {
+    this.accountId = accountId;
+    this.delegateId = delegateId;
+    this.delegateInstanceId = delegateInstanceId;
+    this.capacity = capacity;
+    this.eventHandler = eventHandler;
+    connect();
+  }
+
+  public synchronized void stop() {
+    stopped = true;
+    subscribed = false;
+    reconnectExecutor.shutdownNow();
+    if (requestObserver != null) {
+      requestObserver.onCompleted();
+      requestObserver = null;
+    }
+    failPendingAcquires();
+  }
+
+  public boolean isSubscribed() {
+    return subscribed;
+  }
+
+  /**
+   * Grants the manager the credits freed since the last grant.
+   */
+  public synchronized void refreshCredits() {
+    if (!subscribed || requestObserver == null) {
+      return;
+    }
+    int credits = capacity.getAsInt() - outstandingCredits;
+    if (credits > 0) {
+      requestObserver.onNext(
+          DispatchRequest.newBuilder().setGrantCredits(GrantCredits.newBuilder().setCredits(credits)).build());
+      outstandingCredits += credits;
+    }
+  }
+
+  /**
+   * Acquires the task over the stream, together with the tasks other threads are acquiring at the same time.
+   *
+   * @return the task package, as the acquire task rest call returns it
+   */
+  public DelegateTaskPackage acquire(String taskId)
+      throws InterruptedException, ExecutionException, TimeoutException {
+    CompletableFuture<DelegateTaskPackage> future = new CompletableFuture<>();
+    if (pendingAcquires.putIfAbsent(taskId, future) != null) {
+      throw new IllegalStateException("Task " + taskId + " is already being acquired");
+    }
+    try {
+      acquireQueue.add(taskId);
+      flushAcquires();
+      return future.get(ACQUIRE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    } finally {
+      pendingAcquires.remove(taskId, future);
+    }
+  }
+
+  private synchronized void flushAcquires() {
+    List<String> taskIds = new ArrayList<>();
+    for (String taskId = acquireQueue.poll(); taskId != null; taskId = acquireQueue.poll()) {
+      taskIds.add(taskId);
+    }
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    if (requestObserver == null) {
+      taskIds.forEach(taskId -> failAcquire(taskId, "Task dispatch stream is not connected"));
+      return;
+    }
+    requestObserver.onNext(
+        DispatchRequest.newBuilder().setAcquireTasks(AcquireTasks.newBuilder().addAllTaskIds(taskIds)).build());
+  }
+
+  private synchronized void connect() {
+    if (stopped) {
+      return;
+    }
+    int credits = Math.max(capacity.getAsInt(), 0);
+    generation++;
+    requestObserver = stub.dispatch(new DispatchResponseObserver(generation));
+    outstandingCredits = credits;
+    requestObserver.onNext(DispatchRequest.newBuilder()
+                               .setSubscribe(Subscribe.newBuilder()
+                                                 .setDelegateId(DelegateId.newBuilder().setId(delegateId))
+                                                 .setDelegateInstanceId(delegateInstanceId)
+                                                 .setCredits(credits))
+                               .build());
+  }
+
+  private synchronized void disconnected(int streamGeneration, Throwable t) {
+    if (streamGeneration != generation || stopped) {
+      return;
+    }
+    if (t == null) {
+      log.info("Task dispatch stream closed by the manager, polling for tasks until it reconnects");
+    } else if (Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED) {
+      log.info("Manager does not support the task dispatch stream, polling for tasks");
+    } else {
+      log.warn("Task dispatch stream failed, polling for tasks until it reconnects", t);
+    }
+    subscribed = false;
+    requestObserver = null;
+    failPendingAcquires();
+    reconnectExecutor.schedule(this::connect, RECONNECT_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized boolean isCurrent(int streamGeneration) {
+    return streamGeneration == generation;
+  }
+
+  private void received(int streamGeneration, DispatchResponse response) {
+    if (!isCurrent(streamGeneration)) {
+      return;
+    }
+    switch (response.getResponseCase()) {
+      case SUBSCRIBED:
+        log.info("Subscribed to the task dispatch stream");
+        subscribed = true;
+        break;
+      case TASK_EVENTS:
+        List<DelegateTaskEvent> delegateTaskEvents = new ArrayList<>();
+        int credits = 0;
+        for (TaskEvent taskEvent : response.getTaskEvents().getTaskEventsList()) {
+          if (taskEvent.getAbort()) {
+            delegateTaskEvents.add(aDelegateTaskAbortEvent()
+                                       .withAccountId(accountId)
+                                       .withDelegateTaskId(taskEvent.getTaskId())
+                                       .withSync(taskEvent.getSync())
+                                       .build());
+          } else {
+            credits++;
+            delegateTaskEvents.add(aDelegateTaskEvent()
+                                       .withAccountId(accountId)
+                                       .withDelegateTaskId(taskEvent.getTaskId())
+                                       .withSync(taskEvent.getSync())
+                                       .withTaskType(taskEvent.getTaskType().isEmpty() ? null : taskEvent.getTaskType())
+                                       .build());
+          }
+        }
+        synchronized (this) {
+          outstandingCredits -= credits;
+        }
+        eventHandler.accept(delegateTaskEvents);
+        break;
+      case ACQUIRED_TASKS:
+        for (AcquiredTask acquiredTask : response.getAcquiredTasks().getAcquiredTasksList()) {
+          CompletableFuture<DelegateTaskPackage> future = pendingAcquires.get(acquiredTask.getTaskId());
+          if (future == null) {
+            continue;
+          }
+          if (acquiredTask.getResultCase() == AcquiredTask.ResultCase.TASK_PACKAGE) {
+            future.complete((DelegateTaskPackage) kryoSerializer.asObject(acquiredTask.getTaskPackage().toByteArray()));
+          } else {
+            future.completeExceptionally(new IllegalStateException(acquiredTask.getErrorMessage()));
+          }
+        }
+        break;
+      default:
+        log.warn("Unknown task dispatch response {}", response.getResponseCase());
+    }
+  }
+
+  private void failPendingAcquires() {
+    pendingAcquires.keySet().forEach(taskId -> failAcquire(taskId, "Task dispatch stream disconnected"));
+  }
+
+  private void failAcquire(String taskId, String message) {
+    CompletableFuture<DelegateTaskPackage> future = pendingAcquires.get(taskId);
+    if (future != null) {
+      future.completeExceptionally(new IllegalStateException(message));
+    }
+  }
+
+  private class DispatchResponseObserver implements StreamObserver<DispatchResponse> {
+    private final int streamGeneration;
+
+    DispatchResponseObserver(int streamGeneration) {
+      this.streamGeneration = streamGeneration;
+    }
+
+    @Override
+    public void onNext(DispatchResponse response) {
+      try {
+        received(streamGeneration, response);
+      } catch (Exception e) {
+        log.error("Failed to process the task dispatch response", e);
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      disconnected(streamGeneration, t);
+    }
+
+    @Override
+    public void onCompleted() {
+      disconnected(streamGeneration, null);
+    }
+  }
+}
@@ -14,7 +14,6 @@ import static software.wings.beans.LogHelper.color;
 import static software.wings.beans.LogHelper.doneColoring;
 import static software.wings.beans.LogWeight.Bold;
 
-import static java.lang.System.currentTimeMillis;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import io.harness.annotations.dev.HarnessModule;
@@ -30,11 +29,9 @@ import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -53,11 +50,20 @@ import org.jetbrains.annotations.NotNull;
  *    -> write line
  *    -> close stream
  * concurrent usage of open and close stream will result in loss of logs
+ *
+ * Log lines are buffered per log key, writers only contend with the writers and the dispatcher of the same key. Every
+ * 100ms each key pushes one chunk of at most MAX_CHUNK_LINES lines and MAX_CHUNK_BYTES bytes, and the buffers left
+ * empty are removed. Closing a stream pushes all of its lines. Each key buffers at most MAX_BUFFERED_BYTES, the lines
+ * written past it are dropped.
  */
 @Builder
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class LogStreamingTaskClient implements ILogStreamingTaskClient {
+  static final int MAX_CHUNK_LINES = 1000;
+  static final int MAX_CHUNK_BYTES = 1024 * 512; // 512KB
+  static final long MAX_BUFFERED_BYTES = 1024 * 1024 * 8; // 8MB
+
   private final DelegateLogService logService;
   private final LogStreamingClient logStreamingClient;
   private final LogStreamingSanitizer logStreamingSanitizer;
@@ -72,7 +78,9 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  @Default private final Map<String, LogLineBuffer> logBuffers = new ConcurrentHashMap<>();
+  // Keeps the chunks of a key in order between the scheduled dispatch and the one on close
+  @Default private final Object dispatchLock = new Object();
 
   @Override
   public void openStream(String baseLogKeySuffix) {
@@ -90,29 +98,20 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
 
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
-    // Waiting for finite time allow log upload to finish.
-    long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
+    synchronized (dispatchLock) {
+      // Lines are offered while holding the key, none can be added to the buffer once it is removed
+      LogLineBuffer logBuffer = logBuffers.remove(logKey);
+      if (logBuffer != null) {
+        while (!logBuffer.isEmpty()) {
+          pushChunk(logKey, logBuffer);
         }
       }
     }
-    if (logCache.containsKey(logKey)) {
-      log.error("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
-    }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
     } catch (Exception ex) {
@@ -137,28 +136,33 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine);
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
-      }
-      logCache.get(logKey).add(logLine);
-    }
+    logBuffers.compute(logKey, (key, logBuffer) -> {
+      LogLineBuffer buffer = logBuffer == null ? new LogLineBuffer(MAX_BUFFERED_BYTES) : logBuffer;
+      buffer.offer(logLine);
+      return buffer;
+    });
   }
 
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
-        try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.error("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
-        }
-        iterator.remove();
-      }
-      logCache.notifyAll();
+    synchronized (dispatchLock) {
+      logBuffers.forEach((logKey, logBuffer) -> {
+        pushChunk(logKey, logBuffer);
+        logBuffers.computeIfPresent(logKey, (key, buffer) -> buffer.isEmpty() ? null : buffer);
+      });
+    }
+  }
+
+  private void pushChunk(String logKey, LogLineBuffer logBuffer) {
+    List<LogLine> chunk = logBuffer.drainChunk(MAX_CHUNK_LINES, MAX_CHUNK_BYTES);
+    if (chunk.isEmpty()) {
+      return;
+    }
+    try {
+      SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, chunk));
+    } catch (Exception ex) {
+      log.error(
+          "Unable to push {} lines to log stream for account {} and key {}", chunk.size(), accountId, logKey, ex);
     }
   }
 
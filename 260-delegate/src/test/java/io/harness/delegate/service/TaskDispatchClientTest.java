@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.delegate.service;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.DelegateTaskAbortEvent;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.delegate.beans.DelegateTaskPackage;
+import io.harness.rule.Owner;
+import io.harness.serializer.KryoSerializer;
+import io.harness.taskdispatch.AcquiredTask;
+import io.harness.taskdispatch.AcquiredTasks;
+import io.harness.taskdispatch.DispatchRequest;
+import io.harness.taskdispatch.DispatchResponse;
+import io.harness.taskdispatch.Subscribed;
+import io.harness.taskdispatch.TaskDispatchServiceGrpc.TaskDispatchServiceImplBase;
+import io.harness.taskdispatch.TaskEvent;
+import io.harness.taskdispatch.TaskEvents;
+
+import com.google.protobuf.ByteString;
+import io.grpc.CallCredentials;
+import io.grpc.Channel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class TaskDispatchClientTest extends CategoryTest {
+  @Rule public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final List<DispatchRequest> requests = new CopyOnWriteArrayList<>();
+  private final List<DelegateTaskEvent> handledEvents = new CopyOnWriteArrayList<>();
+  private final AtomicInteger capacity = new AtomicInteger(2);
+  private final KryoSerializer kryoSerializer = mock(KryoSerializer.class);
+  private volatile StreamObserver<DispatchResponse> responseObserver;
+  private TaskDispatchClient client;
+
+  @Before
+  public void setUp() throws Exception {
+    String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(InProcessServerBuilder.forName(serverName)
+                             .directExecutor()
+                             .addService(new TaskDispatchServiceImplBase() {
+                               @Override
+                               public StreamObserver<DispatchRequest> dispatch(
+                                   StreamObserver<DispatchResponse> observer) {
+                                 responseObserver = observer;
+                                 return new StreamObserver<DispatchRequest>() {
+                                   @Override
+                                   public void onNext(DispatchRequest request) {
+                                     requests.add(request);
+                                   }
+
+                                   @Override
+                                   public void onError(Throwable t) {}
+
+                                   @Override
+                                   public void onCompleted() {}
+                                 };
+                               }
+                             })
+                             .build()
+                             .start());
+    Channel channel = grpcCleanup.register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
+
+    client = new TaskDispatchClient(channel, new NoCallCredentials(), kryoSerializer);
+    client.start("accountId", "delegateId", "instanceId", capacity::get, handledEvents::addAll);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> requests.size() == 1);
+    respond(DispatchResponse.newBuilder().setSubscribed(Subscribed.newBuilder()).build());
+  }
+
+  @After
+  public void tearDown() {
+    client.stop();
+  }
+
+  private void respond(DispatchResponse response) {
+    responseObserver.onNext(response);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testPushedTaskEventsTakeCredits() {
+    assertThat(requests.get(0).getSubscribe().getCredits()).isEqualTo(2);
+    await().atMost(5, TimeUnit.SECONDS).until(client::isSubscribed);
+
+    respond(DispatchResponse.newBuilder()
+                .setTaskEvents(TaskEvents.newBuilder()
+                                   .addTaskEvents(TaskEvent.newBuilder().setTaskId("task1").setTaskType("HTTP"))
+                                   .addTaskEvents(TaskEvent.newBuilder().setTaskId("task2").setAbort(true)))
+                .build());
+    await().atMost(5, TimeUnit.SECONDS).until(() -> handledEvents.size() == 2);
+    assertThat(handledEvents.get(0).getDelegateTaskId()).isEqualTo("task1");
+    assertThat(handledEvents.get(0).getTaskType()).isEqualTo("HTTP");
+    assertThat(handledEvents.get(1)).isInstanceOf(DelegateTaskAbortEvent.class);
+
+    // Only the task event took a credit, the grant tops the outstanding credits up to the capacity
+    capacity.set(3);
+    client.refreshCredits();
+    await().atMost(5, TimeUnit.SECONDS).until(() -> requests.size() == 2);
+    assertThat(requests.get(1).getGrantCredits().getCredits()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testTasksAreAcquiredOverTheStream() throws Exception {
+    DelegateTaskPackage delegateTaskPackage = DelegateTaskPackage.builder().delegateTaskId("task1").build();
+    when(kryoSerializer.asObject(any(byte[].class))).thenReturn(delegateTaskPackage);
+
+    CompletableFuture<DelegateTaskPackage> acquired = CompletableFuture.supplyAsync(() -> {
+      try {
+        return client.acquire("task1");
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    await().atMost(5, TimeUnit.SECONDS).until(() -> requests.size() == 2);
+    assertThat(requests.get(1).getAcquireTasks().getTaskIdsList()).containsExactly("task1");
+
+    respond(DispatchResponse.newBuilder()
+                .setAcquiredTasks(AcquiredTasks.newBuilder().addAcquiredTasks(
+                    AcquiredTask.newBuilder().setTaskId("task1").setTaskPackage(ByteString.copyFrom(new byte[] {1}))))
+                .build());
+    assertThat(acquired.get(5, TimeUnit.SECONDS)).isSameAs(delegateTaskPackage);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testAcquireFailsOnceTheStreamIsDown() {
+    await().atMost(5, TimeUnit.SECONDS).until(client::isSubscribed);
+
+    responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+    await().atMost(5, TimeUnit.SECONDS).until(() -> !client.isSubscribed());
+
+    // The caller falls back to the acquire rest call
+    assertThatThrownBy(() -> client.acquire("task1")).isInstanceOf(ExecutionException.class);
+  }
+
+  private static class NoCallCredentials extends CallCredentials {
+    @Override
+    public void applyRequestMetadata(RequestInfo requestInfo, Executor executor, MetadataApplier applier) {
+      applier.apply(new Metadata());
+    }
+
+    @Override
+    public void thisUsesUnstableApi() {
+      // No impl at present
+    }
+  }
+}
@@ -16,8 +16,12 @@ import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
 import static java.time.Duration.ofMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.joor.Reflect.on;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
@@ -31,6 +35,7 @@ import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
 import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
@@ -141,6 +146,46 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     assertThat(logLines).containsExactly(logLine);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPushOneChunkPerKeyOnEachDispatch() {
+    for (int i = 0; i <= LogStreamingTaskClient.MAX_CHUNK_LINES; i++) {
+      completeLogStreamingTaskClient.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("msg").build(), null);
+    }
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    completeLogStreamingTaskClient.dispatchLogs();
+    verify(logStreamingClientMock).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).hasSize(LogStreamingTaskClient.MAX_CHUNK_LINES);
+
+    completeLogStreamingTaskClient.dispatchLogs();
+    verify(logStreamingClientMock, times(2)).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    assertThat(captor.getValue()).hasSize(1);
+
+    // The buffers left empty are removed
+    Map<String, LogLineBuffer> logBuffers = on(completeLogStreamingTaskClient).get("logBuffers");
+    assertThat(logBuffers).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPushAllLinesOnClose() {
+    for (int i = 0; i <= LogStreamingTaskClient.MAX_CHUNK_LINES; i++) {
+      completeLogStreamingTaskClient.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("msg").build(), null);
+    }
+
+    completeLogStreamingTaskClient.closeStream(null);
+    verify(logStreamingClientMock, timeout(5000)).closeLogStream(TOKEN, ACCOUNT_ID, BASE_LOG_KEY, true);
+    verify(logStreamingClientMock, times(2)).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), any());
+
+    // A line written after the close goes to a new buffer, pushed by the next dispatch
+    completeLogStreamingTaskClient.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("msg").build(), null);
+    completeLogStreamingTaskClient.dispatchLogs();
+    verify(logStreamingClientMock, times(3)).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), any());
+  }
+
   @Test
   @Owner(developers = MARKO)
   @Category(UnitTests.class)
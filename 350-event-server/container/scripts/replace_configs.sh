@@ -54,6 +54,10 @@ if [[ "" != "$ENABLE_BATCH_WRITE" ]]; then
   export ENABLE_BATCH_WRITE; yq -i '.eventDataBatchQueryConfig.enableBatchWrite=env(ENABLE_BATCH_WRITE)' $CONFIG_FILE
 fi
 
+if [[ "" != "$MESSAGE_PROCESSOR_PARTITIONS" ]]; then
+  export MESSAGE_PROCESSOR_PARTITIONS; yq -i '.messageProcessorPartitions=env(MESSAGE_PROCESSOR_PARTITIONS)' $CONFIG_FILE
+fi
+
 if [[ "$STACK_DRIVER_LOGGING_ENABLED" == "true" ]]; then
   yq -i 'del(.logging.appenders[0])' $CONFIG_FILE
   yq -i '.logging.appenders[0].stackdriverLogEnabled=true' $CONFIG_FILE
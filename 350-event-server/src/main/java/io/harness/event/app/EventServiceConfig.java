@@ -72,6 +72,7 @@ public class EventServiceConfig extends Configuration {
 
   @JsonProperty("secretsConfiguration") private SecretsConfiguration secretsConfiguration;
   @JsonProperty("eventDataBatchQueryConfig") private EventDataBatchQueryConfig eventDataBatchQueryConfig;
+  @JsonProperty(value = "messageProcessorPartitions") private int messageProcessorPartitions = 8;
 
   @JsonProperty(value = "hostname") private String hostname = "localhost";
   @JsonProperty(value = "basePathPrefix") private String basePathPrefix = "";
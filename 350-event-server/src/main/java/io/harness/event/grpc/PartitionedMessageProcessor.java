@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.ccm.CcmConstants.CLUSTER_ID_IDENTIFIER;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.MessageProcessorType;
+import io.harness.event.app.EventServiceConfig;
+import io.harness.event.metrics.EventServiceMetricNames;
+import io.harness.event.metrics.MessagesMetricsGroupContext;
+import io.harness.metrics.service.api.MetricService;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Runs the message processors on messageProcessorPartitions single threaded partitions. The messages of an account and
+ * category always go to the same partition, so they are processed in the order they were published, while the messages
+ * of other accounts and categories are processed in parallel. {@link #process} waits for the messages it is given, so
+ * they are processed before the publish request is acknowledged, as before.
+ */
+@Slf4j
+@Singleton
+public class PartitionedMessageProcessor {
+  private final MessageProcessorRegistry messageProcessorRegistry;
+  private final MetricService metricService;
+  private final int partitionCount;
+  private final List<ExecutorService> partitions = new ArrayList<>();
+  private final Map<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+
+  @Inject
+  public PartitionedMessageProcessor(MessageProcessorRegistry messageProcessorRegistry, MetricService metricService,
+      EventServiceConfig eventServiceConfig) {
+    this.messageProcessorRegistry = messageProcessorRegistry;
+    this.metricService = metricService;
+    this.partitionCount = Math.max(eventServiceConfig.getMessageProcessorPartitions(), 1);
+    for (int i = 0; i < partitionCount; i++) {
+      partitions.add(Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder().setNameFormat("message-processor-" + i).setDaemon(true).build()));
+    }
+  }
+
+  public void process(List<PublishedMessage> publishedMessages) {
+    Map<Pair<String, String>, List<PublishedMessage>> messagesByPartitionKey = publishedMessages.stream().collect(
+        groupingBy(message -> ImmutablePair.of(message.getAccountId(), message.getCategory()), LinkedHashMap::new,
+            toList()));
+
+    List<Future<?>> futures = new ArrayList<>();
+    messagesByPartitionKey.forEach((partitionKey, messages) -> {
+      AtomicInteger queueDepth = queueDepths.computeIfAbsent(partitionKey.getRight(), key -> new AtomicInteger());
+      queueDepth.addAndGet(messages.size());
+      ExecutorService partition = partitions.get(Math.floorMod(partitionKey.hashCode(), partitionCount));
+      futures.add(partition.submit(() -> processInOrder(messages, queueDepth)));
+    });
+
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        log.warn("Interrupted while waiting for {} messages to be processed", publishedMessages.size());
+        return;
+      } catch (ExecutionException e) {
+        log.warn("Error while processing messages", e.getCause());
+      }
+    }
+  }
+
+  /**
+   * The number of messages waiting to be processed, per category.
+   */
+  public Map<String, Integer> getQueueDepths() {
+    ImmutableMap.Builder<String, Integer> builder = ImmutableMap.builder();
+    queueDepths.forEach((category, queueDepth) -> builder.put(category, queueDepth.get()));
+    return builder.build();
+  }
+
+  private void processInOrder(List<PublishedMessage> messages, AtomicInteger queueDepth) {
+    for (PublishedMessage publishedMessage : messages) {
+      try {
+        MessageProcessor processor =
+            messageProcessorRegistry.getProcessor(MessageProcessorType.valueOf(publishedMessage.getCategory()));
+        processor.process(publishedMessage);
+        publishProcessedMetric(publishedMessage);
+      } catch (Exception e) {
+        log.warn("Error while processing message {} of category {}", publishedMessage.getUuid(),
+            publishedMessage.getCategory(), e);
+      } finally {
+        queueDepth.decrementAndGet();
+      }
+    }
+  }
+
+  private void publishProcessedMetric(PublishedMessage msg) {
+    String accountId = msg.getAccountId();
+    String clusterId = msg.getAttributes().getOrDefault(CLUSTER_ID_IDENTIFIER, "MISSING_CLUSTER_ID");
+    String messageType = msg.getType();
+
+    try (MessagesMetricsGroupContext x = new MessagesMetricsGroupContext(accountId, clusterId, messageType)) {
+      metricService.incCounter(EventServiceMetricNames.PROCESSED_MESSAGE_COUNT);
+    }
+  }
+}
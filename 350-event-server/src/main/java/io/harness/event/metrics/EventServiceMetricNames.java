@@ -9,6 +9,8 @@ package io.harness.event.metrics;
 
 public class EventServiceMetricNames {
   public static final String INCOMING_MESSAGE_COUNT = "evsvc_incomingMessageCount";
+  public static final String PROCESSED_MESSAGE_COUNT = "evsvc_processedMessageCount";
+  public static final String PROCESSING_QUEUE_DEPTH = "evsvc_processingQueueDepth";
   public static final String POD_COUNT = "evsvc_podCount";
   public static final String NODE_COUNT = "evsvc_nodeCount";
   public static final String PV_COUNT = "evsvc_pvCount";
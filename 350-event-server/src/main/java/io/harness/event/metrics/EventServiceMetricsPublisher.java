@@ -7,6 +7,7 @@
 
 package io.harness.event.metrics;
 
+import io.harness.event.grpc.PartitionedMessageProcessor;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 
@@ -16,11 +17,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class EventServiceMetricsPublisher implements MetricsPublisher {
   @Inject private MetricService metricService;
+  @Inject private PartitionedMessageProcessor partitionedMessageProcessor;
 
   @Override
   public void recordMetrics() {
-    // NOOP for now.
-    // This method gets called once every minute. It can be used to capture instantaneous value of LastValue type
-    // of metrics.
+    // This method gets called periodically. It captures the instantaneous value of LastValue type of metrics.
+    partitionedMessageProcessor.getQueueDepths().forEach((category, queueDepth) -> {
+      try (ProcessingMetricsGroupContext x = new ProcessingMetricsGroupContext(category)) {
+        metricService.recordMetric(EventServiceMetricNames.PROCESSING_QUEUE_DEPTH, queueDepth);
+      }
+    });
   }
 }
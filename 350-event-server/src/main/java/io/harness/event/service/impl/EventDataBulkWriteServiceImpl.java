@@ -37,11 +37,12 @@ public class EventDataBulkWriteServiceImpl implements EventDataBulkWriteService
     this.eventServiceConfig = eventServiceConfig;
   }
 
-  private final EventBatchQueryFnFactory<PublishedMessage> publishedMessageInsertQueryFn =
+  // Upserts keyed by the message id, so that writing a message again, as when a delegate publishes a batch again after
+  // a failed acknowledgement, neither fails the bulk write nor stores it twice.
+  private final EventBatchQueryFnFactory<PublishedMessage> publishedMessageUpsertQueryFn =
       (bulkWriteOperation, publishedMessage) -> {
     final BasicDBObject publishedMessageBasicDBObject =
         new BasicDBObject()
-            .append("_id", publishedMessage.getUuid())
             .append(PublishedMessageKeys.accountId, publishedMessage.getAccountId())
             .append(PublishedMessageKeys.createdAt, Instant.now().toEpochMilli())
             .append(PublishedMessageKeys.occurredAt, publishedMessage.getOccurredAt())
@@ -51,12 +52,14 @@ public class EventDataBulkWriteServiceImpl implements EventDataBulkWriteService
             .append(PublishedMessageKeys.category, publishedMessage.getCategory())
             .append(PublishedMessageKeys.attributes, publishedMessage.getAttributes());
 
-    bulkWriteOperation.insert(publishedMessageBasicDBObject);
+    bulkWriteOperation.find(new BasicDBObject("_id", publishedMessage.getUuid()))
+        .upsert()
+        .updateOne(new BasicDBObject("$setOnInsert", publishedMessageBasicDBObject));
   };
 
   @Override
   public boolean bulkInsertPublishedMessages(final List<PublishedMessage> publishedMessages) {
-    return batchQueryExecutor(publishedMessages, publishedMessageInsertQueryFn, PublishedMessage.class);
+    return batchQueryExecutor(publishedMessages, publishedMessageUpsertQueryFn, PublishedMessage.class);
   }
 
   private <T> boolean batchQueryExecutor(
@@ -13,11 +13,9 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 
 import io.harness.ccm.commons.entities.events.PublishedMessage;
-import io.harness.event.MessageProcessorType;
 import io.harness.event.PublishMessage;
 import io.harness.event.app.EventServiceConfig;
-import io.harness.event.grpc.MessageProcessor;
-import io.harness.event.grpc.MessageProcessorRegistry;
+import io.harness.event.grpc.PartitionedMessageProcessor;
 import io.harness.event.metrics.ClusterResourcesMetricsGroup;
 import io.harness.event.metrics.EventServiceMetricNames;
 import io.harness.event.metrics.MessagesMetricsGroupContext;
@@ -47,7 +45,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   private final HPersistence hPersistence;
   private final EventServiceConfig eventServiceConfig;
   private final LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
-  private final MessageProcessorRegistry messageProcessorRegistry;
+  private final PartitionedMessageProcessor partitionedMessageProcessor;
   private final MetricService metricService;
   private final EventDataBulkWriteService eventDataBulkWriteService;
 
@@ -60,12 +58,12 @@ public class EventPublisherServiceImpl implements EventPublisherService {
   @Inject
   public EventPublisherServiceImpl(final HPersistence hPersistence, final EventServiceConfig eventServiceConfig,
       LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository,
-      MessageProcessorRegistry messageProcessorRegistry, MetricService metricService,
+      PartitionedMessageProcessor partitionedMessageProcessor, MetricService metricService,
       EventDataBulkWriteService eventDataBulkWriteService) {
     this.hPersistence = hPersistence;
     this.eventServiceConfig = eventServiceConfig;
     this.lastReceivedPublishedMessageRepository = lastReceivedPublishedMessageRepository;
-    this.messageProcessorRegistry = messageProcessorRegistry;
+    this.partitionedMessageProcessor = partitionedMessageProcessor;
     this.metricService = metricService;
     this.eventDataBulkWriteService = eventDataBulkWriteService;
   }
@@ -76,7 +74,7 @@ public class EventPublisherServiceImpl implements EventPublisherService {
     List<PublishedMessage> withoutCategory = new ArrayList<>();
     List<PublishedMessage> withCategory = new ArrayList<>();
     messagesList.stream()
-        .map(publishMessage -> toPublishedMessage(accountId, enableBatchWrite, publishMessage))
+        .map(publishMessage -> toPublishedMessage(accountId, publishMessage))
         .filter(Objects::nonNull)
         .forEach(publishedMessage -> {
           if (isEmpty(publishedMessage.getCategory())) {
@@ -104,14 +102,8 @@ public class EventPublisherServiceImpl implements EventPublisherService {
       log.warn("Error while persisting last received data", e);
     }
 
-    try {
-      withCategory.forEach(publishedMessage -> {
-        MessageProcessor processor =
-            messageProcessorRegistry.getProcessor(MessageProcessorType.valueOf(publishedMessage.getCategory()));
-        processor.process(publishedMessage);
-      });
-    } catch (Exception e) {
-      log.warn("Error while processing messages", e);
+    if (isNotEmpty(withCategory)) {
+      partitionedMessageProcessor.process(withCategory);
     }
     log.info("Published messages persisted. withCategory:{}, withoutCategory:{}", withCategory.size(),
         withoutCategory.size());
@@ -144,15 +136,12 @@ public class EventPublisherServiceImpl implements EventPublisherService {
     }
   }
 
-  public PublishedMessage toPublishedMessage(
-      String accountId, boolean enableBatchWrite, PublishMessage publishMessage) {
+  public PublishedMessage toPublishedMessage(String accountId, PublishMessage publishMessage) {
     try {
+      // Keyed by the message id, so that the messages published again by a delegate are only stored once
       String uuid = StringUtils.defaultIfEmpty(publishMessage.getMessageId(), generateUuid());
       String messageType = AnyUtils.toFqcn(publishMessage.getPayload());
       Date validUntil = Date.from(OffsetDateTime.now().plusDays(14).toInstant());
-      if (enableBatchWrite) {
-        uuid = generateUuid();
-      }
       if (ImmutableSet.of(POD_UTILIZATION, NODE_UTILIZATION, PV_UTILIZATION, K8S_CONTAINER_STATE, K8S_WORKLOAD_SPEC)
               .contains(messageType)) {
         validUntil = Date.from(OffsetDateTime.now().plusDays(7).toInstant());
@@ -10,6 +10,7 @@ package io.harness.event.grpc;
 import static io.harness.event.payloads.Lifecycle.EventType.EVENT_TYPE_START;
 import static io.harness.event.payloads.Lifecycle.EventType.EVENT_TYPE_STOP;
 import static io.harness.rule.OwnerRule.AVMOHAN;
+import static io.harness.rule.OwnerRule.HANTANG;
 import static io.harness.rule.OwnerRule.SAHILDEEP;
 
 import static java.util.stream.Collectors.toList;
@@ -17,12 +18,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.MessageProcessorType;
 import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
 import io.harness.event.app.EventServiceConfig;
@@ -69,7 +72,7 @@ public class EventPublisherServiceImplTest extends CategoryTest {
   @Mock private EventServiceConfig eventServiceConfig;
   @Mock private HPersistence hPersistence;
   @Mock private LastReceivedPublishedMessageRepository lastReceivedPublishedMessageRepository;
-  @Mock private MessageProcessorRegistry messageProcessorRegistry;
+  @Mock private PartitionedMessageProcessor partitionedMessageProcessor;
   @Mock private MetricService metricService;
 
   @InjectMocks private EventPublisherServiceImpl publisherService;
@@ -108,6 +111,7 @@ public class EventPublisherServiceImplTest extends CategoryTest {
       publisherService.publish(
           TEST_ACC_ID, TEST_DEL_ID, publishRequest.getMessagesList(), publishRequest.getMessagesCount());
       verify(hPersistence).saveIgnoringDuplicateKeys(captor.capture());
+      verify(partitionedMessageProcessor, never()).process(anyList());
       List<PublishedMessage> captured = captor.getValue();
       updateToDefaultUUIDs(captured);
       assertThat(captured).containsExactlyElementsOf(
@@ -209,6 +213,34 @@ public class EventPublisherServiceImplTest extends CategoryTest {
         TEST_ACC_ID, TEST_DEL_ID, publishRequest.getMessagesList(), publishRequest.getMessagesCount());
   }
 
+  @Test
+  @Owner(developers = HANTANG)
+  @Category(UnitTests.class)
+  public void shouldProcessCategorizedMessages() {
+    when(eventServiceConfig.getEventDataBatchQueryConfig()).thenReturn(eventDataBatchQueryConfig);
+    when(eventServiceConfig.getEventDataBatchQueryConfig().isEnableBatchWrite()).thenReturn(false);
+    List<PublishMessage> messages =
+        streamWithIndex(testMessages().stream())
+            .map(pair
+                -> PublishMessage.newBuilder()
+                       .setMessageId("id-" + pair.getLeft())
+                       .setCategory(pair.getLeft() % 2 == 0 ? MessageProcessorType.EXCEPTION.name() : "")
+                       .setPayload(Any.pack(pair.getRight()))
+                       .build())
+            .collect(toList());
+
+    publisherService.publish(TEST_ACC_ID, TEST_DEL_ID, messages, messages.size());
+
+    @SuppressWarnings("unchecked") // Casting as we can't use List<PublishedMessage> as the class type.
+    ArgumentCaptor<List<PublishedMessage>> processedCaptor = ArgumentCaptor.forClass(List.class);
+    verify(partitionedMessageProcessor).process(processedCaptor.capture());
+    assertThat(processedCaptor.getValue()).extracting(PublishedMessage::getUuid).containsExactly("id-0", "id-2");
+    @SuppressWarnings("unchecked") // Casting as we can't use List<PublishedMessage> as the class type.
+    ArgumentCaptor<List<PublishedMessage>> persistedCaptor = ArgumentCaptor.forClass(List.class);
+    verify(hPersistence).saveIgnoringDuplicateKeys(persistedCaptor.capture());
+    assertThat(persistedCaptor.getValue()).extracting(PublishedMessage::getUuid).containsExactly("id-1", "id-3");
+  }
+
   private List<Message> testMessages() {
     return Arrays.asList(Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-1").build(),
         Lifecycle.newBuilder().setType(EVENT_TYPE_START).setInstanceId("instance-2").build(),
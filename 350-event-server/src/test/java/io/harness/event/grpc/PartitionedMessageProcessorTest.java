@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.rule.OwnerRule.HANTANG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.MessageProcessorType;
+import io.harness.event.app.EventServiceConfig;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PartitionedMessageProcessorTest extends CategoryTest {
+  private final MessageProcessorRegistry messageProcessorRegistry = mock(MessageProcessorRegistry.class);
+  private final MessageProcessor messageProcessor = mock(MessageProcessor.class);
+  private final List<String> processed = Collections.synchronizedList(new ArrayList<>());
+  private PartitionedMessageProcessor partitionedMessageProcessor;
+
+  @Before
+  public void setUp() {
+    when(messageProcessorRegistry.getProcessor(MessageProcessorType.EXCEPTION)).thenReturn(messageProcessor);
+    doAnswer(invocation -> {
+      PublishedMessage publishedMessage = invocation.getArgument(0);
+      if (publishedMessage.getUuid().endsWith("-fail")) {
+        throw new IllegalStateException("failed");
+      }
+      processed.add(publishedMessage.getUuid());
+      return null;
+    })
+        .when(messageProcessor)
+        .process(any());
+    EventServiceConfig eventServiceConfig = mock(EventServiceConfig.class);
+    when(eventServiceConfig.getMessageProcessorPartitions()).thenReturn(4);
+    partitionedMessageProcessor =
+        new PartitionedMessageProcessor(messageProcessorRegistry, mock(MetricService.class), eventServiceConfig);
+  }
+
+  private static PublishedMessage publishedMessage(String accountId, String uuid) {
+    return PublishedMessage.builder()
+        .uuid(uuid)
+        .accountId(accountId)
+        .category(MessageProcessorType.EXCEPTION.name())
+        .attributes(Collections.emptyMap())
+        .build();
+  }
+
+  @Test
+  @Owner(developers = HANTANG)
+  @Category(UnitTests.class)
+  public void shouldProcessMessagesOfAnAccountInOrder() {
+    List<PublishedMessage> publishedMessages = new ArrayList<>();
+    IntStream.range(0, 50).forEach(i -> {
+      publishedMessages.add(publishedMessage("account1", "account1-" + i));
+      publishedMessages.add(publishedMessage("account2", "account2-" + i));
+    });
+    publishedMessages.add(publishedMessage("account1", "account1-fail"));
+    publishedMessages.add(publishedMessage("account1", "account1-last"));
+
+    partitionedMessageProcessor.process(publishedMessages);
+
+    // All the messages are processed by the time process returns, even the ones after a failure
+    assertThat(processed).hasSize(101);
+    assertThat(processed.stream().filter(uuid -> uuid.startsWith("account1")).collect(Collectors.toList()))
+        .containsExactlyElementsOf(IntStream.range(0, 51)
+                                       .mapToObj(i -> i < 50 ? "account1-" + i : "account1-last")
+                                       .collect(Collectors.toList()));
+    assertThat(processed.stream().filter(uuid -> uuid.startsWith("account2")).collect(Collectors.toList()))
+        .containsExactlyElementsOf(
+            IntStream.range(0, 50).mapToObj(i -> "account2-" + i).collect(Collectors.toList()));
+    assertThat(partitionedMessageProcessor.getQueueDepths()).containsEntry(MessageProcessorType.EXCEPTION.name(), 0);
+  }
+}
@@ -26,6 +26,7 @@ import io.harness.grpc.server.GrpcServerExceptionHandler;
 import io.harness.grpc.server.GrpcServerModule;
 import io.harness.perpetualtask.grpc.PerpetualTaskServiceGrpc;
 import io.harness.security.DelegateTokenAuthenticator;
+import io.harness.taskdispatch.TaskDispatchServiceGrpcImpl;
 
 import com.google.common.util.concurrent.Service;
 import com.google.common.util.concurrent.ServiceManager;
@@ -60,6 +61,7 @@ public class GrpcServiceConfigurationModule extends AbstractModule {
     bindableServiceMultibinder.addBinding().to(DelegateProfileServiceGrpcImpl.class);
     bindableServiceMultibinder.addBinding().to(DelegateDetailsServiceGrpcImpl.class);
     bindableServiceMultibinder.addBinding().to(PerpetualTaskServiceGrpc.class);
+    bindableServiceMultibinder.addBinding().to(TaskDispatchServiceGrpcImpl.class);
     bindableServiceMultibinder.addBinding().to(PingPongService.class);
 
     Multibinder<ServerInterceptor> serverInterceptorMultibinder =
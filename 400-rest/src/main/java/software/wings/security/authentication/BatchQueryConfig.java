@@ -17,5 +17,6 @@ import lombok.Data;
 public class BatchQueryConfig {
   private int queryBatchSize;
   private int instanceDataBatchSize;
+  private int billingClusterParallelism;
   private boolean syncJobDisabled;
 }
@@ -78,6 +78,7 @@ import software.wings.service.intfc.EnvironmentService;
 import software.wings.service.intfc.InfrastructureMappingService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -103,6 +104,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.SetUtils;
@@ -188,6 +190,9 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
             }
           });
 
+  private final Cache<String, DelegateEligibilityIndex> eligibilityIndexes =
+      CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
   @Override
   public boolean canAssign(String delegateId, DelegateTask task) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
@@ -905,6 +910,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     task.setNonAssignableDelegates(new HashMap<>());
     try {
       List<Delegate> accountDelegates = fetchActiveDelegates(task.getAccountId());
+      DelegateEligibilityIndex.Match match =
+          matchIndexedDelegates(task, accountDelegates, task.getData().getTaskType());
       boolean isTaskNg = task.isNGTask(task.getSetupAbstractions());
       accountDelegates = accountDelegates.stream().filter(delegate -> delegate.isNg() == isTaskNg).collect(toList());
       if (isEmpty(accountDelegates)) {
@@ -923,7 +930,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       eligibleDelegateIds =
           delegates.stream()
               .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
+                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                      && canAssignIndexedTask(delegate.getUuid(), task, match))
               .map(Delegate::getUuid)
               .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
@@ -953,6 +961,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     task.setNonAssignableDelegates(new HashMap<>());
     try {
       List<Delegate> accountDelegates = fetchActiveDelegates(task.getAccountId());
+      DelegateEligibilityIndex.Match match =
+          matchIndexedDelegates(task, accountDelegates, task.getTaskDataV2().getTaskType());
       boolean isTaskNg = task.isNGTask(task.getSetupAbstractions());
       accountDelegates = accountDelegates.stream().filter(delegate -> delegate.isNg() == isTaskNg).collect(toList());
       if (isEmpty(accountDelegates)) {
@@ -971,7 +981,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
                                     -> delegate.getStatus() != DelegateInstanceStatus.DELETED
-                                        && canAssignTaskV2(delegate.getUuid(), task))
+                                        && canAssignIndexedTaskV2(delegate.getUuid(), task, match))
                                 .map(Delegate::getUuid)
                                 .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
@@ -1105,6 +1115,49 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return true;
   }
 
+  /**
+   * Matches the delegates of the account against the task type of the task, through the eligibility index of the
+   * account brought up to date with the active delegates.
+   */
+  private DelegateEligibilityIndex.Match matchIndexedDelegates(
+      DelegateTask task, List<Delegate> activeDelegates, String taskType) {
+    String accountId = task.getAccountId();
+    DelegateEligibilityIndex index = eligibilityIndexes.getIfPresent(accountId);
+    Function<String, Delegate> delegateLoader = delegateId -> delegateCache.get(accountId, delegateId, false);
+    DelegateEligibilityIndex refreshedIndex = (index == null ? DelegateEligibilityIndex.EMPTY : index)
+                                                  .refresh(activeDelegates, delegateLoader, currentTimeMillis());
+    if (refreshedIndex != index) {
+      eligibilityIndexes.put(accountId, refreshedIndex);
+    }
+    return refreshedIndex.match(taskType);
+  }
+
+  // Only the delegates still indexed as not supporting the task type are refused, the others are checked one by one
+  private boolean canAssignIndexedTask(String delegateId, DelegateTask task, DelegateEligibilityIndex.Match match) {
+    Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
+    if (match.refusesTaskType(delegateId, delegate)) {
+      addTaskTypeNotSupported(task, task.getData().getTaskType(), delegate);
+      return false;
+    }
+    return canAssignTask(delegateId, task);
+  }
+
+  private boolean canAssignIndexedTaskV2(String delegateId, DelegateTask task, DelegateEligibilityIndex.Match match) {
+    Delegate delegate = delegateCache.get(task.getAccountId(), delegateId, false);
+    if (match.refusesTaskType(delegateId, delegate)) {
+      addTaskTypeNotSupported(task, task.getTaskDataV2().getTaskType(), delegate);
+      return false;
+    }
+    return canAssignTaskV2(delegateId, task);
+  }
+
+  private void addTaskTypeNotSupported(DelegateTask task, String taskType, Delegate delegate) {
+    String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
+    final String taskNotAssignedReasonPhrase = CAN_NOT_ASSIGN_TASK_GROUP + " {" + taskType + "} ";
+    task.getNonAssignableDelegates().putIfAbsent(taskNotAssignedReasonPhrase, new ArrayList<>());
+    task.getNonAssignableDelegates().get(taskNotAssignedReasonPhrase).add(delegateName);
+  }
+
   @Override
   public List<Delegate> fetchActiveDelegates(String accountId) {
     List<Delegate> accountDelegates = getAccountDelegates(accountId);
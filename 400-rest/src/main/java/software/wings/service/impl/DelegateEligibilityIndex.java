@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Index of the delegates of an account by the task types they support.
+ *
+ * Every delegate has a slot, and every task type the set of slots of the delegates supporting it, so the delegates not
+ * supporting the type of a task come from a single bitset lookup. The index is only a pre-filter: a delegate is refused
+ * from it only if the delegate cache still returns the instance that was indexed, every other check, selectors
+ * included, is done on the current delegate. The index is brought up to date with the active delegates at most every
+ * VALIDATION_INTERVAL_MILLIS, the delegates it does not know in between are checked one by one.
+ */
+@OwnedBy(HarnessTeam.DEL)
+class DelegateEligibilityIndex {
+  static final long VALIDATION_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private static final BitSet NONE = new BitSet();
+  static final DelegateEligibilityIndex EMPTY = new DelegateEligibilityIndex(Collections.emptyMap(), 0);
+
+  private final Map<String, Delegate> delegates;
+  private final Map<String, Integer> slots = new HashMap<>();
+  private final Map<String, BitSet> taskTypeSlots = new HashMap<>();
+  private volatile long validatedAt;
+
+  private DelegateEligibilityIndex(Map<String, Delegate> delegates, long validatedAt) {
+    this.delegates = delegates;
+    this.validatedAt = validatedAt;
+    int slot = 0;
+    for (Map.Entry<String, Delegate> entry : delegates.entrySet()) {
+      slots.put(entry.getKey(), slot);
+      List<String> supportedTaskTypes = entry.getValue().getSupportedTaskTypes();
+      if (supportedTaskTypes != null) {
+        for (String taskType : supportedTaskTypes) {
+          taskTypeSlots.computeIfAbsent(taskType, key -> new BitSet()).set(slot);
+        }
+      }
+      slot++;
+    }
+  }
+
+  /**
+   * Returns an index of the given delegates once VALIDATION_INTERVAL_MILLIS passed since the last refresh, this index
+   * otherwise. Only the delegates for which the delegate cache returns another instance are indexed again.
+   */
+  DelegateEligibilityIndex refresh(
+      List<Delegate> activeDelegates, Function<String, Delegate> delegateLoader, long now) {
+    if (now - validatedAt < VALIDATION_INTERVAL_MILLIS) {
+      return this;
+    }
+    boolean changed = false;
+    Set<String> listed = new HashSet<>();
+    Map<String, Delegate> refreshedDelegates = new HashMap<>();
+    for (Delegate activeDelegate : activeDelegates) {
+      String delegateId = activeDelegate.getUuid();
+      listed.add(delegateId);
+      Delegate delegate = delegateLoader.apply(delegateId);
+      if (delegate != null) {
+        refreshedDelegates.put(delegateId, delegate);
+      }
+      changed = changed || delegate != delegates.get(delegateId);
+    }
+    if (!changed && listed.containsAll(delegates.keySet())) {
+      validatedAt = now;
+      return this;
+    }
+    return new DelegateEligibilityIndex(refreshedDelegates, now);
+  }
+
+  Match match(String taskType) {
+    return new Match(taskType == null ? NONE : taskTypeSlots.getOrDefault(taskType, NONE));
+  }
+
+  int size() {
+    return delegates.size();
+  }
+
+  class Match {
+    private final BitSet supporting;
+
+    private Match(BitSet supporting) {
+      this.supporting = supporting;
+    }
+
+    /**
+     * Whether the delegate does not support the task type, as long as the given current instance is the indexed one.
+     */
+    boolean refusesTaskType(String delegateId, Delegate currentDelegate) {
+      Integer slot = slots.get(delegateId);
+      return slot != null && currentDelegate != null && delegates.get(delegateId) == currentDelegate
+          && !supporting.get(slot);
+    }
+  }
+}
@@ -15,6 +15,7 @@ import io.harness.annotations.dev.TargetModule;
 import io.harness.beans.DelegateTask;
 import io.harness.ff.FeatureFlagService;
 import io.harness.persistence.HPersistence;
+import io.harness.taskdispatch.TaskDispatchStreams;
 
 import software.wings.beans.DelegateTaskBroadcast;
 import software.wings.service.intfc.AssignDelegateService;
@@ -37,6 +38,7 @@ public class DelegateTaskBroadcastHelper {
   @Inject private HPersistence persistence;
   @Inject private ExecutorService executorService;
   @Inject private FeatureFlagService featureFlagService;
+  @Inject private TaskDispatchStreams taskDispatchStreams;
 
   public void broadcastNewDelegateTaskAsync(DelegateTask task) {
     executorService.submit(() -> {
@@ -74,6 +76,7 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    taskDispatchStreams.wakeUp(delegateTask.getAccountId());
   }
 
   public void rebroadcastDelegateTaskV2(DelegateTask delegateTask) {
@@ -92,5 +95,6 @@ public class DelegateTaskBroadcastHelper {
 
     Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
     broadcaster.broadcast(delegateTaskBroadcast);
+    taskDispatchStreams.wakeUp(delegateTask.getAccountId());
   }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static software.wings.service.impl.DelegateEligibilityIndex.VALIDATION_INTERVAL_MILLIS;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.rule.Owner;
+
+import software.wings.beans.TaskType;
+
+import com.google.common.collect.ImmutableList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  private final Map<String, Delegate> delegates = new HashMap<>();
+
+  private void addDelegate(String delegateId, List<String> taskTypes) {
+    delegates.put(delegateId, Delegate.builder().uuid(delegateId).supportedTaskTypes(taskTypes).build());
+  }
+
+  private DelegateEligibilityIndex refresh(DelegateEligibilityIndex index, long now) {
+    return index.refresh(ImmutableList.copyOf(delegates.values()), delegates::get, now);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRefusesOnlyIndexedDelegatesNotSupportingTheTaskType() {
+    addDelegate("d1", ImmutableList.of(TaskType.HTTP.name()));
+    addDelegate("d2", ImmutableList.of(TaskType.HTTP.name(), TaskType.SCRIPT.name()));
+    addDelegate("d3", ImmutableList.of(TaskType.SCRIPT.name()));
+    DelegateEligibilityIndex index = refresh(DelegateEligibilityIndex.EMPTY, VALIDATION_INTERVAL_MILLIS);
+
+    DelegateEligibilityIndex.Match match = index.match(TaskType.HTTP.name());
+    assertThat(match.refusesTaskType("d1", delegates.get("d1"))).isFalse();
+    assertThat(match.refusesTaskType("d2", delegates.get("d2"))).isFalse();
+    assertThat(match.refusesTaskType("d3", delegates.get("d3"))).isTrue();
+
+    // Unknown delegates are left to the full check
+    Delegate unknown = Delegate.builder().uuid("d4").build();
+    assertThat(match.refusesTaskType("d4", unknown)).isFalse();
+    assertThat(match.refusesTaskType("d3", null)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStaleRowsAreNotUsedToRefuse() {
+    addDelegate("d1", ImmutableList.of(TaskType.SCRIPT.name()));
+    DelegateEligibilityIndex index = refresh(DelegateEligibilityIndex.EMPTY, VALIDATION_INTERVAL_MILLIS);
+    assertThat(index.match(TaskType.HTTP.name()).refusesTaskType("d1", delegates.get("d1"))).isTrue();
+
+    // The delegate cache returns another instance before the index is validated again
+    addDelegate("d1", ImmutableList.of(TaskType.HTTP.name()));
+    DelegateEligibilityIndex.Match match = refresh(index, VALIDATION_INTERVAL_MILLIS + 1).match(TaskType.HTTP.name());
+    assertThat(match.refusesTaskType("d1", delegates.get("d1"))).isFalse();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRefreshOnlyOncePerValidationInterval() {
+    addDelegate("d1", ImmutableList.of(TaskType.HTTP.name()));
+    DelegateEligibilityIndex index = refresh(DelegateEligibilityIndex.EMPTY, VALIDATION_INTERVAL_MILLIS);
+
+    // Nothing is reindexed before the interval elapses, new delegates are checked one by one meanwhile
+    addDelegate("d2", ImmutableList.of(TaskType.SCRIPT.name()));
+    assertThat(refresh(index, VALIDATION_INTERVAL_MILLIS + 1)).isSameAs(index);
+    assertThat(index.size()).isEqualTo(1);
+
+    DelegateEligibilityIndex refreshed = refresh(index, 2 * VALIDATION_INTERVAL_MILLIS);
+    assertThat(refreshed).isNotSameAs(index);
+    assertThat(refreshed.size()).isEqualTo(2);
+    assertThat(refreshed.match(TaskType.HTTP.name()).refusesTaskType("d2", delegates.get("d2"))).isTrue();
+
+    // Unchanged delegates keep the index, delegates not listed anymore are dropped
+    assertThat(refresh(refreshed, 3 * VALIDATION_INTERVAL_MILLIS)).isSameAs(refreshed);
+    delegates.remove("d2");
+    assertThat(refresh(refreshed, 4 * VALIDATION_INTERVAL_MILLIS).size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.taskdispatch;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.grpc.auth.DelegateAuthServerInterceptor;
+import io.harness.serializer.KryoSerializer;
+import io.harness.taskdispatch.TaskDispatchServiceGrpc.TaskDispatchServiceImplBase;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.ExecutorService;
+import lombok.extern.slf4j.Slf4j;
+
+@OwnedBy(DEL)
+@Singleton
+@Slf4j
+public class TaskDispatchServiceGrpcImpl extends TaskDispatchServiceImplBase {
+  @Inject private DelegateTaskServiceClassic delegateTaskServiceClassic;
+  @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
+  @Inject private ExecutorService executorService;
+  @Inject private TaskDispatchStreams taskDispatchStreams;
+
+  @Override
+  public StreamObserver<DispatchRequest> dispatch(StreamObserver<DispatchResponse> responseObserver) {
+    String accountId = DelegateAuthServerInterceptor.ACCOUNT_ID_CTX_KEY.get();
+    if (accountId == null) {
+      responseObserver.onError(Status.UNAUTHENTICATED.withDescription("Account id missing").asRuntimeException());
+      return new StreamObserver<DispatchRequest>() {
+        @Override
+        public void onNext(DispatchRequest request) {}
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {}
+      };
+    }
+    return new TaskDispatchStream(accountId, responseObserver, delegateTaskServiceClassic,
+        referenceFalseKryoSerializer, executorService, taskDispatchStreams);
+  }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.taskdispatch;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.DelegateTaskAbortEvent;
+import io.harness.delegate.beans.DelegateTaskEvent;
+import io.harness.delegate.beans.DelegateTaskPackage;
+import io.harness.delegate.task.DelegateLogContext;
+import io.harness.delegate.task.tasklogging.TaskLogContext;
+import io.harness.logging.AutoLogContext;
+import io.harness.serializer.KryoSerializer;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The task dispatch stream of a delegate instance.
+ *
+ * Every task event pushed takes one of the credits the delegate granted, the events left over are pushed once the
+ * delegate grants more. A task event is pushed once for PUSHED_EVENT_TTL, after which it is pushed again if the task is
+ * still queued for the delegate.
+ */
+@OwnedBy(DEL)
+@Slf4j
+class TaskDispatchStream implements StreamObserver<DispatchRequest> {
+  static final Duration PUSHED_EVENT_TTL = Duration.ofMinutes(1);
+
+  private final String accountId;
+  private final StreamObserver<DispatchResponse> responseObserver;
+  private final DelegateTaskServiceClassic delegateTaskServiceClassic;
+  private final KryoSerializer kryoSerializer;
+  private final Executor executor;
+  private final TaskDispatchStreams streams;
+
+  private final AtomicInteger credits = new AtomicInteger();
+  private final AtomicBoolean dispatchPending = new AtomicBoolean();
+  private final Cache<String, Boolean> pushedEvents =
+      CacheBuilder.newBuilder().expireAfterWrite(PUSHED_EVENT_TTL).build();
+  private volatile String delegateId;
+  private volatile String delegateInstanceId;
+  private volatile boolean closed;
+
+  TaskDispatchStream(String accountId, StreamObserver<DispatchResponse> responseObserver,
+      DelegateTaskServiceClassic delegateTaskServiceClassic, KryoSerializer kryoSerializer, Executor executor,
+      TaskDispatchStreams streams) {
+    this.accountId = accountId;
+    this.responseObserver = responseObserver;
+    this.delegateTaskServiceClassic = delegateTaskServiceClassic;
+    this.kryoSerializer = kryoSerializer;
+    this.executor = executor;
+    this.streams = streams;
+  }
+
+  @Override
+  public void onNext(DispatchRequest request) {
+    switch (request.getRequestCase()) {
+      case SUBSCRIBE:
+        Subscribe subscribe = request.getSubscribe();
+        delegateId = subscribe.getDelegateId().getId();
+        delegateInstanceId = subscribe.getDelegateInstanceId();
+        credits.set(subscribe.getCredits());
+        pushedEvents.invalidateAll();
+        streams.register(accountId, this);
+        log.info("Delegate {} subscribed to task dispatch with {} credits", delegateId, subscribe.getCredits());
+        send(DispatchResponse.newBuilder().setSubscribed(Subscribed.newBuilder().build()).build());
+        wakeUp();
+        break;
+      case GRANT_CREDITS:
+        credits.addAndGet(request.getGrantCredits().getCredits());
+        wakeUp();
+        break;
+      case ACQUIRE_TASKS:
+        if (delegateId != null) {
+          List<String> taskIds = new ArrayList<>(request.getAcquireTasks().getTaskIdsList());
+          executor.execute(() -> acquire(taskIds));
+        }
+        break;
+      default:
+        log.warn("Unknown task dispatch request {}", request.getRequestCase());
+    }
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    log.info("Task dispatch stream of delegate {} failed", delegateId, t);
+    close();
+  }
+
+  @Override
+  public void onCompleted() {
+    close();
+    synchronized (responseObserver) {
+      responseObserver.onCompleted();
+    }
+  }
+
+  /**
+   * Schedules a lookup of the task events of the delegate, unless one is already scheduled.
+   */
+  void wakeUp() {
+    if (delegateId == null || closed || dispatchPending.getAndSet(true)) {
+      return;
+    }
+    executor.execute(this::dispatch);
+  }
+
+  int getCredits() {
+    return credits.get();
+  }
+
+  private void dispatch() {
+    // The wake ups from now on schedule another lookup
+    dispatchPending.set(false);
+    if (closed) {
+      return;
+    }
+    try (AutoLogContext ignore = new DelegateLogContext(accountId, delegateId, delegateInstanceId, OVERRIDE_ERROR)) {
+      List<DelegateTaskEvent> delegateTaskEvents =
+          delegateTaskServiceClassic.getDelegateTaskEvents(accountId, delegateId, false);
+      TaskEvents.Builder taskEvents = TaskEvents.newBuilder();
+      for (DelegateTaskEvent delegateTaskEvent : delegateTaskEvents) {
+        boolean abort = delegateTaskEvent instanceof DelegateTaskAbortEvent;
+        String eventKey = (abort ? "abort:" : "") + delegateTaskEvent.getDelegateTaskId();
+        if (pushedEvents.getIfPresent(eventKey) != null || (!abort && !takeCredit())) {
+          continue;
+        }
+        if (pushedEvents.asMap().putIfAbsent(eventKey, Boolean.TRUE) != null) {
+          // Pushed by a concurrent lookup
+          if (!abort) {
+            credits.incrementAndGet();
+          }
+          continue;
+        }
+        TaskEvent.Builder taskEvent =
+            TaskEvent.newBuilder().setTaskId(delegateTaskEvent.getDelegateTaskId()).setSync(delegateTaskEvent.isSync());
+        if (delegateTaskEvent.getTaskType() != null) {
+          taskEvent.setTaskType(delegateTaskEvent.getTaskType());
+        }
+        taskEvents.addTaskEvents(taskEvent.setAbort(abort));
+      }
+      if (taskEvents.getTaskEventsCount() > 0) {
+        send(DispatchResponse.newBuilder().setTaskEvents(taskEvents).build());
+      }
+    } catch (Exception e) {
+      log.error("Failed to dispatch the task events of delegate {}", delegateId, e);
+    }
+  }
+
+  private boolean takeCredit() {
+    while (true) {
+      int available = credits.get();
+      if (available <= 0) {
+        return false;
+      }
+      if (credits.compareAndSet(available, available - 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void acquire(List<String> taskIds) {
+    AcquiredTasks.Builder acquiredTasks = AcquiredTasks.newBuilder();
+    for (String taskId : taskIds) {
+      AcquiredTask.Builder acquiredTask = AcquiredTask.newBuilder().setTaskId(taskId);
+      try (AutoLogContext ignore1 = new TaskLogContext(taskId, OVERRIDE_ERROR);
+           AutoLogContext ignore2 = new DelegateLogContext(accountId, delegateId, delegateInstanceId, OVERRIDE_ERROR)) {
+        DelegateTaskPackage delegateTaskPackage =
+            delegateTaskServiceClassic.acquireDelegateTask(accountId, delegateId, taskId, delegateInstanceId);
+        acquiredTask.setTaskPackage(ByteString.copyFrom(kryoSerializer.asBytes(delegateTaskPackage)));
+      } catch (Exception e) {
+        log.error("Failed to acquire task {} for delegate {}", taskId, delegateId, e);
+        acquiredTask.setErrorMessage(String.valueOf(e.getMessage()));
+      }
+      acquiredTasks.addAcquiredTasks(acquiredTask);
+    }
+    send(DispatchResponse.newBuilder().setAcquiredTasks(acquiredTasks).build());
+  }
+
+  private void send(DispatchResponse response) {
+    if (closed) {
+      return;
+    }
+    try {
+      synchronized (responseObserver) {
+        responseObserver.onNext(response);
+      }
+    } catch (Exception e) {
+      log.warn("Failed to write to the task dispatch stream of delegate {}", delegateId, e);
+      close();
+    }
+  }
+
+  private void close() {
+    closed = true;
+    streams.unregister(accountId, this);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.taskdispatch;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The task dispatch streams of the delegates connected to this manager, by account.
+ *
+ * The streams of an account are woken up as soon as a task of the account is broadcast from this manager. The tasks
+ * broadcast from other managers reach them on the next sweep, every SWEEP_INTERVAL, or through the task polling the
+ * delegates keep up alongside their stream, whichever comes first.
+ */
+@OwnedBy(DEL)
+@Singleton
+@Slf4j
+public class TaskDispatchStreams {
+  static final Duration SWEEP_INTERVAL = Duration.ofSeconds(5);
+
+  private final Map<String, Set<TaskDispatchStream>> streams = new ConcurrentHashMap<>();
+  private final AtomicBoolean sweeping = new AtomicBoolean();
+  private ScheduledExecutorService sweeper;
+
+  void register(String accountId, TaskDispatchStream stream) {
+    streams.computeIfAbsent(accountId, key -> ConcurrentHashMap.newKeySet()).add(stream);
+    if (sweeping.compareAndSet(false, true)) {
+      sweeper = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("task-dispatch-sweeper").setDaemon(true).build());
+      sweeper.scheduleWithFixedDelay(
+          this::sweep, SWEEP_INTERVAL.toMillis(), SWEEP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  void unregister(String accountId, TaskDispatchStream stream) {
+    streams.computeIfPresent(accountId, (key, accountStreams) -> {
+      accountStreams.remove(stream);
+      return accountStreams.isEmpty() ? null : accountStreams;
+    });
+  }
+
+  /**
+   * Lets the delegates of the account connected to this manager know about their new task events.
+   */
+  public void wakeUp(String accountId) {
+    Set<TaskDispatchStream> accountStreams = streams.get(accountId);
+    if (accountStreams != null) {
+      accountStreams.forEach(TaskDispatchStream::wakeUp);
+    }
+  }
+
+  int size() {
+    return streams.values().stream().mapToInt(Set::size).sum();
+  }
+
+  private void sweep() {
+    try {
+      streams.values().forEach(accountStreams -> accountStreams.forEach(TaskDispatchStream::wakeUp));
+    } catch (Exception e) {
+      log.error("Failed to sweep the task dispatch streams", e);
+    }
+  }
+}
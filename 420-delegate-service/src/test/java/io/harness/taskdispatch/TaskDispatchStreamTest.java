@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.taskdispatch;
+
+import static io.harness.delegate.beans.DelegateTaskAbortEvent.Builder.aDelegateTaskAbortEvent;
+import static io.harness.delegate.beans.DelegateTaskEvent.DelegateTaskEventBuilder.aDelegateTaskEvent;
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.DelegateId;
+import io.harness.delegate.beans.DelegateTaskPackage;
+import io.harness.rule.Owner;
+import io.harness.serializer.KryoSerializer;
+
+import software.wings.service.intfc.DelegateTaskServiceClassic;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class TaskDispatchStreamTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "accountId";
+  private static final String DELEGATE_ID = "delegateId";
+
+  private final DelegateTaskServiceClassic delegateTaskServiceClassic = mock(DelegateTaskServiceClassic.class);
+  private final KryoSerializer kryoSerializer = mock(KryoSerializer.class);
+  @SuppressWarnings("unchecked")
+  private final StreamObserver<DispatchResponse> responseObserver = mock(StreamObserver.class);
+  private final TaskDispatchStreams streams = new TaskDispatchStreams();
+  private TaskDispatchStream stream;
+
+  @Before
+  public void setUp() {
+    stream = new TaskDispatchStream(
+        ACCOUNT_ID, responseObserver, delegateTaskServiceClassic, kryoSerializer, Runnable::run, streams);
+    when(delegateTaskServiceClassic.getDelegateTaskEvents(ACCOUNT_ID, DELEGATE_ID, false))
+        .thenReturn(ImmutableList.of(aDelegateTaskEvent().withDelegateTaskId("task1").withTaskType("HTTP").build(),
+            aDelegateTaskEvent().withDelegateTaskId("task2").withTaskType("HTTP").build(),
+            aDelegateTaskAbortEvent().withDelegateTaskId("task3").build()));
+  }
+
+  private void subscribe(int credits) {
+    stream.onNext(DispatchRequest.newBuilder()
+                      .setSubscribe(Subscribe.newBuilder()
+                                        .setDelegateId(DelegateId.newBuilder().setId(DELEGATE_ID))
+                                        .setDelegateInstanceId("instanceId")
+                                        .setCredits(credits))
+                      .build());
+  }
+
+  private List<DispatchResponse> responses(int count) {
+    ArgumentCaptor<DispatchResponse> captor = ArgumentCaptor.forClass(DispatchResponse.class);
+    verify(responseObserver, times(count)).onNext(captor.capture());
+    return captor.getAllValues();
+  }
+
+  private static List<String> taskIds(DispatchResponse response) {
+    return response.getTaskEvents().getTaskEventsList().stream().map(TaskEvent::getTaskId).collect(Collectors.toList());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testTaskEventsArePushedWithinCredits() {
+    subscribe(1);
+
+    List<DispatchResponse> responses = responses(2);
+    assertThat(responses.get(0).hasSubscribed()).isTrue();
+    // Aborts do not take credits
+    assertThat(taskIds(responses.get(1))).containsExactly("task1", "task3");
+    assertThat(responses.get(1).getTaskEvents().getTaskEvents(1).getAbort()).isTrue();
+    assertThat(stream.getCredits()).isEqualTo(0);
+    assertThat(streams.size()).isEqualTo(1);
+
+    // Events already pushed are not pushed again
+    stream.onNext(DispatchRequest.newBuilder().setGrantCredits(GrantCredits.newBuilder().setCredits(5)).build());
+    responses = responses(3);
+    assertThat(taskIds(responses.get(2))).containsExactly("task2");
+    assertThat(stream.getCredits()).isEqualTo(4);
+
+    streams.wakeUp(ACCOUNT_ID);
+    responses(3);
+
+    stream.onCompleted();
+    assertThat(streams.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testTasksAreAcquiredTogether() {
+    subscribe(0);
+    DelegateTaskPackage delegateTaskPackage = DelegateTaskPackage.builder().delegateTaskId("task1").build();
+    when(delegateTaskServiceClassic.acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, "task1", "instanceId"))
+        .thenReturn(delegateTaskPackage);
+    when(delegateTaskServiceClassic.acquireDelegateTask(ACCOUNT_ID, DELEGATE_ID, "task2", "instanceId"))
+        .thenThrow(new IllegalStateException("failed"));
+    when(kryoSerializer.asBytes(any())).thenReturn(new byte[] {1, 2});
+
+    stream.onNext(DispatchRequest.newBuilder()
+                      .setAcquireTasks(AcquireTasks.newBuilder().addTaskIds("task1").addTaskIds("task2"))
+                      .build());
+
+    List<DispatchResponse> responses = responses(3);
+    AcquiredTasks acquiredTasks = responses.get(2).getAcquiredTasks();
+    assertThat(acquiredTasks.getAcquiredTasksCount()).isEqualTo(2);
+    assertThat(acquiredTasks.getAcquiredTasks(0).getTaskPackage().toByteArray()).containsExactly(1, 2);
+    assertThat(acquiredTasks.getAcquiredTasks(1).getErrorMessage()).isEqualTo("failed");
+  }
+}
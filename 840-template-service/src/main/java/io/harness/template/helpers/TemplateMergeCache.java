@@ -0,0 +1,76 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.inject.Singleton;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Service wide cache of the yamls computed from template yamls, such as the template inputs of a template or a template
+ * spec merged with the template inputs given in a pipeline. Entries are keyed by a hash of the yamls they are computed
+ * from rather than by template identifier and version, so an updated template, inline or remote, never reads the
+ * entries of its previous yaml, which are evicted once unused.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Singleton
+public class TemplateMergeCache {
+  public static final String TEMPLATE_INPUTS = "templateInputs";
+  public static final String TEMPLATE_SPEC = "templateSpec";
+  public static final String MERGED_TEMPLATE_SPEC = "mergedTemplateSpec";
+  private static final long MAX_WEIGHT_CHARS = 32L * 1024 * 1024;
+
+  private final Cache<String, String> yamls = CacheBuilder.newBuilder()
+                                                  .maximumWeight(MAX_WEIGHT_CHARS)
+                                                  .weigher(new Weigher<String, String>() {
+                                                    @Override
+                                                    public int weigh(String key, String value) {
+                                                      return key.length() + value.length();
+                                                    }
+                                                  })
+                                                  .expireAfterAccess(1, TimeUnit.HOURS)
+                                                  .build();
+
+  /**
+   * Returns the yaml of the given type computed from sources, computing it with loader if it is not cached. Exceptions
+   * of the loader are thrown as they are, and null values are not cached.
+   */
+  public String get(String type, Supplier<String> loader, String... sources) {
+    String key = computeKey(type, sources);
+    String value = yamls.getIfPresent(key);
+    if (value != null) {
+      return value;
+    }
+    value = loader.get();
+    if (value != null) {
+      yamls.put(key, value);
+    }
+    return value;
+  }
+
+  private static String computeKey(String type, String... sources) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    for (String source : sources) {
+      // The length keeps ("ab", "c") and ("a", "bc") apart
+      hasher.putInt(source == null ? -1 : source.length());
+      if (source != null) {
+        hasher.putString(source, StandardCharsets.UTF_8);
+      }
+    }
+    return type + "/" + hasher.hash();
+  }
+}
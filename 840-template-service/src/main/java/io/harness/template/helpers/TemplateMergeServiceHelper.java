@@ -90,6 +90,7 @@ public class TemplateMergeServiceHelper {
   private NGTemplateServiceHelper templateServiceHelper;
   private GitAwareEntityHelper gitAwareEntityHelper;
   private TemplateGitXService templateGitXService;
+  private TemplateMergeCache templateMergeCache;
 
   // Gets the Template Entity linked to a YAML
   public TemplateEntityGetResponse getLinkedTemplateEntity(String accountId, String orgId, String projectId,
@@ -194,6 +195,11 @@ public class TemplateMergeServiceHelper {
    * @return template inputs yaml
    */
   public String createTemplateInputsFromTemplate(String yaml) {
+    return templateMergeCache.get(
+        TemplateMergeCache.TEMPLATE_INPUTS, () -> createTemplateInputsFromTemplateInternal(yaml), yaml);
+  }
+
+  private String createTemplateInputsFromTemplateInternal(String yaml) {
     try {
       if (isEmpty(yaml)) {
         throw new NGTemplateException("Template yaml to create template inputs cannot be empty");
@@ -585,6 +591,14 @@ public class TemplateMergeServiceHelper {
     TemplateEntity templateEntity = templateEntityGetResponse.getTemplateEntity();
     String templateYaml = templateEntity.getYaml();
 
+    String dummyTemplateSpecYaml = templateMergeCache.get(
+        TemplateMergeCache.TEMPLATE_SPEC, () -> getDummyTemplateSpecYaml(templateYaml), templateYaml);
+    return mergeTemplateInputsToTemplateSpecInTemplateYaml(
+        templateInputs, dummyTemplateSpecYaml, appendInputSetValidator);
+  }
+
+  // Wraps template.spec of the template yaml in a dummy node, as expected by the merge
+  private String getDummyTemplateSpecYaml(String templateYaml) {
     JsonNode templateSpec;
     try {
       NGTemplateConfig templateConfig = TemplateYamlUtils.read(templateYaml, NGTemplateConfig.class);
@@ -594,31 +608,32 @@ public class TemplateMergeServiceHelper {
       throw new NGTemplateException("Could not read template yaml: " + e.getMessage());
     }
 
-    return mergeTemplateInputsToTemplateSpecInTemplateYaml(templateInputs, templateSpec, appendInputSetValidator);
+    Map<String, JsonNode> dummyTemplateSpecMap = new LinkedHashMap<>();
+    dummyTemplateSpecMap.put(DUMMY_NODE, templateSpec);
+    return TemplateYamlUtils.writeYamlString(dummyTemplateSpecMap);
   }
 
   /**
    * This method merges template inputs provided in pipeline yaml to template spec in template yaml.
    * @param templateInputs - template runtime info provided in pipeline yaml
-   * @param templateSpec - template spec present in template yaml
+   * @param dummyTemplateSpecYaml - template spec present in template yaml, under a dummy node
    * @param appendInputSetValidator
    * @return jsonNode of merged yaml
    */
   private JsonNode mergeTemplateInputsToTemplateSpecInTemplateYaml(
-      JsonNode templateInputs, JsonNode templateSpec, boolean appendInputSetValidator) {
-    Map<String, JsonNode> dummyTemplateSpecMap = new LinkedHashMap<>();
-    dummyTemplateSpecMap.put(DUMMY_NODE, templateSpec);
-    String dummyTemplateSpecYaml = TemplateYamlUtils.writeYamlString(dummyTemplateSpecMap);
-
+      JsonNode templateInputs, String dummyTemplateSpecYaml, boolean appendInputSetValidator) {
     String mergedYaml = dummyTemplateSpecYaml;
-    String dummyTemplateInputsYaml = "";
     if (templateInputs != null) {
       Map<String, JsonNode> dummyTemplateInputsMap = new LinkedHashMap<>();
       dummyTemplateInputsMap.put(DUMMY_NODE, templateInputs);
-      dummyTemplateInputsYaml = TemplateYamlUtils.writeYamlString(dummyTemplateInputsMap);
-
-      mergedYaml = MergeHelper.mergeRuntimeInputValuesAndCheckForRuntimeInOriginalYaml(
-          dummyTemplateSpecYaml, dummyTemplateInputsYaml, appendInputSetValidator, true);
+      String dummyTemplateInputsYaml = TemplateYamlUtils.writeYamlString(dummyTemplateInputsMap);
+
+      // The pipelines using a template mostly give it the same inputs, on every execution
+      mergedYaml = templateMergeCache.get(TemplateMergeCache.MERGED_TEMPLATE_SPEC,
+          ()
+              -> MergeHelper.mergeRuntimeInputValuesAndCheckForRuntimeInOriginalYaml(
+                  dummyTemplateSpecYaml, dummyTemplateInputsYaml, appendInputSetValidator, true),
+          dummyTemplateSpecYaml, dummyTemplateInputsYaml, String.valueOf(appendInputSetValidator));
     }
 
     try {
@@ -69,6 +69,7 @@ public class TemplateInputsValidatorTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IOException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("templateMergeCache", new TemplateMergeCache());
     on(inputsValidator).set("templateMergeServiceHelper", templateMergeServiceHelper);
     on(inputsValidator).set("ngManagerReconcileClient", ngManagerReconcileClient);
     on(templateInputsValidator).set("inputsValidator", inputsValidator);
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.template.helpers;
+
+import static io.harness.rule.OwnerRule.INDER;
+import static io.harness.template.helpers.TemplateMergeCache.MERGED_TEMPLATE_SPEC;
+import static io.harness.template.helpers.TemplateMergeCache.TEMPLATE_INPUTS;
+import static io.harness.template.helpers.TemplateMergeCache.TEMPLATE_SPEC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.ngexception.NGTemplateException;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.CDC)
+public class TemplateMergeCacheTest extends CategoryTest {
+  private final TemplateMergeCache templateMergeCache = new TemplateMergeCache();
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testGetComputesOncePerSources() {
+    AtomicInteger loads = new AtomicInteger();
+    assertThat(templateMergeCache.get(TEMPLATE_INPUTS, () -> "inputs" + loads.incrementAndGet(), "a"))
+        .isEqualTo("inputs1");
+    assertThat(templateMergeCache.get(TEMPLATE_INPUTS, () -> "inputs" + loads.incrementAndGet(), "a"))
+        .isEqualTo("inputs1");
+
+    // Another type, other sources or the same characters split differently are other entries
+    templateMergeCache.get(TEMPLATE_SPEC, () -> "spec" + loads.incrementAndGet(), "a");
+    templateMergeCache.get(TEMPLATE_INPUTS, () -> "inputs" + loads.incrementAndGet(), "b");
+    templateMergeCache.get(MERGED_TEMPLATE_SPEC, () -> "merged" + loads.incrementAndGet(), "ab", "c");
+    templateMergeCache.get(MERGED_TEMPLATE_SPEC, () -> "merged" + loads.incrementAndGet(), "a", "bc");
+    assertThat(loads.get()).isEqualTo(5);
+  }
+
+  @Test
+  @Owner(developers = INDER)
+  @Category(UnitTests.class)
+  public void testGetDoesNotCacheFailuresAndNulls() {
+    assertThatThrownBy(() -> templateMergeCache.get(TEMPLATE_INPUTS, () -> {
+      throw new NGTemplateException("Template yaml to create template inputs cannot be empty");
+    }, "")).isInstanceOf(NGTemplateException.class);
+    assertThat(templateMergeCache.get(TEMPLATE_INPUTS, () -> null, "")).isNull();
+    assertThat(templateMergeCache.get(TEMPLATE_INPUTS, () -> "inputs", "")).isEqualTo("inputs");
+  }
+}
@@ -93,6 +93,7 @@ public class TemplateMergeServiceHelperTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IOException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("templateMergeCache", new TemplateMergeCache());
     on(templateMergeServiceHelper).set("gitAwareEntityHelper", gitAwareEntityHelper);
 
     yamlNode = TemplateUtils.validateAndGetYamlNode(SAMPLE_YAML);
@@ -32,6 +32,7 @@ import io.harness.rule.Owner;
 import io.harness.rule.OwnerRule;
 import io.harness.template.entity.TemplateEntity;
 import io.harness.template.helpers.TemplateInputsRefreshHelper;
+import io.harness.template.helpers.TemplateMergeCache;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 
 import com.google.common.io.Resources;
@@ -68,6 +69,7 @@ public class TemplateInputsRefreshHelperTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException, IOException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("templateMergeCache", new TemplateMergeCache());
     on(templateInputsRefreshHelper).set("templateMergeServiceHelper", templateMergeServiceHelper);
     on(templateInputsRefreshHelper).set("ngManagerReconcileClient", ngManagerReconcileClient);
 
@@ -34,6 +34,7 @@ import io.harness.ng.core.template.TemplateRetainVariablesResponse;
 import io.harness.ng.core.template.exception.NGTemplateResolveException;
 import io.harness.rule.Owner;
 import io.harness.template.entity.TemplateEntity;
+import io.harness.template.helpers.TemplateMergeCache;
 import io.harness.template.helpers.TemplateMergeServiceHelper;
 import io.harness.template.utils.NGTemplateFeatureFlagHelperService;
 
@@ -75,6 +76,7 @@ public class TemplateMergeServiceImplTest extends TemplateServiceTestBase {
   @Before
   public void setup() throws IllegalAccessException {
     on(templateMergeServiceHelper).set("templateServiceHelper", templateServiceHelper);
+    on(templateMergeServiceHelper).set("templateMergeCache", new TemplateMergeCache());
     on(templateMergeService).set("templateMergeServiceHelper", templateMergeServiceHelper);
     on(templateMergeService).set("ngTemplateFeatureFlagHelperService", ngTemplateFeatureFlagHelperService);
 
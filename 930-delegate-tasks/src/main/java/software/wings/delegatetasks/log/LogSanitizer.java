@@ -8,9 +8,6 @@
 package software.wings.delegatetasks;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.expression.SecretString.SECRET_MASK;
-
-import static org.apache.commons.lang3.StringUtils.replaceEach;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.HarnessTeam;
@@ -18,8 +15,8 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.logging.LogSanitizerHelper;
+import io.harness.logging.SecretMasker;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -53,22 +50,11 @@ public abstract class LogSanitizer {
 
   public abstract String sanitizeLog(String activityId, String message);
 
-  protected String sanitizeLogInternal(String message, Set<String> secrets) {
-    String sanitizedLogMessage = message;
-    if (isEmpty(sanitizedLogMessage)) {
-      return sanitizedLogMessage;
-    }
-
-    if (!secrets.isEmpty()) {
-      ArrayList<String> secretMasks = new ArrayList<>();
-      ArrayList<String> secretValues = new ArrayList<>();
-      for (String secret : secrets) {
-        secretMasks.add(SECRET_MASK);
-        secretValues.add(secret);
-      }
-      sanitizedLogMessage =
-          replaceEach(message, secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
+  protected String sanitizeLogInternal(String message, SecretMasker secretMasker) {
+    if (isEmpty(message)) {
+      return message;
     }
+    String sanitizedLogMessage = secretMasker.mask(message);
 
     // JWT sanitization
     sanitizedLogMessage = LogSanitizerHelper.sanitizeJWT(sanitizedLogMessage);
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.logging.LogLevel;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * The log lines of one log key waiting to be pushed. Lines are added without locking from any thread and drained in
+ * chunks by a single dispatcher. Once maxBufferedBytes of messages are buffered new lines are dropped, and the number
+ * of dropped lines is reported in a line of the next chunk.
+ */
+@OwnedBy(DEL)
+@Slf4j
+public class LogLineBuffer {
+  static final String DROPPED_LINES_MESSAGE = "%d log lines were dropped because they were produced faster than they "
+      + "could be uploaded";
+
+  private final long maxBufferedBytes;
+  private final Queue<LogLine> lines = new ConcurrentLinkedQueue<>();
+  private final AtomicLong bufferedBytes = new AtomicLong();
+  private final AtomicLong droppedLines = new AtomicLong();
+
+  public LogLineBuffer(long maxBufferedBytes) {
+    this.maxBufferedBytes = maxBufferedBytes;
+  }
+
+  /**
+   * Returns false when the line was dropped because the buffer is full.
+   */
+  public boolean offer(LogLine logLine) {
+    int size = sizeOf(logLine);
+    if (bufferedBytes.addAndGet(size) > maxBufferedBytes) {
+      bufferedBytes.addAndGet(-size);
+      droppedLines.incrementAndGet();
+      return false;
+    }
+    lines.add(logLine);
+    return true;
+  }
+
+  /**
+   * Removes the oldest lines, up to maxLines lines and maxBytes bytes of messages. A single line bigger than maxBytes
+   * makes a chunk of its own. Must not be called concurrently.
+   */
+  public List<LogLine> drainChunk(int maxLines, int maxBytes) {
+    List<LogLine> chunk = new ArrayList<>();
+    long dropped = droppedLines.getAndSet(0);
+    if (dropped > 0) {
+      log.warn("Dropped {} log lines as the log buffer was full", dropped);
+      chunk.add(LogLine.builder()
+                    .level(LogLevel.WARN)
+                    .message(String.format(DROPPED_LINES_MESSAGE, dropped))
+                    .timestamp(Instant.now())
+                    .build());
+    }
+
+    int chunkBytes = 0;
+    LogLine logLine;
+    while (chunk.size() < maxLines && (logLine = lines.peek()) != null) {
+      int size = sizeOf(logLine);
+      if (chunkBytes > 0 && chunkBytes + size > maxBytes) {
+        break;
+      }
+      lines.poll();
+      bufferedBytes.addAndGet(-size);
+      chunk.add(logLine);
+      chunkBytes += size;
+    }
+    return chunk;
+  }
+
+  public boolean isEmpty() {
+    return lines.isEmpty() && droppedLines.get() == 0;
+  }
+
+  private static int sizeOf(LogLine logLine) {
+    return StringUtils.length(logLine.getMessage());
+  }
+}
@@ -8,25 +8,22 @@
 package io.harness.logstreaming;
 
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
-import static io.harness.expression.SecretString.SECRET_MASK;
-
-import static org.apache.commons.lang3.StringUtils.replaceEach;
 
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.logging.LogSanitizerHelper;
+import io.harness.logging.SecretMasker;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.Builder;
 
-@Builder
 public class LogStreamingSanitizer {
-  private final Set<String> secrets;
+  private final SecretMasker secretMasker;
+
+  @Builder
   public LogStreamingSanitizer(Set<String> secrets) {
-    this.secrets = calculateSecretLines(secrets);
+    this.secretMasker = SecretMasker.compile(calculateSecretMasks(secrets));
   }
 
   public void sanitizeLogMessage(LogLine logLine) {
@@ -35,47 +32,29 @@ public class LogStreamingSanitizer {
       logLine.setMessage(sanitizedLogMessage);
       return;
     }
-    if (!isEmpty(secrets)) {
-      ArrayList<String> secretMasks = new ArrayList<>();
-      ArrayList<String> secretValues = new ArrayList<>();
-      for (String secret : secrets) {
-        secretMasks.add(SECRET_MASK);
-        secretValues.add(secret);
-
-        addSecretMasksWithQuotesRemoved(secret, secretMasks, secretValues);
-      }
-      sanitizedLogMessage = replaceEach(
-          logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
-    }
+    sanitizedLogMessage = secretMasker.mask(sanitizedLogMessage);
 
     // JWT mask
     sanitizedLogMessage = LogSanitizerHelper.sanitizeJWT(sanitizedLogMessage);
     logLine.setMessage(sanitizedLogMessage);
   }
 
-  private static Set<String> calculateSecretLines(Set<String> secrets) {
+  // The secret lines, and their variants without quotes
+  private static Set<String> calculateSecretMasks(Set<String> secrets) {
     if (isEmpty(secrets)) {
       return new HashSet<>();
     }
-    return secrets.stream()
+    Set<String> secretMasks = new HashSet<>();
+    secrets.stream()
         .flatMap(secret -> {
           String[] split = secret.split("\\r?\\n");
           return Arrays.stream(split).filter(EmptyPredicate::isNotEmpty);
         })
-        .collect(Collectors.toSet());
-  }
-
-  private void addSecretMasksWithQuotesRemoved(
-      String secret, ArrayList<String> secretMasks, ArrayList<String> secretValues) {
-    String secretWithDoubleQuoteRemoved = secret.replaceAll("\"", "");
-    if (!secretWithDoubleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secretWithDoubleQuoteRemoved);
-    }
-    String secretWithSingleQuoteRemoved = secret.replaceAll("\'", "");
-    if (!secretWithSingleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secretWithSingleQuoteRemoved);
-    }
+        .forEach(secret -> {
+          secretMasks.add(secret);
+          secretMasks.add(secret.replace("\"", ""));
+          secretMasks.add(secret.replace("\'", ""));
+        });
+    return secretMasks;
   }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.logstreaming;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.logging.LogLevel;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class LogLineBufferTest extends CategoryTest {
+  private static LogLine logLine(String message) {
+    return LogLine.builder().level(LogLevel.INFO).message(message).build();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDrainChunksWithinLimits() {
+    LogLineBuffer logBuffer = new LogLineBuffer(1000);
+    LogLine first = logLine("0123456789");
+    LogLine second = logLine("0123456789");
+    LogLine third = logLine("0123456789");
+    LogLine big = logLine("0123456789012345678901234567890123456789");
+    logBuffer.offer(first);
+    logBuffer.offer(second);
+    logBuffer.offer(third);
+    logBuffer.offer(big);
+
+    assertThat(logBuffer.drainChunk(2, 100)).containsExactly(first, second);
+    assertThat(logBuffer.drainChunk(10, 20)).containsExactly(third);
+    // A line bigger than the chunk still gets pushed
+    assertThat(logBuffer.drainChunk(10, 20)).containsExactly(big);
+    assertThat(logBuffer.drainChunk(10, 20)).isEmpty();
+    assertThat(logBuffer.isEmpty()).isTrue();
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropAndReportLinesWhenFull() {
+    LogLineBuffer logBuffer = new LogLineBuffer(20);
+    LogLine first = logLine("0123456789");
+    LogLine second = logLine("0123456789");
+    assertThat(logBuffer.offer(first)).isTrue();
+    assertThat(logBuffer.offer(second)).isTrue();
+    assertThat(logBuffer.offer(logLine("dropped"))).isFalse();
+    assertThat(logBuffer.offer(logLine("dropped"))).isFalse();
+
+    List<LogLine> chunk = logBuffer.drainChunk(10, 100);
+    assertThat(chunk).hasSize(3);
+    assertThat(chunk.get(0).getLevel()).isEqualTo(LogLevel.WARN);
+    assertThat(chunk.get(0).getMessage()).isEqualTo(String.format(LogLineBuffer.DROPPED_LINES_MESSAGE, 2));
+    assertThat(chunk.subList(1, 3)).containsExactly(first, second);
+
+    // Draining frees the space
+    assertThat(logBuffer.offer(logLine("0123456789"))).isTrue();
+    assertThat(logBuffer.drainChunk(10, 100)).hasSize(1);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.tasks.ResponseData;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group commit buffer for the responses passed to WaitNotifyEngine.doneWith.
+ *
+ * The responses are written in bulk when the flush interval elapses or as soon as the buffer reaches
+ * MAX_BUFFERED_RESPONSES, whichever comes first. A caller is blocked until the batch holding its response is written,
+ * so a response is never reported as done before it is stored. When the bulk write fails the responses of the batch
+ * are written one by one instead.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Slf4j
+class NotifyResponseBuffer {
+  static final int MAX_BUFFERED_RESPONSES = 500;
+
+  private final Function<Map<String, ResponseData>, Set<String>> bulkWriter;
+  private final BiFunction<String, ResponseData, String> fallbackWriter;
+  private final ScheduledExecutorService executorService;
+  private Map<String, PendingResponse> responses = new LinkedHashMap<>();
+
+  /**
+   * @param bulkWriter writes a batch and returns the correlation ids it stored, throws if the batch was not written
+   * @param fallbackWriter writes a single response once its batch failed, returns null if it was not stored
+   */
+  NotifyResponseBuffer(Duration flushInterval, Function<Map<String, ResponseData>, Set<String>> bulkWriter,
+      BiFunction<String, ResponseData, String> fallbackWriter) {
+    this.bulkWriter = bulkWriter;
+    this.fallbackWriter = fallbackWriter;
+    this.executorService = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("notify-response-buffer").setDaemon(true).build());
+    long intervalMillis = flushInterval.toMillis();
+    executorService.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Buffers the response and waits for its batch to be written.
+   *
+   * @return the correlation id once the response is stored, null if it was not
+   */
+  String add(String correlationId, ResponseData response) {
+    PendingResponse pendingResponse = new PendingResponse(response);
+    boolean full;
+    synchronized (this) {
+      if (responses.putIfAbsent(correlationId, pendingResponse) != null) {
+        // The same correlation id is already waiting in this batch, it would be a duplicate response
+        log.warn("Ignored a duplicate notify response for the correlationId : {}", correlationId);
+        return null;
+      }
+      full = responses.size() >= MAX_BUFFERED_RESPONSES;
+    }
+    if (full) {
+      try {
+        executorService.submit(this::flush);
+      } catch (RejectedExecutionException e) {
+        // The buffer is shut down, write the responses from the caller thread
+        flush();
+      }
+    }
+
+    try {
+      return pendingResponse.result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while waiting for the notify response of the correlationId : {}", correlationId);
+    } catch (ExecutionException e) {
+      log.error("Failed to write the notify response of the correlationId : {}", correlationId, e);
+    }
+    return null;
+  }
+
+  void flush() {
+    Map<String, PendingResponse> batch;
+    synchronized (this) {
+      if (responses.isEmpty()) {
+        return;
+      }
+      batch = responses;
+      responses = new LinkedHashMap<>();
+    }
+
+    Map<String, ResponseData> batchResponses = new LinkedHashMap<>();
+    batch.forEach((correlationId, pendingResponse) -> batchResponses.put(correlationId, pendingResponse.response));
+    try {
+      Set<String> written = bulkWriter.apply(batchResponses);
+      batch.forEach((correlationId, pendingResponse)
+                        -> pendingResponse.result.complete(written.contains(correlationId) ? correlationId : null));
+    } catch (Exception exception) {
+      log.warn(
+          "Failed to write {} buffered notify responses in bulk, writing them one by one", batch.size(), exception);
+      batch.forEach((correlationId, pendingResponse) -> writeOne(correlationId, pendingResponse));
+    } finally {
+      batch.values().forEach(pendingResponse -> pendingResponse.result.complete(null));
+    }
+  }
+
+  private void writeOne(String correlationId, PendingResponse pendingResponse) {
+    try {
+      pendingResponse.result.complete(fallbackWriter.apply(correlationId, pendingResponse.response));
+    } catch (Exception exception) {
+      log.error("Failed to write the notify response of the correlationId : {}", correlationId, exception);
+    }
+  }
+
+  private static class PendingResponse {
+    private final ResponseData response;
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+
+    private PendingResponse(ResponseData response) {
+      this.response = response;
+    }
+  }
+}
@@ -28,6 +28,7 @@ import io.harness.waiter.persistence.PersistenceWrapper;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -38,6 +39,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
@@ -57,6 +59,9 @@ public class WaitNotifyEngine {
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private WaiterConfiguration waiterConfiguration;
+
+  private volatile NotifyResponseBuffer responseBuffer;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -143,9 +148,89 @@ public class WaitNotifyEngine {
   }
 
   public String doneWith(String correlationId, ResponseData response) {
+    NotifyResponseBuffer buffer = obtainResponseBuffer();
+    if (buffer != null) {
+      Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
+      return buffer.add(correlationId, response);
+    }
     return doneWith(correlationId, response, response instanceof ErrorResponseData);
   }
 
+  /**
+   * Stores the responses for all the given correlation ids with a single bulk insert and notifies
+   * every affected WaitInstance once, instead of once per correlation id.
+   *
+   * @param responses the responses keyed by correlation id
+   * @return the correlation ids that were processed, responses already present are not
+   */
+  public List<String> doneWithAll(Map<String, ResponseData> responses) {
+    if (isEmpty(responses)) {
+      return Collections.emptyList();
+    }
+
+    try {
+      return new ArrayList<>(storeAndNotify(responses));
+    } catch (Exception exception) {
+      log.error("Failed to notify for {} responses", responses.size(), exception);
+    }
+    return Collections.emptyList();
+  }
+
+  private Set<String> storeAndNotify(Map<String, ResponseData> responses) {
+    if (log.isDebugEnabled()) {
+      log.debug("done with notify request received for {} correlationIds", responses.size());
+    }
+
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    long createdAt = currentTimeMillis();
+    List<NotifyResponse> notifyResponses = new ArrayList<>();
+    for (Map.Entry<String, ResponseData> entry : responses.entrySet()) {
+      Preconditions.checkArgument(isNotBlank(entry.getKey()), "correlationId is null or empty");
+      notifyResponses.add(NotifyResponse.builder()
+                              .uuid(entry.getKey())
+                              .createdAt(createdAt)
+                              .usingKryoWithoutReference(true)
+                              .responseData(referenceFalseKryoSerializer.asDeflatedBytes(entry.getValue()))
+                              .error(entry.getValue() instanceof ErrorResponseData)
+                              .build());
+    }
+    Set<String> storedCorrelationIds = persistenceWrapper.saveNotifyResponses(notifyResponses);
+
+    if (log.isDebugEnabled()) {
+      log.debug("Process {} NotifyResponses mongo queryTime {}", notifyResponses.size(),
+          stopwatch.elapsed(TimeUnit.MILLISECONDS));
+    }
+    if (storedCorrelationIds.size() < notifyResponses.size()) {
+      log.warn("Unexpected rate of duplicate notify responses, {} of {} were already present",
+          notifyResponses.size() - storedCorrelationIds.size(), notifyResponses.size());
+    }
+
+    // Like doneWith, a duplicate response is not notified again
+    handleNotifyResponses(new ArrayList<>(storedCorrelationIds));
+    return storedCorrelationIds;
+  }
+
+  /**
+   * Writes a single buffered response after the bulk write of its batch failed. The failed bulk write may have stored
+   * the response already, so it is notified even when it is a duplicate. Once notified, no WaitInstance is waiting on
+   * the correlation id anymore, so notifying it again does nothing.
+   */
+  private String doneWithAfterFailedBulkWrite(String correlationId, ResponseData response) {
+    try {
+      persistenceWrapper.save(NotifyResponse.builder()
+                                  .uuid(correlationId)
+                                  .createdAt(currentTimeMillis())
+                                  .usingKryoWithoutReference(true)
+                                  .responseData(referenceFalseKryoSerializer.asDeflatedBytes(response))
+                                  .error(response instanceof ErrorResponseData)
+                                  .build());
+    } catch (DuplicateKeyException | org.springframework.dao.DuplicateKeyException exception) {
+      log.warn("Notify response for the correlationId {} is already present", correlationId);
+    }
+    handleNotifyResponse(correlationId);
+    return correlationId;
+  }
+
   private String doneWith(String correlationId, ResponseData response, boolean error) {
     Preconditions.checkArgument(isNotBlank(correlationId), "correlationId is null or empty");
 
@@ -204,6 +289,18 @@ public class WaitNotifyEngine {
     }
   }
 
+  public void handleNotifyResponses(List<String> correlationIds) {
+    for (List<String> batch : Lists.partition(correlationIds, NotifyResponseBuffer.MAX_BUFFERED_RESPONSES)) {
+      WaitInstance waitInstance;
+      // Every call removes the whole batch from one WaitInstance, so each WaitInstance is notified only once
+      while ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstanceForResponses(batch)) != null) {
+        if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+          sendNotification(waitInstance);
+        }
+      }
+    }
+  }
+
   public boolean doneWithWithoutCallback(@NonNull String correlationId) {
     try {
       WaitInstance waitInstance;
@@ -219,6 +316,21 @@ public class WaitNotifyEngine {
     }
   }
 
+  private NotifyResponseBuffer obtainResponseBuffer() {
+    if (waiterConfiguration == null || waiterConfiguration.getDoneWithFlushInterval() == null) {
+      return null;
+    }
+    if (responseBuffer == null) {
+      synchronized (this) {
+        if (responseBuffer == null) {
+          responseBuffer = new NotifyResponseBuffer(
+              waiterConfiguration.getDoneWithFlushInterval(), this::storeAndNotify, this::doneWithAfterFailedBulkWrite);
+        }
+      }
+    }
+    return responseBuffer;
+  }
+
   private WaitInstance modifyAndFetchWaitInstance(String correlationId) {
     WaitInstance waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(correlationId);
     if (waitInstance == null) {
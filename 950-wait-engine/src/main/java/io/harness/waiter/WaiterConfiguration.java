@@ -10,6 +10,7 @@ package io.harness.waiter;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import java.time.Duration;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Value;
@@ -21,4 +22,7 @@ public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   public boolean versioningDisabled;
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+  // When set, doneWith buffers the responses and writes them in bulk at most after this interval.
+  // doneWith waits for the write of its batch, so every call takes up to this much longer, keep it short.
+  Duration doneWithFlushInterval;
 }
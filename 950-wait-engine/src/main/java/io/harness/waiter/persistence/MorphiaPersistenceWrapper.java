@@ -12,6 +12,7 @@ import static io.harness.persistence.HQuery.excludeAuthority;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -41,6 +42,7 @@ import dev.morphia.query.UpdateOperations;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -201,6 +203,38 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public WaitInstance modifyAndFetchWaitInstanceForResponses(List<String> waitingOnCorrelationIds) {
+    final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                          .in(waitingOnCorrelationIds);
+
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds);
+    return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+  }
+
+  @Override
+  public Set<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return new HashSet<>();
+    }
+    Set<String> correlationIds = notifyResponses.stream().map(NotifyResponse::getUuid).collect(toSet());
+    // The insert does not tell which responses were duplicates, so the ones already present are looked up first
+    hPersistence.createQuery(NotifyResponse.class, excludeAuthority)
+        .field(NotifyResponseKeys.uuid)
+        .in(correlationIds)
+        .asKeyList()
+        .forEach(key -> correlationIds.remove((String) key.getId()));
+    List<NotifyResponse> newNotifyResponses =
+        notifyResponses.stream()
+            .filter(notifyResponse -> correlationIds.contains(notifyResponse.getUuid()))
+            .collect(toList());
+    hPersistence.saveIgnoringDuplicateKeys(newNotifyResponses);
+    return correlationIds;
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -28,6 +29,21 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Removes all the given correlation ids from one WaitInstance waiting on any of them.
+   *
+   * @param waitingOnCorrelationIds the correlation ids that received a response
+   * @return the modified WaitInstance, null if no WaitInstance is waiting on any of the ids
+   */
+  WaitInstance modifyAndFetchWaitInstanceForResponses(List<String> waitingOnCorrelationIds);
+
+  /**
+   * Inserts the given responses with a single unordered bulk insert, responses already present are ignored.
+   *
+   * @return the correlation ids of the responses that were inserted
+   */
+  Set<String> saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -16,6 +16,7 @@ import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -54,6 +55,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -204,6 +207,34 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public WaitInstance modifyAndFetchWaitInstanceForResponses(List<String> waitingOnCorrelationIds) {
+    Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    Update update = new Update().pullAll(
+        WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0]));
+    return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+  }
+
+  @Override
+  public Set<String> saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    Set<String> correlationIds = notifyResponses.stream().map(NotifyResponse::getUuid).collect(Collectors.toSet());
+    if (isEmpty(notifyResponses)) {
+      return correlationIds;
+    }
+    try {
+      // Unordered, so that a duplicate response does not stop the insert of the remaining ones
+      mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(notifyResponses).execute();
+    } catch (BulkOperationException exception) {
+      if (!exception.getErrors().stream().allMatch(bulkWriteError -> isDuplicateKeyCode(bulkWriteError.getCode()))) {
+        throw exception;
+      }
+      log.warn("Ignored {} duplicate notify responses", exception.getErrors().size());
+      exception.getErrors().forEach(
+          bulkWriteError -> correlationIds.remove(notifyResponses.get(bulkWriteError.getIndex()).getUuid()));
+    }
+    return correlationIds;
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
@@ -12,6 +12,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.waiter.WaiterConfiguration.PersistenceLayer;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.List;
 
 @OwnedBy(HarnessTeam.PIPELINE)
@@ -20,4 +21,8 @@ public interface WaiterRuleMixin {
     return annotations.stream().anyMatch(SpringWaiter.class ::isInstance) ? PersistenceLayer.SPRING
                                                                           : PersistenceLayer.MORPHIA;
   };
+
+  default Duration obtainDoneWithFlushInterval(List<Annotation> annotations) {
+    return annotations.stream().anyMatch(BufferedWaiter.class ::isInstance) ? Duration.ofMillis(50) : null;
+  }
 }
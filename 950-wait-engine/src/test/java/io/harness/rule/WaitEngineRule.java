@@ -141,7 +141,10 @@ public class WaitEngineRule implements MethodRule, InjectorRuleMixin, MongoRuleM
     modules.add(new AbstractWaiterModule() {
       @Override
       public WaiterConfiguration waiterConfiguration() {
-        return WaiterConfiguration.builder().persistenceLayer(obtainPersistenceLayer(annotations)).build();
+        return WaiterConfiguration.builder()
+            .persistenceLayer(obtainPersistenceLayer(annotations))
+            .doneWithFlushInterval(obtainDoneWithFlushInterval(annotations))
+            .build();
       }
     });
 
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.tasks.ResponseData;
+import io.harness.threading.Concurrent;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class NotifyResponseBufferTest extends CategoryTest {
+  private static final Duration FLUSH_INTERVAL = Duration.ofMillis(20);
+
+  private final List<Map<String, ResponseData>> bulkWrites = new CopyOnWriteArrayList<>();
+  private final List<String> singleWrites = new CopyOnWriteArrayList<>();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReturnOnlyTheWrittenCorrelationIds() {
+    NotifyResponseBuffer buffer = new NotifyResponseBuffer(FLUSH_INTERVAL, responses -> {
+      bulkWrites.add(responses);
+      Set<String> written = new HashSet<>(responses.keySet());
+      written.remove("duplicate");
+      return written;
+    }, this::writeOne);
+
+    List<String> results = new CopyOnWriteArrayList<>();
+    Concurrent.test(2, i -> results.add(String.valueOf(buffer.add(i == 0 ? "id" : "duplicate", response()))));
+
+    assertThat(results).containsExactlyInAnyOrder("id", "null");
+    assertThat(bulkWrites.stream().mapToInt(Map::size).sum()).isEqualTo(2);
+    assertThat(singleWrites).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWriteOneByOneWhenTheBulkWriteFails() {
+    NotifyResponseBuffer buffer = new NotifyResponseBuffer(FLUSH_INTERVAL, responses -> {
+      bulkWrites.add(responses);
+      throw new IllegalStateException("Mongo unavailable");
+    }, this::writeOne);
+
+    List<String> results = new CopyOnWriteArrayList<>();
+    Concurrent.test(3, i -> results.add(buffer.add("id" + i, response())));
+
+    // Every response is reported only after it was written one by one
+    assertThat(results).containsExactlyInAnyOrder("id0", "id1", "id2");
+    assertThat(singleWrites).containsExactlyInAnyOrder("id0", "id1", "id2");
+    assertThat(bulkWrites).isNotEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldReportResponsesThatCouldNotBeWrittenAsNotDone() {
+    NotifyResponseBuffer buffer = new NotifyResponseBuffer(FLUSH_INTERVAL, responses -> {
+      throw new IllegalStateException("Mongo unavailable");
+    }, (correlationId, response) -> { throw new IllegalStateException("Mongo unavailable"); });
+
+    assertThat(buffer.add("id", response())).isNull();
+  }
+
+  private String writeOne(String correlationId, ResponseData response) {
+    singleWrites.add(correlationId);
+    return correlationId;
+  }
+
+  private static ResponseData response() {
+    return StringNotifyResponseData.builder().data("response").build();
+  }
+}
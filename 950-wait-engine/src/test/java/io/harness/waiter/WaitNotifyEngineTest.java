@@ -52,6 +52,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Before;
@@ -241,6 +242,109 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWaitForCorrelationIdsDoneWithAll() throws IOException {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      String waitInstanceId1 = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+      String waitInstanceId2 = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid3);
+
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId1)).isNotNull();
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId2)).isNotNull();
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      ResponseData data3 = StringNotifyResponseData.builder().data("response-" + uuid3).build();
+
+      List<String> ids = waitNotifyEngine.doneWithAll(of(uuid1, data1, uuid2, data2, uuid3, data3));
+      assertThat(ids).containsExactlyInAnyOrder(uuid1, uuid2, uuid3);
+
+      NotifyResponse notifyResponse2 = persistence.get(NotifyResponse.class, uuid2);
+      assertThat(notifyResponse2).isNotNull();
+      assertThat(notifyResponse2.isUsingKryoWithoutReference()).isTrue();
+      assertThat(referenceFalseKryoSerializer.asInflatedObject(notifyResponse2.getResponseData())).isEqualTo(data2);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(3).containsAllEntriesOf(of(uuid1, data1, uuid2, data2, uuid3, data3));
+      assertThat(callCount.get()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotNotifyDuplicatesDoneWithAll() throws IOException {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      assertThat(waitNotifyEngine.doneWith(uuid1, data1)).isEqualTo(uuid1);
+
+      assertThat(waitNotifyEngine.doneWithAll(of(uuid1, data1, uuid2, data2))).containsExactly(uuid2);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(2).containsAllEntriesOf(of(uuid1, data1, uuid2, data2));
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @BufferedWaiter
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldStoreBufferedResponsesBeforeDoneWithReturns() throws IOException {
+    verifyBufferedDoneWith();
+  }
+
+  @Test
+  @SpringWaiter
+  @BufferedWaiter
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldStoreBufferedResponsesBeforeDoneWithReturnsWithSpring() throws IOException {
+    verifyBufferedDoneWith();
+  }
+
+  private void verifyBufferedDoneWith() throws IOException {
+    String[] uuids = {generateUuid(), generateUuid(), generateUuid()};
+    Map<String, ResponseData> responses = new HashMap<>();
+    for (String uuid : uuids) {
+      responses.put(uuid, StringNotifyResponseData.builder().data("response-" + uuid).build());
+    }
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuids);
+
+      List<String> doneIds = new CopyOnWriteArrayList<>();
+      Concurrent.test(uuids.length, i -> {
+        String id = waitNotifyEngine.doneWith(uuids[i], responses.get(uuids[i]));
+        // The response is stored by the time doneWith returns
+        assertThat(persistence.get(NotifyResponse.class, id)).isNotNull();
+        doneIds.add(id);
+      });
+      assertThat(doneIds).containsExactlyInAnyOrder(uuids);
+
+      // A duplicate response is not stored or notified again
+      assertThat(waitNotifyEngine.doneWith(uuids[0], responses.get(uuids[0]))).isNull();
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(3).containsAllEntriesOf(responses);
+      assertThat(callCount.get()).isEqualTo(1);
+    }
+  }
+
   @Test
   @SpringWaiter
   @Owner(developers = PRASHANT, intermittent = true)
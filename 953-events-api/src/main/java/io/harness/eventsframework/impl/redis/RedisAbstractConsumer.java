@@ -44,6 +44,9 @@ import org.redisson.client.RedisException;
 @Slf4j
 public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private static final String REDIS_CONSUMER_EVENT_METRIC = "redis_consumer_event_metric";
+  private static final String REDIS_CONSUMER_LAG_METRIC = "redis_consumer_lag";
+  private static final String REDIS_CONSUMER_PENDING_COUNT_METRIC = "redis_consumer_pending_count";
+  private static final String REDIS_CONSUMER_PROCESSING_TIME_METRIC = "redis_consumer_processing_time";
   protected RStream<String, String> stream;
   protected RStream<String, String> deadLetterQueue;
   protected RedissonClient redissonClient;
@@ -261,6 +264,61 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
   }
 
+  /**
+   * Acknowledges the messages with a single XACK.
+   */
+  protected void acknowledgeAll(List<String> messageIds) {
+    StreamMessageId[] streamIds = messageIds.stream().map(RedisUtils::getStreamId).toArray(StreamMessageId[] ::new);
+    Supplier<Void> acknowledgeSupplier = () -> {
+      stream.ack(getGroupName(), streamIds);
+      return null;
+    };
+
+    Supplier<Void> retryingAckMessages = Retry.decorateSupplier(retry, acknowledgeSupplier);
+    Try.ofSupplier(retryingAckMessages)
+        .recover(throwable -> {
+          createConsumerGroupIfNotPresent(throwable);
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  /**
+   * Publishes how far behind the producers the consumer group is, in milliseconds, and how many messages it has
+   * pending.
+   */
+  protected void publishConsumerGroupMetrics() {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      StreamMessageId lastGeneratedId = stream.getInfo().getLastGeneratedId();
+      for (StreamGroup group : stream.listGroups()) {
+        if (group.getName().equals(getGroupName())) {
+          long lagMillis = Math.max(lastGeneratedId.getId0() - group.getLastDeliveredId().getId0(), 0);
+          redisEventMetricPublisher.sendMetricWithStreamContext(getTopicName(), REDIS_CONSUMER_LAG_METRIC, lagMillis);
+          redisEventMetricPublisher.sendMetricWithStreamContext(
+              getTopicName(), REDIS_CONSUMER_PENDING_COUNT_METRIC, group.getPending());
+        }
+      }
+    } catch (Exception ex) {
+      log.warn("Error while sending consumer group metrics for {}", getTopicName(), ex);
+    }
+  }
+
+  protected void publishProcessingTime(Duration processingTime) {
+    if (redisEventMetricPublisher == null) {
+      return;
+    }
+    try {
+      redisEventMetricPublisher.sendDurationWithStreamContext(
+          getTopicName(), REDIS_CONSUMER_PROCESSING_TIME_METRIC, processingTime);
+    } catch (Exception ex) {
+      log.warn("Error while sending processing time metric for {}", getTopicName(), ex);
+    }
+  }
+
   private void createConsumerGroupIfNotPresent(Throwable e) {
     if (e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
       log.info("Key or consumer group not present, attempting to create consumer group {} for {}", getGroupName(),
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.consumer.Message;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Consumer for high volume topics. The next batch is read once only a quarter of the current one is left to be
+ * acknowledged, so the messages read ahead do not sit in the pending list for the whole processing time of the current
+ * batch. The acknowledged messages are XACKed together every ACK_FLUSH_INTERVAL, or as soon as a batch worth of them
+ * is waiting. A message acknowledged but not flushed yet when the process stops is delivered again, as an
+ * unacknowledged one would be.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisBatchingConsumer extends RedisAbstractConsumer {
+  private static final Duration ACK_FLUSH_INTERVAL = Duration.ofMillis(200);
+  private static final Duration METRICS_INTERVAL = Duration.ofSeconds(30);
+  private static final int READ_AHEAD_REMAINING_FRACTION = 4;
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService prefetcher;
+  private final Queue<String> pendingAcks = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingAckCount = new AtomicInteger();
+  private final Map<String, Long> readAtNanos = new ConcurrentHashMap<>();
+  // Guards the read ahead state below, as the messages may be acknowledged from other threads
+  private final Object readAheadLock = new Object();
+  private Set<String> unacknowledgedIds = Collections.emptySet();
+  private int readAheadRemaining;
+  private Duration readAheadWaitTime;
+  private Future<List<Message>> prefetchedMessages;
+
+  public RedisBatchingConsumer(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace) {
+    super(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("redis-consumer-ack-" + topicName).setDaemon(true).build());
+    this.prefetcher = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("redis-consumer-prefetch-" + topicName).setDaemon(true).build());
+    scheduler.scheduleWithFixedDelay(this::flushAcknowledgements, ACK_FLUSH_INTERVAL.toMillis(),
+        ACK_FLUSH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    scheduler.scheduleWithFixedDelay(
+        this::publishConsumerGroupMetrics, 0, METRICS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Must be called from a single thread, as the consumer loops do.
+   */
+  @Override
+  public List<Message> read(Duration maxWaitTime) {
+    Future<List<Message>> prefetched;
+    synchronized (readAheadLock) {
+      prefetched = prefetchedMessages;
+      prefetchedMessages = null;
+      unacknowledgedIds = Collections.emptySet();
+    }
+    List<Message> messages = prefetched == null ? readMessages(maxWaitTime) : getPrefetchedMessages(prefetched);
+    // Only read ahead while the topic is busy, an idle consumer keeps blocking on the read itself
+    synchronized (readAheadLock) {
+      unacknowledgedIds = messages.stream().map(Message::getId).collect(Collectors.toCollection(HashSet::new));
+      readAheadRemaining = messages.size() / READ_AHEAD_REMAINING_FRACTION;
+      readAheadWaitTime = maxWaitTime;
+    }
+    return messages;
+  }
+
+  private List<Message> readMessages(Duration maxWaitTime) {
+    List<Message> messages = getMessages(false, maxWaitTime);
+    long now = System.nanoTime();
+    messages.forEach(message -> readAtNanos.put(message.getId(), now));
+    return messages;
+  }
+
+  private List<Message> getPrefetchedMessages(Future<List<Message>> prefetched) {
+    try {
+      return prefetched.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return Collections.emptyList();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @Override
+  public void acknowledge(String messageId) {
+    Long readAt = readAtNanos.remove(messageId);
+    if (readAt != null) {
+      publishProcessingTime(Duration.ofNanos(System.nanoTime() - readAt));
+    }
+    pendingAcks.add(messageId);
+    if (pendingAckCount.incrementAndGet() == batchSize) {
+      scheduler.execute(this::flushAcknowledgements);
+    }
+    readAheadIfNearlyDone(messageId);
+  }
+
+  private void readAheadIfNearlyDone(String messageId) {
+    synchronized (readAheadLock) {
+      if (unacknowledgedIds.remove(messageId) && unacknowledgedIds.size() == readAheadRemaining
+          && prefetchedMessages == null && !prefetcher.isShutdown()) {
+        Duration maxWaitTime = readAheadWaitTime;
+        prefetchedMessages = prefetcher.submit(() -> readMessages(maxWaitTime));
+      }
+    }
+  }
+
+  private synchronized void flushAcknowledgements() {
+    List<String> messageIds = new ArrayList<>();
+    for (String messageId = pendingAcks.poll(); messageId != null; messageId = pendingAcks.poll()) {
+      messageIds.add(messageId);
+    }
+    pendingAckCount.addAndGet(-messageIds.size());
+    // The messages never acknowledged are claimed by another consumer once past maxProcessingTime
+    long expiredReadAt = System.nanoTime() - maxProcessingTime.toNanos();
+    readAtNanos.values().removeIf(readAt -> readAt < expiredReadAt);
+    if (messageIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      acknowledgeAll(messageIds);
+    } catch (Exception ex) {
+      log.warn("Unable to acknowledge {} messages of {}, they will be delivered again", messageIds.size(),
+          getTopicName(), ex);
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    scheduler.shutdown();
+    synchronized (readAheadLock) {
+      prefetcher.shutdownNow();
+    }
+    flushAcknowledgements();
+    super.shutdown();
+  }
+
+  public static RedisBatchingConsumer of(String topicName, String groupName, @NotNull RedissonClient redissonClient,
+      Duration maxProcessingTime, int batchSize, String envNamespace) {
+    return new RedisBatchingConsumer(topicName, groupName, redissonClient, maxProcessingTime, batchSize, envNamespace);
+  }
+}
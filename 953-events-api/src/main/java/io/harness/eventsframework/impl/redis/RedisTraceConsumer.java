@@ -7,9 +7,21 @@
 
 package io.harness.eventsframework.impl.redis;
 
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.logging.AutoLogContext;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -26,5 +38,31 @@ public abstract class RedisTraceConsumer implements Runnable {
     }
   }
 
+  /**
+   * Handles the messages on the executor and acknowledges the ones handled successfully. The messages with the same
+   * ordering key are handled one after the other in the order they were read, the others concurrently. Returns once
+   * all the messages are handled.
+   */
+  protected void handleMessagesConcurrently(List<Message> messages, Function<Message, String> orderingKey,
+      ExecutorService executorService, Consumer redisConsumer) throws InterruptedException {
+    Map<String, List<Message>> messagesByKey =
+        messages.stream().collect(groupingBy(orderingKey, LinkedHashMap::new, toList()));
+    List<Future<?>> futures = new ArrayList<>();
+    messagesByKey.values().forEach(orderedMessages -> futures.add(executorService.submit(() -> {
+      for (Message message : orderedMessages) {
+        if (handleMessage(message)) {
+          redisConsumer.acknowledge(message.getId());
+        }
+      }
+    })));
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (ExecutionException ex) {
+        log.error("Error occurred in handling messages", ex.getCause());
+      }
+    }
+  }
+
   protected abstract boolean processMessage(Message message);
 }
@@ -14,6 +14,7 @@ import io.harness.eventsframework.impl.redis.monitoring.dto.RedisEventMetricDTO;
 import io.harness.metrics.service.api.MetricService;
 
 import com.google.inject.Inject;
+import java.time.Duration;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,4 +29,18 @@ public class RedisEventMetricPublisher {
       metricService.incCounter(metricName);
     }
   }
+
+  public void sendMetricWithStreamContext(String streamName, String metricName, double value) {
+    try (RedisEventMetricContext context =
+             new RedisEventMetricContext(RedisEventMetricDTO.builder().streamName(streamName).build())) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
+  public void sendDurationWithStreamContext(String streamName, String metricName, Duration duration) {
+    try (RedisEventMetricContext context =
+             new RedisEventMetricContext(RedisEventMetricDTO.builder().streamName(streamName).build())) {
+      metricService.recordDuration(metricName, duration);
+    }
+  }
 }
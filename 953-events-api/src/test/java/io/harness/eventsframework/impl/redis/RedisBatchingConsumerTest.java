@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.RStream;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class RedisBatchingConsumerTest extends CategoryTest {
+  private static final Duration MAX_WAIT_TIME = Duration.ofSeconds(1);
+
+  private final RedissonClient redissonClient = mock(RedissonClient.class);
+  private final Queue<List<Message>> batches = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger reads = new AtomicInteger();
+  private final List<String> acknowledgedIds = new CopyOnWriteArrayList<>();
+  private CountDownLatch readLatch = new CountDownLatch(0);
+  private CountDownLatch acknowledgeLatch = new CountDownLatch(0);
+
+  @Before
+  public void setUp() {
+    doReturn(mock(RStream.class)).when(redissonClient).getStream(anyString(), any(Codec.class));
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldAcknowledgeTogetherOnceABatchIsWaiting() throws InterruptedException {
+    TestConsumer consumer = new TestConsumer(2);
+    acknowledgeLatch = new CountDownLatch(2);
+
+    consumer.acknowledge("1-0");
+    consumer.acknowledge("2-0");
+
+    assertThat(acknowledgeLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(acknowledgedIds).containsExactly("1-0", "2-0");
+    consumer.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldFlushPendingAcknowledgementsOnShutdown() {
+    TestConsumer consumer = new TestConsumer(10);
+
+    consumer.acknowledge("1-0");
+    consumer.acknowledge("2-0");
+    consumer.acknowledge("3-0");
+    consumer.shutdown();
+
+    assertThat(acknowledgedIds).containsExactly("1-0", "2-0", "3-0");
+    verify(redissonClient).shutdown();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldReadAheadOnlyWhenTheBatchIsNearlyAcknowledged() throws InterruptedException {
+    TestConsumer consumer = new TestConsumer(4);
+    List<Message> firstBatch = messages(0, 4);
+    List<Message> secondBatch = messages(4, 8);
+    batches.add(firstBatch);
+    batches.add(secondBatch);
+    readLatch = new CountDownLatch(2);
+
+    assertThat(consumer.read(MAX_WAIT_TIME)).isEqualTo(firstBatch);
+    consumer.acknowledge(firstBatch.get(0).getId());
+    consumer.acknowledge(firstBatch.get(1).getId());
+    assertThat(reads.get()).isEqualTo(1);
+
+    consumer.acknowledge(firstBatch.get(2).getId());
+    assertThat(readLatch.await(5, TimeUnit.SECONDS)).isTrue();
+    consumer.acknowledge(firstBatch.get(3).getId());
+
+    assertThat(consumer.read(MAX_WAIT_TIME)).isEqualTo(secondBatch);
+    assertThat(reads.get()).isEqualTo(2);
+    consumer.shutdown();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldNotReadAheadWhenTheTopicIsIdle() {
+    TestConsumer consumer = new TestConsumer(4);
+
+    assertThat(consumer.read(MAX_WAIT_TIME)).isEmpty();
+    assertThat(consumer.read(MAX_WAIT_TIME)).isEmpty();
+
+    assertThat(reads.get()).isEqualTo(2);
+    consumer.shutdown();
+  }
+
+  private static List<Message> messages(int from, int to) {
+    List<Message> messages = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      messages.add(Message.newBuilder().setId(i + "-0").build());
+    }
+    return messages;
+  }
+
+  private class TestConsumer extends RedisBatchingConsumer {
+    TestConsumer(int batchSize) {
+      super("topic", "group", redissonClient, Duration.ofMinutes(1), batchSize, "");
+    }
+
+    @Override
+    protected List<Message> getMessages(boolean processUnackedMessagesBeforeNewMessages, Duration maxWaitTime) {
+      reads.incrementAndGet();
+      readLatch.countDown();
+      List<Message> batch = batches.poll();
+      return batch == null ? Collections.emptyList() : batch;
+    }
+
+    @Override
+    protected void acknowledgeAll(List<String> messageIds) {
+      acknowledgedIds.addAll(messageIds);
+      messageIds.forEach(messageId -> acknowledgeLatch.countDown());
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
+import io.harness.rule.Owner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PL)
+public class RedisTraceConsumerTest extends CategoryTest {
+  private static final String ORDERING_KEY = "accountId";
+
+  private final Map<String, List<String>> handledIdsPerKey = new ConcurrentHashMap<>();
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldHandleMessagesInOrderPerKeyAndAcknowledgeTheHandledOnes() throws InterruptedException {
+    Consumer redisConsumer = mock(Consumer.class);
+    List<Message> messages = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      messages.add(message(i + "-0", "account" + i % 3));
+    }
+    messages.add(message("fail-0", "account0"));
+    messages.add(message("30-0", "account0"));
+    ExecutorService executorService = Executors.newFixedThreadPool(3);
+
+    try {
+      new TestTraceConsumer().handleMessagesConcurrently(
+          messages, message -> message.getMessage().getMetadataMap().get(ORDERING_KEY), executorService, redisConsumer);
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    assertThat(handledIdsPerKey).hasSize(3);
+    handledIdsPerKey.forEach((key, handledIds) -> {
+      List<String> expectedIds = new ArrayList<>();
+      messages.stream()
+          .filter(message -> message.getMessage().getMetadataMap().get(ORDERING_KEY).equals(key))
+          .forEach(message -> expectedIds.add(message.getId()));
+      assertThat(handledIds).isEqualTo(expectedIds);
+    });
+    for (int i = 0; i <= 30; i++) {
+      verify(redisConsumer).acknowledge(i + "-0");
+    }
+    verify(redisConsumer, never()).acknowledge("fail-0");
+  }
+
+  private static Message message(String id, String orderingKey) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(
+            io.harness.eventsframework.producer.Message.newBuilder().putMetadata(ORDERING_KEY, orderingKey).build())
+        .build();
+  }
+
+  private class TestTraceConsumer extends RedisTraceConsumer {
+    @Override
+    public void run() {}
+
+    @Override
+    protected boolean processMessage(Message message) {
+      handledIdsPerKey
+          .computeIfAbsent(message.getMessage().getMetadataMap().get(ORDERING_KEY), key -> new CopyOnWriteArrayList<>())
+          .add(message.getId());
+      if (message.getId().startsWith("fail")) {
+        throw new IllegalStateException("Failed to process " + message.getId());
+      }
+      return true;
+    }
+  }
+}
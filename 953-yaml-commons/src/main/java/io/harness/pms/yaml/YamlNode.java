@@ -35,7 +35,6 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -297,30 +296,65 @@ public class YamlNode implements Visitable {
     if (parentNode == null || parentNode.parentNode == null || parentNode.parentNode.isObject()) {
       return null;
     }
-    List<YamlNode> yamlNodes = parentNode.parentNode.asArray();
-    for (int i = 0; i < yamlNodes.size() - 1; i++) {
-      YamlField givenNode = yamlNodes.get(i).getField(currentFieldName);
-      if (givenNode != null && givenNode.getNode().getUuid() != null
-          && givenNode.getNode().getUuid().equals(this.getUuid())) {
-        return getMatchingFieldNameFromParent(yamlNodes.get(i + 1), new HashSet<>(possibleSiblingFieldNames));
-      }
+    YamlNode parentArray = parentNode.parentNode;
+    int idx = indexInParentArray(currentFieldName);
+    if (idx < 0 || idx + 1 >= parentArray.getCurrJsonNode().size()) {
+      return null;
     }
-    return null;
+    return getMatchingFieldNameFromParent(parentArray.arrayElement(idx + 1), new HashSet<>(possibleSiblingFieldNames));
   }
 
   public YamlField previousSiblingFromParentArray(String currentFieldName, List<String> possibleSiblingFieldNames) {
     if (parentNode == null || parentNode.parentNode == null || parentNode.parentNode.isObject()) {
       return null;
     }
-    List<YamlNode> yamlNodes = parentNode.parentNode.asArray();
-    for (int i = 1; i < yamlNodes.size(); i++) {
-      YamlField givenNode = yamlNodes.get(i).getField(currentFieldName);
-      if (givenNode != null && givenNode.getNode().getUuid() != null
-          && givenNode.getNode().getUuid().equals(this.getUuid())) {
-        return getMatchingFieldNameFromParent(yamlNodes.get(i - 1), new HashSet<>(possibleSiblingFieldNames));
+    int idx = indexInParentArray(currentFieldName);
+    if (idx < 1) {
+      return null;
+    }
+    return getMatchingFieldNameFromParent(
+        parentNode.parentNode.arrayElement(idx - 1), new HashSet<>(possibleSiblingFieldNames));
+  }
+
+  /**
+   * Returns the index of the element of the grandparent array holding this node under currentFieldName, or -1. The
+   * index this node was reached with is checked first, the other elements are only compared by uuid when it does not
+   * match, as when the node was not created by navigating from the array.
+   */
+  private int indexInParentArray(String currentFieldName) {
+    String uuid = getUuid();
+    if (uuid == null) {
+      return -1;
+    }
+    JsonNode parentArray = parentNode.parentNode.getCurrJsonNode();
+    int idx = parseArrayIndex(parentNode.fieldName);
+    if (idx >= 0 && idx < parentArray.size() && parentArray.get(idx) == parentNode.currJsonNode
+        && parentNode.getValueInternal(currentFieldName) == currJsonNode) {
+      return idx;
+    }
+
+    for (int i = 0; i < parentArray.size(); i++) {
+      YamlField givenNode = parentNode.parentNode.arrayElement(i).getField(currentFieldName);
+      if (givenNode != null && uuid.equals(givenNode.getNode().getUuid())) {
+        return i;
       }
     }
-    return null;
+    return -1;
+  }
+
+  private static int parseArrayIndex(String name) {
+    if (name == null || name.length() < 3 || name.charAt(0) != '[' || name.charAt(name.length() - 1) != ']') {
+      return -1;
+    }
+    try {
+      return Integer.parseInt(name.substring(1, name.length() - 1));
+    } catch (NumberFormatException ex) {
+      return -1;
+    }
+  }
+
+  private YamlNode arrayElement(int idx) {
+    return new YamlNode(String.format("[%d]", idx), currJsonNode.get(idx), this);
   }
 
   public YamlField nextSiblingNodeFromParentObject(String siblingFieldName) {
@@ -331,9 +365,10 @@ public class YamlNode implements Visitable {
   }
 
   private YamlField getMatchingFieldNameFromParent(YamlNode parent, Set<String> fieldNames) {
-    for (YamlField field : parent.fields()) {
-      if (fieldNames.contains(field.getName()) && !field.getNode().getCurrJsonNode().isNull()) {
-        return field;
+    for (Iterator<Map.Entry<String, JsonNode>> i = parent.getCurrJsonNode().fields(); i.hasNext();) {
+      Map.Entry<String, JsonNode> field = i.next();
+      if (fieldNames.contains(field.getKey()) && !field.getValue().isNull()) {
+        return new YamlField(new YamlNode(field.getKey(), field.getValue(), parent));
       }
     }
     return null;
@@ -361,10 +396,19 @@ public class YamlNode implements Visitable {
     String uuidValue = getStringValue(UUID_FIELD_NAME);
     // This means that current node is of array type
     if (uuidValue == null && parentNode != null && parentNode.isObject()) {
-      List<YamlField> childFields = parentNode.fields();
-      for (YamlField childField : childFields) {
-        if (compareFirstChildOfArrayNode(childField.getNode(), this)) {
-          return parentNode.getUuid() + childField.getName();
+      String firstChildUuid = getFirstChildUuid(this);
+      if (firstChildUuid == null) {
+        return null;
+      }
+      // The field this node was read from matches, unless the node was created some other way
+      if (fieldName != null && parentNode.getCurrJsonNode().get(fieldName) == currJsonNode) {
+        return parentNode.getUuid() + fieldName;
+      }
+      for (Iterator<Map.Entry<String, JsonNode>> i = parentNode.getCurrJsonNode().fields(); i.hasNext();) {
+        Map.Entry<String, JsonNode> childField = i.next();
+        YamlNode childNode = new YamlNode(childField.getKey(), childField.getValue(), parentNode);
+        if (firstChildUuid.equals(getFirstChildUuid(childNode))) {
+          return parentNode.getUuid() + childField.getKey();
         }
       }
       return null;
@@ -380,14 +424,10 @@ public class YamlNode implements Visitable {
     return name;
   }
 
-  private boolean compareFirstChildOfArrayNode(YamlNode firstParent, YamlNode secondParent) {
-    List<YamlNode> firstParentChildNodes = firstParent.asArray();
-    List<YamlNode> secondParentChildNodes = secondParent.asArray();
-    if (firstParentChildNodes.isEmpty() || secondParentChildNodes.isEmpty()
-        || firstParentChildNodes.get(0).getUuid() == null || secondParentChildNodes.get(0).getUuid() == null) {
-      return false;
-    }
-    return Objects.equals(firstParentChildNodes.get(0).getUuid(), secondParentChildNodes.get(0).getUuid());
+  // Same as asArray().get(0).getUuid(), without creating nodes for all the other children
+  private static String getFirstChildUuid(YamlNode parent) {
+    Iterator<JsonNode> children = parent.getCurrJsonNode().elements();
+    return children.hasNext() ? new YamlNode("[0]", children.next(), parent).getUuid() : null;
   }
 
   public String getIdentifier() {
@@ -251,4 +251,46 @@ public class YamlNodeTest extends CategoryTest {
         .isEqualTo(
             "{\"pipeline\":{\"stages\":[{\"stage\":{\"identifier\":\"s1\"}},{\"stage\":{\"identifier\":\"s1.1\"}},{\"stage\":{\"identifier\":\"s3\"}},{\"stage\":{\"identifier\":\"s4\"}}]}}");
   }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testGetUuidAndSiblingsOfArrayElements() throws IOException {
+    String pipelineYaml = "pipeline:\n"
+        + "  __uuid: \"p\"\n"
+        + "  stages:\n"
+        + "  - __uuid: \"e1\"\n"
+        + "    stage:\n"
+        + "      __uuid: \"s1\"\n"
+        + "  - __uuid: \"e2\"\n"
+        + "    parallel:\n"
+        + "      __uuid: \"s2\"\n"
+        + "  - __uuid: \"e3\"\n"
+        + "    stage:\n"
+        + "      __uuid: \"s3\"\n";
+    YamlNode pipelineNode = YamlUtils.readTree(pipelineYaml).getNode();
+    YamlNode stagesNode = pipelineNode.gotoPath("pipeline/stages");
+    assertThat(stagesNode.getUuid()).isEqualTo("pstages");
+    // A node not reached from its parent is still found by the uuid of its first element
+    YamlNode detachedStagesNode = new YamlNode(null, stagesNode.getCurrJsonNode(), stagesNode.getParentNode());
+    assertThat(detachedStagesNode.getUuid()).isEqualTo("pstages");
+
+    List<String> siblingNames = List.of("stage", "parallel");
+    YamlNode firstStage = pipelineNode.gotoPath("pipeline/stages/[0]/stage");
+    YamlNode secondStage = pipelineNode.gotoPath("pipeline/stages/[1]/parallel");
+    YamlNode lastStage = pipelineNode.gotoPath("pipeline/stages/[2]/stage");
+    assertThat(firstStage.nextSiblingFromParentArray("stage", siblingNames).getNode().getUuid()).isEqualTo("s2");
+    assertThat(secondStage.nextSiblingFromParentArray("parallel", siblingNames).getNode().getUuid())
+        .isEqualTo("s3");
+    assertThat(lastStage.nextSiblingFromParentArray("stage", siblingNames)).isNull();
+    assertThat(firstStage.previousSiblingFromParentArray("stage", siblingNames)).isNull();
+    assertThat(lastStage.previousSiblingFromParentArray("stage", siblingNames).getNode().getUuid())
+        .isEqualTo("s2");
+
+    // A node not reached through its index is looked up by uuid
+    YamlNode secondElement = new YamlNode(null, secondStage.getParentNode().getCurrJsonNode(), stagesNode);
+    YamlNode detachedSecondStage = new YamlNode("parallel", secondStage.getCurrJsonNode(), secondElement);
+    assertThat(detachedSecondStage.nextSiblingFromParentArray("parallel", siblingNames).getNode().getUuid())
+        .isEqualTo("s3");
+  }
 }
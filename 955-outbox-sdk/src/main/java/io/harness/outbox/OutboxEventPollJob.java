@@ -16,10 +16,13 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.UnexpectedException;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
+import io.harness.outbox.monitor.OutboxEventHandlingStats;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.retry.Retry;
@@ -27,7 +30,15 @@ import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(PL)
@@ -39,16 +50,23 @@ public class OutboxEventPollJob implements Runnable {
   private final OutboxPollConfiguration outboxPollConfiguration;
   private final OutboxEventFilter outboxEventFilter;
   private final Retry retry;
+  private final OutboxEventHandlingStats outboxEventHandlingStats;
+  private final int partitionCount;
+  private final ExecutorService partitionExecutor;
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
+  private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(2);
+  private static final Duration MAX_DRAIN_DURATION = Duration.ofMinutes(1);
   private final String outboxLockId;
 
   @Inject
   public OutboxEventPollJob(OutboxService outboxService, OutboxEventHandler outboxEventHandler,
-      PersistentLocker persistentLocker, OutboxPollConfiguration outboxPollConfiguration) {
+      PersistentLocker persistentLocker, OutboxPollConfiguration outboxPollConfiguration,
+      OutboxEventHandlingStats outboxEventHandlingStats) {
     this.outboxService = outboxService;
     this.outboxEventHandler = outboxEventHandler;
     this.persistentLocker = persistentLocker;
     this.outboxPollConfiguration = outboxPollConfiguration;
+    this.outboxEventHandlingStats = outboxEventHandlingStats;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
     this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
     RetryConfig retryConfig = RetryConfig.custom()
@@ -56,6 +74,15 @@ public class OutboxEventPollJob implements Runnable {
                                   .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
                                   .build();
     this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    // Without partitions the events are handled one by one on the poll thread, as they always were
+    this.partitionCount = Math.max(this.outboxPollConfiguration.getPartitionCount(), 1);
+    this.partitionExecutor = partitionCount == 1
+        ? null
+        : Executors.newFixedThreadPool(partitionCount,
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-partition-thread-" + this.outboxPollConfiguration.getLockId() + "-%d")
+                .setDaemon(true)
+                .build());
   }
 
   @Override
@@ -69,42 +96,130 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  public void stop() {
+    if (partitionExecutor != null) {
+      partitionExecutor.shutdownNow();
+    }
+  }
+
   private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, LOCK_TIMEOUT)) {
       if (lock == null) {
         log.warn("Could not acquire lock for outbox poll job");
         return;
       }
-      List<OutboxEvent> outboxEvents;
+      // A full batch means more events are waiting, so they are polled right away rather than on the next run
+      long lockedAt = System.currentTimeMillis();
+      long drainDeadline = lockedAt + MAX_DRAIN_DURATION.toMillis();
+      long leaseDeadline = lockedAt + LOCK_TIMEOUT.toMillis();
+      long longestBatchMillis = 0;
+      boolean drained;
+      boolean canPollAgain;
+      do {
+        long batchStartedAt = System.currentTimeMillis();
+        List<OutboxEvent> outboxEvents;
+        try {
+          outboxEvents = outboxService.list(outboxEventFilter);
+        } catch (InstantiationError error) {
+          log.error("InstantiationError occurred while fetching entries from the outbox", error);
+          return;
+        }
+        drained = !handleOutboxEvents(outboxEvents) || outboxEvents.size() < DEFAULT_MAX_EVENTS_POLLED;
+        long now = System.currentTimeMillis();
+        longestBatchMillis = Math.max(longestBatchMillis, now - batchStartedAt);
+        // Another batch is polled only if it can take as long as the slowest one so far and end before the lock expires
+        canPollAgain = now < drainDeadline && now + longestBatchMillis < leaseDeadline;
+      } while (!drained && canPollAgain && !Thread.currentThread().isInterrupted());
+    }
+  }
+
+  /**
+   * Handles the events and deletes the handled ones, returns false if some of them could not be deleted.
+   */
+  private boolean handleOutboxEvents(List<OutboxEvent> outboxEvents) {
+    if (partitionExecutor == null) {
+      return handleInOrder(outboxEvents, false);
+    }
+    return handleInPartitions(outboxEvents);
+  }
+
+  private boolean handleInPartitions(List<OutboxEvent> outboxEvents) {
+    Map<Integer, List<OutboxEvent>> outboxEventsPerPartition = new HashMap<>();
+    for (OutboxEvent outboxEvent : outboxEvents) {
+      outboxEventsPerPartition.computeIfAbsent(getPartition(outboxEvent), partition -> new ArrayList<>())
+          .add(outboxEvent);
+    }
+    List<Future<Boolean>> futures = new ArrayList<>();
+    outboxEventsPerPartition.values().forEach(partitionOutboxEvents
+        -> futures.add(partitionExecutor.submit(() -> handleInOrder(partitionOutboxEvents, true))));
+    boolean deleted = true;
+    for (Future<Boolean> future : futures) {
       try {
-        outboxEvents = outboxService.list(outboxEventFilter);
-      } catch (InstantiationError error) {
-        log.error("InstantiationError occurred while fetching entries from the outbox", error);
-        return;
+        deleted = future.get() && deleted;
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        futures.forEach(partitionFuture -> partitionFuture.cancel(true));
+        return false;
+      } catch (ExecutionException exception) {
+        log.error("Unexpected error occurred while handling a partition of outbox events", exception.getCause());
+        deleted = false;
       }
+    }
+    return deleted;
+  }
 
-      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
-        try {
-          if (success) {
-            outboxService.delete(outbox.getId());
-          } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
-          }
-        } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
-              exception);
+  // Events of a resource always share a partition, so they are handled in the order they were saved
+  private int getPartition(OutboxEvent outboxEvent) {
+    Resource resource = outboxEvent.getResource();
+    if (resource == null) {
+      return 0;
+    }
+    return Math.floorMod(Objects.hash(resource.getType(), resource.getIdentifier()), partitionCount);
+  }
+
+  /**
+   * Handles the events one by one. Handled events are deleted right away, or together once all the events are handled
+   * when deleteWhenDone is set. Returns false if some of the handled events could not be deleted.
+   */
+  private boolean handleInOrder(List<OutboxEvent> outboxEvents, boolean deleteWhenDone) {
+    List<String> handledEventIds = new ArrayList<>();
+    boolean deleted = true;
+    for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
+      OutboxEvent outbox = outboxEvents.get(i);
+      long startTime = System.currentTimeMillis();
+      boolean success = handle(outbox);
+      log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+          System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+      outboxEventHandlingStats.recordHandled(outbox, success);
+      try {
+        if (success && deleteWhenDone) {
+          handledEventIds.add(outbox.getId());
+        } else if (success) {
+          outboxService.delete(outbox.getId());
+        } else {
+          outbox.setBlocked(true);
+          outbox.setNextUnblockAttemptAt(
+              Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
+          outboxService.update(outbox);
         }
+      } catch (Exception exception) {
+        log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                      outbox.getId(), outbox.getEventType()),
+            exception);
+        deleted = deleted && !success;
       }
     }
+    if (handledEventIds.isEmpty()) {
+      return deleted;
+    }
+    try {
+      outboxService.deleteAll(handledEventIds);
+      return deleted;
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred while deleting %d handled outbox events", handledEventIds.size()),
+          exception);
+      return false;
+    }
   }
 
   private boolean handle(OutboxEvent outboxEvent) {
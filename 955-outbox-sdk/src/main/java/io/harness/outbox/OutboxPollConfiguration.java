@@ -27,4 +27,6 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  // Number of threads the polled events are handled on, events of the same resource always share one
+  int partitionCount;
 }
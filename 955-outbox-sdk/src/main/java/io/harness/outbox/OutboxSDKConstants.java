@@ -45,5 +45,11 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME = "outbox_blocked_queue_size";
 
+  public static final String OUTBOX_LAG_METRIC_NAME = "outbox_lag";
+
+  public static final String OUTBOX_HANDLED_EVENTS_METRIC_NAME = "outbox_handled_events";
+
+  public static final String OUTBOX_FAILED_EVENTS_METRIC_NAME = "outbox_failed_events";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
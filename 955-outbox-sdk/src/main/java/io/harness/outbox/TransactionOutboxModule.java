@@ -20,11 +20,13 @@ import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.api.impl.OutboxDaoImpl;
 import io.harness.outbox.api.impl.OutboxServiceImpl;
+import io.harness.outbox.monitor.OutboxEventHandlingStats;
 import io.harness.outbox.monitor.OutboxMetricsPublisher;
 import io.harness.persistence.HPersistence;
 import io.harness.springdata.HTransactionTemplate;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
 import com.google.inject.Provides;
 import com.google.inject.Scopes;
 import com.google.inject.Singleton;
@@ -93,6 +95,13 @@ public class TransactionOutboxModule extends AbstractModule {
     return serviceId;
   }
 
+  @Provides
+  @Singleton
+  public OutboxEventHandlingStats getOutboxEventHandlingStats(Injector injector) {
+    return new OutboxEventHandlingStats(
+        exportMetricsToStackDriver ? injector.getInstance(MetricService.class) : null, serviceId);
+  }
+
   private void registerRequiredBindings() {
     requireBinding(HPersistence.class);
     if (exportMetricsToStackDriver) {
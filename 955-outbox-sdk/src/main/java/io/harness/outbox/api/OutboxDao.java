@@ -27,5 +27,9 @@ public interface OutboxDao {
 
   Map<String, Long> countPerEventType(OutboxMetricsFilter outboxMetricsFilter);
 
+  Long getOldestCreatedAt(OutboxMetricsFilter outboxMetricsFilter);
+
   boolean delete(String outboxEventId);
+
+  long deleteAll(List<String> outboxEventIds);
 }
@@ -98,6 +98,18 @@ public class OutboxDaoImpl implements OutboxDao {
     return result;
   }
 
+  @Override
+  public Long getOldestCreatedAt(OutboxMetricsFilter outboxMetricsFilter) {
+    Criteria criteria = new Criteria();
+    if (outboxMetricsFilter != null && outboxMetricsFilter.getBlocked() != null) {
+      criteria = criteria.and(OutboxEventKeys.blocked).is(outboxMetricsFilter.getBlocked());
+    }
+    List<OutboxEvent> outboxEvents = outboxRepository.findAll(criteria,
+        getPageRequest(
+            PageRequest.builder().pageIndex(0).pageSize(1).sortOrders(DEFAULT_CREATED_AT_ASC_SORT_ORDER).build()));
+    return outboxEvents.isEmpty() ? null : outboxEvents.get(0).getCreatedAt();
+  }
+
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
     Criteria criteria = new Criteria();
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
@@ -114,4 +126,9 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxRepository.deleteAll(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+  }
 }
@@ -75,4 +75,12 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (outboxEventIds.isEmpty()) {
+      return 0;
+    }
+    return outboxDao.deleteAll(outboxEventIds);
+  }
 }
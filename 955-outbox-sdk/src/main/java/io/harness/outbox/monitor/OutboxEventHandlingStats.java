@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.outbox.monitor;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_FAILED_EVENTS_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_HANDLED_EVENTS_METRIC_NAME;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.monitor.context.OutboxContext;
+
+import javax.annotation.Nullable;
+
+/**
+ * Counts the outbox events handled by the poll job of this pod, one count per event and event type. Nothing is
+ * recorded when the outbox metrics are not exported.
+ */
+@OwnedBy(PL)
+public class OutboxEventHandlingStats {
+  private final MetricService metricService;
+  private final String serviceId;
+
+  public OutboxEventHandlingStats(@Nullable MetricService metricService, String serviceId) {
+    this.metricService = metricService;
+    this.serviceId = serviceId;
+  }
+
+  public void recordHandled(OutboxEvent outboxEvent, boolean success) {
+    if (metricService == null) {
+      return;
+    }
+    try (OutboxContext ignored = new OutboxContext(serviceId, outboxEvent.getEventType())) {
+      metricService.incCounter(success ? OUTBOX_HANDLED_EVENTS_METRIC_NAME : OUTBOX_FAILED_EVENTS_METRIC_NAME);
+    }
+  }
+}
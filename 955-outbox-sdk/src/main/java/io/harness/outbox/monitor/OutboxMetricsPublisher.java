@@ -10,6 +10,7 @@ package io.harness.outbox.monitor;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.ALL_EVENT_TYPES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_LAG_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_QUEUE_SIZE_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
@@ -29,6 +30,7 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
   private static final OutboxMetricsFilter BLOCKED_QUEUE_SIZE_FILTER =
       OutboxMetricsFilter.builder().blocked(true).build();
   private static final OutboxMetricsFilter QUEUE_SIZE_FILTER = OutboxMetricsFilter.builder().build();
+  private static final OutboxMetricsFilter PENDING_QUEUE_FILTER = OutboxMetricsFilter.builder().blocked(false).build();
   private final OutboxDao outboxDao;
   private final MetricService metricService;
   private final String serviceId;
@@ -46,6 +48,10 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
     try (OutboxContext ignored = new OutboxContext(serviceId, ALL_EVENT_TYPES)) {
       metricService.recordMetric(OUTBOX_QUEUE_SIZE_METRIC_NAME, outboxDao.count(QUEUE_SIZE_FILTER));
       metricService.recordMetric(OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME, outboxDao.count(BLOCKED_QUEUE_SIZE_FILTER));
+      // Age of the oldest event waiting to be handled, zero when the outbox is drained
+      Long oldestCreatedAt = outboxDao.getOldestCreatedAt(PENDING_QUEUE_FILTER);
+      metricService.recordMetric(
+          OUTBOX_LAG_METRIC_NAME, oldestCreatedAt == null ? 0 : System.currentTimeMillis() - oldestCreatedAt);
     }
 
     Map<String, Long> countPerEventType = outboxDao.countPerEventType(QUEUE_SIZE_FILTER);
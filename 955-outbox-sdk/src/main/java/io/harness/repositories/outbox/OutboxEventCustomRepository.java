@@ -22,5 +22,6 @@ import org.springframework.data.mongodb.core.query.Criteria;
 public interface OutboxEventCustomRepository {
   List<OutboxEvent> findAll(Criteria criteria, Pageable pageable);
   long count(Criteria criteria);
+  long deleteAll(Criteria criteria);
   <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn);
 }
@@ -39,6 +39,11 @@ public class OutboxEventCustomRepositoryImpl implements OutboxEventCustomReposit
     return mongoTemplate.count(new Query(criteria), OutboxEvent.class);
   }
 
+  @Override
+  public long deleteAll(Criteria criteria) {
+    return mongoTemplate.remove(new Query(criteria), OutboxEvent.class).getDeletedCount();
+  }
+
   @Override
   public <T> AggregationResults<T> aggregate(Aggregation aggregation, Class<T> classToFillResultIn) {
     return mongoTemplate.aggregate(aggregation, OutboxEvent.class, classToFillResultIn);
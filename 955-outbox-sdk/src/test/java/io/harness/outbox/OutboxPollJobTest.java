@@ -8,6 +8,8 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_FAILED_EVENTS_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_HANDLED_EVENTS_METRIC_NAME;
 import static io.harness.rule.OwnerRule.KARAN;
 
 import static java.util.Collections.singletonList;
@@ -17,6 +19,7 @@ import static junit.framework.TestCase.assertTrue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -28,10 +31,21 @@ import io.harness.category.element.UnitTests;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.maintenance.MaintenanceController;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.ng.core.Resource;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.monitor.OutboxEventHandlingStats;
 import io.harness.rule.Owner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -42,6 +56,7 @@ public class OutboxPollJobTest extends CategoryTest {
   private OutboxService outboxService;
   private OutboxEventHandler outboxEventHandler;
   private PersistentLocker persistentLocker;
+  private MetricService metricService;
   private OutboxEventPollJob outboxEventPollJob;
 
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
@@ -51,8 +66,10 @@ public class OutboxPollJobTest extends CategoryTest {
     outboxService = mock(OutboxService.class);
     outboxEventHandler = mock(OutboxEventHandler.class);
     persistentLocker = mock(PersistentLocker.class);
+    metricService = mock(MetricService.class);
     outboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker,
-        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").build());
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").build(),
+        new OutboxEventHandlingStats(metricService, "serviceId"));
     MaintenanceController.forceMaintenance(false);
   }
 
@@ -71,8 +88,10 @@ public class OutboxPollJobTest extends CategoryTest {
     when(outboxService.delete(id)).thenReturn(true);
     outboxEventPollJob.run();
     verify(outboxService, times(1)).delete(id);
+    verify(outboxService, times(0)).deleteAll(any());
     verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(0)).update(any());
+    verify(metricService, times(1)).incCounter(OUTBOX_HANDLED_EVENTS_METRIC_NAME);
   }
 
   @Test
@@ -90,11 +109,60 @@ public class OutboxPollJobTest extends CategoryTest {
     final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
     outboxEventPollJob.run();
     verify(outboxService, times(0)).delete(any());
+    verify(outboxService, times(0)).deleteAll(any());
     verify(outboxEventHandler, times(3)).handle(any());
     verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
     OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
     assertEquals(id, updateOutboxEvent.getId());
     assertTrue(updateOutboxEvent.getBlocked());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
+    verify(metricService, times(1)).incCounter(OUTBOX_FAILED_EVENTS_METRIC_NAME);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPartitionedHandling() {
+    OutboxEventPollJob partitionedOutboxEventPollJob = new OutboxEventPollJob(outboxService, outboxEventHandler,
+        persistentLocker,
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").partitionCount(4).build(),
+        new OutboxEventHandlingStats(null, "serviceId"));
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_"
+                                               + "LOCK_ID"),
+             any()))
+        .thenReturn(mock(AcquiredLock.class));
+    List<OutboxEvent> outboxEvents = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      Resource resource = Resource.builder().type("CONNECTOR").identifier("connector" + i % 5).build();
+      outboxEvents.add(
+          OutboxEvent.builder().eventType("emptyEvent").resource(resource).blocked(false).id("id" + i).build());
+    }
+    when(outboxService.list(any())).thenReturn(outboxEvents);
+    Map<String, List<String>> handledIdsPerResource = new ConcurrentHashMap<>();
+    when(outboxEventHandler.handle(any())).thenAnswer(invocation -> {
+      OutboxEvent outboxEvent = invocation.getArgument(0);
+      handledIdsPerResource
+          .computeIfAbsent(outboxEvent.getResource().getIdentifier(), identifier -> new CopyOnWriteArrayList<>())
+          .add(outboxEvent.getId());
+      return true;
+    });
+
+    partitionedOutboxEventPollJob.run();
+    partitionedOutboxEventPollJob.stop();
+
+    final ArgumentCaptor<List<String>> deletedIdsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(outboxService, atLeastOnce()).deleteAll(deletedIdsArgumentCaptor.capture());
+    Set<String> deletedIds = new HashSet<>();
+    deletedIdsArgumentCaptor.getAllValues().forEach(deletedIds::addAll);
+    assertEquals(20, deletedIds.size());
+    verify(outboxService, times(0)).delete(any());
+    assertEquals(5, handledIdsPerResource.size());
+    handledIdsPerResource.forEach((identifier, handledIds) -> {
+      int resourceIndex = Integer.parseInt(identifier.substring("connector".length()));
+      assertEquals(Arrays.asList("id" + resourceIndex, "id" + (resourceIndex + 5), "id" + (resourceIndex + 10),
+                       "id" + (resourceIndex + 15)),
+          handledIds);
+    });
+    verify(outboxService, times(0)).update(any());
   }
 }
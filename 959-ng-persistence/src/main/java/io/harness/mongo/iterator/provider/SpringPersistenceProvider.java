@@ -16,6 +16,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
+import io.harness.mongo.iterator.PartitionRange;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
 import com.mongodb.BasicDBObject;
@@ -126,6 +127,29 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     return docs.iterator();
   }
 
+  @Override
+  public Iterator<T> obtainNextInstances(Class<T> clazz, String fieldName, SpringFilterExpander filterExpander,
+      int limit, PartitionRange partitionRange) {
+    long now = currentTimeMillis();
+    Query query = createQuery(fieldName, filterExpander, false);
+    // The id range is combined with the iteration criteria under one $and, so that it never clashes with an _id
+    // criteria of the filter expander
+    List<Criteria> criteria = new ArrayList<>();
+    criteria.add(new Criteria().orOperator(Criteria.where(fieldName).lt(now), Criteria.where(fieldName).exists(false)));
+    if (partitionRange.getFromInclusive() != null) {
+      criteria.add(Criteria.where("_id").gte(partitionRange.getFromInclusive()));
+    }
+    if (partitionRange.getToExclusive() != null) {
+      criteria.add(Criteria.where("_id").lt(partitionRange.getToExclusive()));
+    }
+    query.addCriteria(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+    query.limit(limit);
+
+    List<T> docs = persistence.find(query, clazz);
+
+    return docs.iterator();
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
@@ -35,6 +35,11 @@ public class DelegateConfiguration {
   private boolean doUpgrade;
   private Integer maxCachedArtifacts;
   private boolean pollForTasks;
+  /*
+   * If true, a delegate polling for tasks gets them pushed over the task dispatch stream, polling only while the stream
+   * is down.
+   */
+  private boolean taskDispatchStreamEnabled;
   private String description;
 
   private String managerTarget;
@@ -29,6 +29,10 @@ public interface IteratorExecutionHandler {
     String iteratorMode;
     int redisBatchSize;
     int redisLockTimeout;
+    boolean adaptiveBatchSize;
+    int redisMinBatchSize;
+    int redisMaxBatchSize;
+    int redisPartitionCount;
   }
 
   /**
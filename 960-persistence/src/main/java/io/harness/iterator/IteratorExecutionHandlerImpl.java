@@ -235,12 +235,22 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
     if (redisLockTimeout == 0) {
       redisLockTimeout = REDIS_LOCK_TIMEOUT_SECONDS;
     }
+
+    // Bounds for the adaptive batch size - the configured batch size is the upper bound by default
+    // and the lower bound defaults to one doc per worker so that the workers are not starved.
+    int redisMaxBatchSize = config.getRedisMaxBatchSize() == 0 ? redisBatchSize : config.getRedisMaxBatchSize();
+    int redisMinBatchSize = config.getRedisMinBatchSize() == 0 ? Math.min(config.getThreadPoolSize(), redisMaxBatchSize)
+                                                              : config.getRedisMinBatchSize();
     iteratorHandlerMap.get(config.getName())
         .createAndStartRedisBatchIterator(PersistenceIteratorFactory.RedisBatchExecutorOptions.builder()
                                               .name(config.getName())
                                               .poolSize(config.getThreadPoolSize())
                                               .batchSize(redisBatchSize)
                                               .lockTimeout(redisLockTimeout)
+                                              .adaptiveBatchSize(config.isAdaptiveBatchSize())
+                                              .minBatchSize(redisMinBatchSize)
+                                              .maxBatchSize(redisMaxBatchSize)
+                                              .partitionCount(config.getRedisPartitionCount())
                                               .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
                                               .build(),
             getNextIterationInterval(config));
@@ -18,8 +18,10 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.config.WorkersConfiguration;
 import io.harness.lock.PersistentLocker;
 import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.mongo.iterator.AdaptiveBatchSizeController;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.MongoPersistenceIteratorBuilder;
+import io.harness.mongo.iterator.PartitionLeaseManager;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import com.codahale.metrics.InstrumentedExecutorService;
@@ -45,6 +47,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class PersistenceIteratorFactory {
   private static final SecureRandom random = new SecureRandom();
+  private static final Duration PARTITION_REBALANCE_INTERVAL = Duration.ofSeconds(30);
 
   @Inject Injector injector;
 
@@ -67,6 +70,10 @@ public final class PersistenceIteratorFactory {
     private int batchSize;
     private int lockTimeout;
     private Duration interval;
+    private boolean adaptiveBatchSize;
+    private int minBatchSize;
+    private int maxBatchSize;
+    private int partitionCount;
   }
 
   private String getWorkerDisabledLog(String className) {
@@ -157,6 +164,14 @@ public final class PersistenceIteratorFactory {
     ExecutorService mainExecutor =
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(iteratorName + "-Main").build());
 
+    // In partitioned mode the docs are split among the pods by leasing virtual partitions
+    // instead of serializing all the pods behind a single Redis lock.
+    PersistentLocker persistentLocker = injector.getInstance(Key.get(PersistentLocker.class));
+    PartitionLeaseManager partitionLeaseManager = options.getPartitionCount() > 0
+        ? new PartitionLeaseManager(
+            persistentLocker, options.getName(), options.getPartitionCount(), PARTITION_REBALANCE_INTERVAL)
+        : null;
+
     MongoPersistenceIterator<T, F> iterator =
         builder.mode(REDIS_BATCH)
             .executorService(mainExecutor)
@@ -166,7 +181,9 @@ public final class PersistenceIteratorFactory {
             .threadPoolIntervalInSeconds(options.interval)
             .redisModeBatchSize(options.getBatchSize())
             .redisLockTimeout(options.getLockTimeout())
-            .persistentLocker(injector.getInstance(Key.get(PersistentLocker.class)))
+            .batchSizeController(createBatchSizeController(options))
+            .persistentLocker(persistentLocker)
+            .partitionLeaseManager(partitionLeaseManager)
             .build();
     injector.injectMembers(iterator);
 
@@ -175,4 +192,14 @@ public final class PersistenceIteratorFactory {
 
     return iterator;
   }
+
+  /**
+   * Helper method to create the batch size controller of a Redis Batch mode iterator.
+   * Without adaptive batch sizing the configured batch size is used as is.
+   */
+  private AdaptiveBatchSizeController createBatchSizeController(RedisBatchExecutorOptions options) {
+    boolean adaptive = options.isAdaptiveBatchSize() && options.getMaxBatchSize() != 0;
+    int maxBatchSize = adaptive ? options.getMaxBatchSize() : options.getBatchSize();
+    return new AdaptiveBatchSizeController(adaptive, options.getPoolSize(), options.getMinBatchSize(), maxBatchSize);
+  }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.lock;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Locks acquired together and released together, in the reverse order of their acquisition.
+ */
+@OwnedBy(PL)
+@Value
+@Builder
+public class CompositeAcquiredLock implements AcquiredLock<Lock> {
+  @Singular List<AcquiredLock> locks;
+
+  @Override
+  public Lock getLock() {
+    // A group of locks has no single underlying lock
+    return null;
+  }
+
+  @Override
+  public void release() {
+    for (int i = locks.size() - 1; i >= 0; i--) {
+      locks.get(i).release();
+    }
+  }
+
+  @Override
+  public void close() {
+    release();
+  }
+}
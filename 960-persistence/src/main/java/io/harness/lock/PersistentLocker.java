@@ -12,6 +12,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import io.harness.annotations.dev.OwnedBy;
 
 import java.time.Duration;
+import java.util.Collection;
 
 /**
  * Locker interface to acquire and release locks.
@@ -86,6 +87,15 @@ public interface PersistentLocker {
    */
   AcquiredLock tryToAcquireInfiniteLockWithPeriodicRefresh(String name, Duration waitTime);
 
+  /**
+   * Whether tryToAcquireInfiniteLockWithPeriodicRefresh is supported by this locker.
+   *
+   * @return true if infinite locks can be acquired
+   */
+  default boolean supportsInfiniteLocks() {
+    return true;
+  }
+
   /**
    * Try to acquire ephemeral lock.
    *
@@ -108,6 +118,15 @@ public interface PersistentLocker {
 
   AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout);
 
+  /**
+   * Acquire all the locks or none of them.
+   *
+   * @param names   the lock names
+   * @param timeout for how long to keep the locks if the app crashes
+   * @return AcquiredLock object releasing all the locks
+   */
+  AcquiredLock acquireLocks(Collection<String> names, Duration timeout);
+
   /**
    * Destroy lock.
    *
@@ -24,6 +24,7 @@ import io.harness.exception.PersistentLockException;
 import io.harness.exception.WingsException;
 import io.harness.health.HealthMonitor;
 import io.harness.lock.AcquiredLock;
+import io.harness.lock.CompositeAcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.lock.mongo.AcquiredDistributedLock.AcquiredDistributedLockBuilder;
 import io.harness.lock.mongo.AcquiredDistributedLock.CloseAction;
@@ -38,6 +39,10 @@ import com.google.inject.Inject;
 import com.mongodb.BasicDBObject;
 import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -128,6 +133,11 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
     throw new UnsupportedOperationException("Unsupported.");
   }
 
+  @Override
+  public boolean supportsInfiniteLocks() {
+    return false;
+  }
+
   @Override
   public AcquiredLock tryToAcquireEphemeralLock(String name, Duration timeout) {
     try {
@@ -162,6 +172,21 @@ public class MongoPersistentLocker implements PersistentLocker, HealthMonitor, M
     }
   }
 
+  @Override
+  public AcquiredLock acquireLocks(Collection<String> names, Duration timeout) {
+    // Acquired in a consistent order so that two callers with overlapping names do not deadlock
+    List<AcquiredLock> acquired = new ArrayList<>();
+    try {
+      for (String name : new TreeSet<>(names)) {
+        acquired.add(acquireLock(name, timeout));
+      }
+    } catch (RuntimeException ex) {
+      CompositeAcquiredLock.builder().locks(acquired).build().release();
+      throw ex;
+    }
+    return CompositeAcquiredLock.builder().locks(acquired).build();
+  }
+
   @Override
   public void destroy(AcquiredLock acquiredLock) {
     Lock lock = acquiredLock.getLock();
@@ -15,6 +15,7 @@ import io.harness.lock.PersistentLocker;
 
 import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
+import java.util.Collection;
 
 @OwnedBy(PL)
 public class PersistentNoopLocker implements PersistentLocker, Managed {
@@ -69,6 +70,11 @@ public class PersistentNoopLocker implements PersistentLocker, Managed {
     return new AcquiredNoopLock();
   }
 
+  @Override
+  public AcquiredLock acquireLocks(Collection<String> names, Duration timeout) {
+    return new AcquiredNoopLock();
+  }
+
   @Override
   public void destroy(AcquiredLock acquiredLock) {
     // Nothing to do
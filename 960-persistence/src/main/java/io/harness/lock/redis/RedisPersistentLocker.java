@@ -22,7 +22,9 @@ import io.harness.exception.UnexpectedException;
 import io.harness.exception.WingsException;
 import io.harness.health.HealthMonitor;
 import io.harness.lock.AcquiredLock;
+import io.harness.lock.CompositeAcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 
@@ -31,8 +33,17 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import io.dropwizard.lifecycle.Managed;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RFuture;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 
@@ -44,6 +55,9 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
   private String lockNamespace;
   private static final String LOCK_PREFIX = "locks";
   private static final String ERROR_MESSAGE = "Failed to acquire distributed lock for %s";
+  private static final int MAX_LOCK_FAMILY_LENGTH = 64;
+
+  @Inject(optional = true) private PersistenceMetricsServiceImpl persistenceMetricsService;
 
   @Inject
   RedisPersistentLocker(@Named("lock") RedisConfig redisLockConfig) {
@@ -57,8 +71,31 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
     return lockNamespace.concat(name);
   }
 
+  // The lock names end with the id of the locked entity, the metrics are labeled with the part before it only
+  private static String getLockFamily(String name) {
+    int end = name.length();
+    for (char separator : new char[] {'/', ':', '-', '_'}) {
+      int index = name.indexOf(separator);
+      if (index > 0 && index < end) {
+        end = index;
+      }
+    }
+    return name.substring(0, Math.min(end, MAX_LOCK_FAMILY_LENGTH));
+  }
+
+  private void recordContention(String name) {
+    recordContentionOfFamily(getLockFamily(name));
+  }
+
+  private void recordContentionOfFamily(String lockFamily) {
+    if (persistenceMetricsService != null) {
+      persistenceMetricsService.recordLockContention(lockFamily);
+    }
+  }
+
   @Override
   public AcquiredLock acquireLock(String name, Duration timeout) {
+    String requestedName = name;
     try {
       name = getLockName(name);
       RLock lock = client.getLock(name);
@@ -80,6 +117,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
     } catch (Exception ex) {
       throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
     }
+    recordContention(requestedName);
     throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
   }
 
@@ -157,6 +195,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout) {
+    String requestedName = name;
     try {
       name = getLockName(name);
       RLock lock = client.getLock(name);
@@ -177,9 +216,94 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
     } catch (Exception ex) {
       throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
     }
+    recordContention(requestedName);
     throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
   }
 
+  @Override
+  public AcquiredLock acquireLocks(Collection<String> names, Duration timeout) {
+    // Sorted so that two callers with overlapping names do not hold each other back
+    SortedMap<String, String> lockNames = new TreeMap<>();
+    names.forEach(name -> lockNames.put(getLockName(name), name));
+    String description = String.join(",", lockNames.keySet());
+    Set<String> refused = new LinkedHashSet<>();
+    try {
+      AcquiredLock acquiredLocks = tryLockAll(lockNames, timeout, refused);
+      if (acquiredLocks != null) {
+        return acquiredLocks;
+      }
+    } catch (InterruptedException iex) {
+      log.error(format(ERROR_MESSAGE, description), iex);
+      Thread.currentThread().interrupt();
+    } catch (Exception ex) {
+      throw new UnexpectedException(format(ERROR_MESSAGE, description), ex);
+    }
+    // One failed call is one contention, counted against the lock families that were refused
+    refused.stream().map(RedisPersistentLocker::getLockFamily).distinct().forEach(this::recordContentionOfFamily);
+    throw new PersistentLockException(format(ERROR_MESSAGE, description), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+  }
+
+  // All the locks are requested at once, and the ones obtained are released if any other is missing. The requested
+  // names of the locks refused are added to refused.
+  private AcquiredLock tryLockAll(Map<String, String> lockNames, Duration timeout, Set<String> refused)
+      throws Exception {
+    long threadId = Thread.currentThread().getId();
+    List<RLock> locks = new ArrayList<>();
+    List<String> requestedNames = new ArrayList<>();
+    List<RFuture<Boolean>> futures = new ArrayList<>();
+    for (Map.Entry<String, String> lockName : lockNames.entrySet()) {
+      RLock lock = client.getLock(lockName.getKey());
+      locks.add(lock);
+      requestedNames.add(lockName.getValue());
+      futures.add(lock.tryLockAsync(0, timeout.toMillis(), TimeUnit.MILLISECONDS, threadId));
+    }
+    // The locks refused are dropped as soon as redis answers, the others may be held until then
+    List<RLock> held = new ArrayList<>(locks);
+    boolean answered = false;
+    try {
+      for (int i = 0; i < futures.size(); i++) {
+        if (!futures.get(i).get(1, TimeUnit.SECONDS)) {
+          held.remove(locks.get(i));
+          refused.add(requestedNames.get(i));
+        }
+      }
+      answered = true;
+    } finally {
+      if (!answered || !refused.isEmpty()) {
+        releaseRedisLocks(held, threadId);
+      }
+    }
+    if (!refused.isEmpty()) {
+      return null;
+    }
+    boolean isSentinelMode = client.getConfig().isSentinelConfig();
+    List<AcquiredLock> acquiredLocks = new ArrayList<>();
+    for (RLock lock : locks) {
+      acquiredLocks.add(RedisAcquiredLock.builder().lock(lock).isSentinelMode(isSentinelMode).build());
+    }
+    return CompositeAcquiredLock.builder().locks(acquiredLocks).build();
+  }
+
+  // Waits for redis to release the locks, so the caller does not race with its own partial acquisition when retrying
+  private void releaseRedisLocks(List<RLock> locks, long threadId) {
+    List<RFuture<Void>> futures = new ArrayList<>();
+    for (RLock lock : locks) {
+      futures.add(lock.unlockAsync(threadId));
+    }
+    for (int i = 0; i < futures.size(); i++) {
+      try {
+        futures.get(i).get(1, TimeUnit.SECONDS);
+      } catch (InterruptedException iex) {
+        log.error("Interrupted while releasing the lock {}", locks.get(i).getName(), iex);
+        Thread.currentThread().interrupt();
+        return;
+      } catch (Exception ex) {
+        // A lock still held expires with its lease timeout
+        log.error("Failed to release the lock {}", locks.get(i).getName(), ex);
+      }
+    }
+  }
+
   @Override
   public void destroy(AcquiredLock acquiredLock) {
     acquiredLock.close();
@@ -197,7 +321,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public void isHealthy() {
-    try (AcquiredLock dummy = acquireEphemeralLock("HEALTH_CHECK - " + generateUuid(), ofSeconds(1))) {
+    try (AcquiredLock dummy = acquireLock("HEALTH_CHECK - " + generateUuid(), ofSeconds(1))) {
       // nothing to do
     }
   }
@@ -10,6 +10,7 @@ package io.harness.metrics.impl;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.beans.IteratorMetricContext;
+import io.harness.metrics.beans.LockMetricContext;
 import io.harness.metrics.beans.RedisTopicContext;
 import io.harness.metrics.service.api.MetricService;
 
@@ -28,7 +29,11 @@ public class PersistenceMetricsServiceImpl {
   public static final String ITERATOR_DELAY = "iterator_delay";
   public static final String ITERATOR_WORKING_ON_ENTITY = "iterator_working_on_entity";
   public static final String ITERATOR_PROCESSING_TIME = "iterator_processing_time";
+  public static final String ITERATOR_THROUGHPUT = "iterator_throughput";
+  public static final String ITERATOR_LAG = "iterator_lag";
+  public static final String ITERATOR_BATCH_SIZE = "iterator_batch_size";
   public static final String REDIS_SUBSCRIPTION_CNT = "redis_subscription_count";
+  public static final String LOCK_CONTENTION = "lock_contention";
 
   private final MetricService metricService;
 
@@ -43,9 +48,21 @@ public class PersistenceMetricsServiceImpl {
     }
   }
 
+  public void recordIteratorMetricsWithValue(String iteratorName, double value, String metricName) {
+    try (IteratorMetricContext ignore = new IteratorMetricContext(iteratorName)) {
+      metricService.recordMetric(metricName, value);
+    }
+  }
+
   public void recordRedisMetric(final String metric, final String topicName, final double value) {
     try (RedisTopicContext ignore = new RedisTopicContext(topicName)) {
       metricService.recordMetric(metric, value);
     }
   }
+
+  public void recordLockContention(final String lockName) {
+    try (LockMetricContext ignore = new LockMetricContext(lockName)) {
+      metricService.incCounter(LOCK_CONTENTION);
+    }
+  }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Controller that computes the number of docs the Redis Batch mode iterator should fetch in its next round.
+ *
+ * The controller keeps exponentially weighted moving averages of -
+ *  1. The time a worker spends handling a single entity.
+ *  2. The time the main thread spends on one round (lock, fetch and bulk update).
+ *  3. The rate at which the workers drain the jobQ.
+ *
+ * The next batch size is the number of entities the workers are expected to complete while the next
+ * round is in flight, minus what is already waiting in the jobQ. The change from one round to the next
+ * is bounded by the multiply factor so that the batch size converges instead of oscillating, and the
+ * result is always clamped to the configured [minBatchSize, maxBatchSize] bounds.
+ *
+ * When adaptive sizing is disabled the controller falls back to the static computation, but still
+ * measures the throughput so that it can be published for every Redis Batch mode iterator.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class AdaptiveBatchSizeController {
+  private static final double EWMA_WEIGHT = 0.2; // The weight given to the newest sample
+  private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The maximum factor by which the batchSize can change
+
+  private final boolean adaptive;
+  private final int poolSize;
+  @Getter private final int minBatchSize;
+  @Getter private final int maxBatchSize;
+
+  private double handlerLatencyMillis;
+  private double roundTimeMillis;
+  private double drainRatePerSecond;
+  private long processedCount;
+  private long lastProcessedCount;
+  private long lastSampleTime;
+  @Getter private int batchSize;
+
+  public AdaptiveBatchSizeController(boolean adaptive, int poolSize, int minBatchSize, int maxBatchSize) {
+    this.adaptive = adaptive;
+    this.poolSize = Math.max(1, poolSize);
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.minBatchSize = Math.max(1, Math.min(minBatchSize, this.maxBatchSize));
+    this.batchSize = this.maxBatchSize;
+  }
+
+  /**
+   * Records the time a worker took to handle one entity.
+   * @param millis handler latency in milliseconds
+   */
+  public synchronized void recordHandlerLatency(long millis) {
+    processedCount++;
+    handlerLatencyMillis = ewma(handlerLatencyMillis, millis);
+  }
+
+  /**
+   * Records the time the main thread took for a round - lock acquisition, fetch and bulk update.
+   * @param millis round time in milliseconds
+   */
+  public synchronized void recordRoundTime(long millis) {
+    roundTimeMillis = ewma(roundTimeMillis, millis);
+  }
+
+  /**
+   * @return the measured throughput of the workers in entities per second
+   */
+  public synchronized double getThroughput() {
+    return drainRatePerSecond;
+  }
+
+  /**
+   * Computes the batch size for the next round.
+   *
+   * @param queueSize the number of docs still waiting in the worker jobQ
+   * @param now the current time in milliseconds
+   * @return the number of docs to fetch, a non-positive value means the jobQ is full
+   */
+  public synchronized int nextBatchSize(int queueSize, long now) {
+    sampleDrainRate(now);
+
+    if (!adaptive) {
+      return Math.min(maxBatchSize, maxBatchSize - queueSize);
+    }
+
+    if (queueSize >= maxBatchSize) {
+      return 0;
+    }
+
+    // Workers keep the estimated number of entities busy during one round, based on both the
+    // measured handler latency and the observed drain rate - the larger of the two wins.
+    double roundMillis = Math.max(1, roundTimeMillis);
+    double latencyEstimate = handlerLatencyMillis <= 0 ? 0 : poolSize * roundMillis / handlerLatencyMillis;
+    double drainEstimate = drainRatePerSecond * roundMillis / 1000;
+    int target = (int) Math.ceil(Math.max(latencyEstimate, drainEstimate)) + poolSize - queueSize;
+
+    int upper = Math.min(maxBatchSize, batchSize * BATCH_SIZE_MULTIPLY_FACTOR);
+    int lower = Math.max(minBatchSize, batchSize / BATCH_SIZE_MULTIPLY_FACTOR);
+    batchSize = Math.max(lower, Math.min(upper, target));
+    return Math.min(batchSize, maxBatchSize - queueSize);
+  }
+
+  private void sampleDrainRate(long now) {
+    if (lastSampleTime != 0 && now > lastSampleTime) {
+      double rate = (processedCount - lastProcessedCount) * 1000.0 / (now - lastSampleTime);
+      drainRatePerSecond = ewma(drainRatePerSecond, rate);
+    }
+    lastSampleTime = now;
+    lastProcessedCount = processedCount;
+  }
+
+  private static double ewma(double current, double sample) {
+    return current == 0 ? sample : (1 - EWMA_WEIGHT) * current + EWMA_WEIGHT * sample;
+  }
+}
@@ -11,9 +11,12 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_BATCH_SIZE;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_LAG;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_THROUGHPUT;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR_SKIP_MISSED;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
@@ -67,7 +70,6 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private static final String SEMAPHORE_ACQUIRE_ERROR = "Working on entity was interrupted";
   private static final int LOCK_WAIT_TIMEOUT_SECONDS =
       5; // The lockWaitTimeout is the duration to wait to acquire a lock
-  private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_BATCH_PAUSE_DURATION = 5; // The duration by which to pause if worker JobQ is full
 
   @Inject private final QueueController queueController;
@@ -88,6 +90,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private Duration throttleInterval;
   private int redisModeBatchSize;
   private int redisLockTimeout;
+  private AdaptiveBatchSizeController batchSizeController;
+  private PartitionLeaseManager partitionLeaseManager;
   private Handler<T> handler;
   @Getter private ExecutorService executorService;
   @Getter private ScheduledThreadPoolExecutor workerThreadPoolExecutor;
@@ -292,6 +296,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
    *
    *  1. Update the batch-size by finding a limit which will take into account the number
    *     of docs still not processed in the jobQ which ensures that the Q doesn't overflow.
+   *     With adaptive batch sizing the limit is tuned by the batch size controller from the
+   *     measured handler latency, jobQ drain rate and round time.
    *  2. If the batch-size limit is not positive then pause for a while. This allows the
    *     workers to process the remaining docs in the jobQ and doesn't cause Q overflow.
    *  3. Try to acquire a Redis distributed lock so that this process gets an exclusive
@@ -304,8 +310,22 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
    *     the nextIteration fields of these docs in bulk using Mongo's bulkWrite operation.
    *  7. Release the Redis distributed lock so that the other processes can work on another
    *     batch of Mongo docs.
+   *
+   * In partitioned mode the docs are split into virtual partitions by their id and every pod
+   * leases a share of the partitions. Instead of the global Redis lock in steps 3 and 7, each pod
+   * fetches only the docs of the partitions it currently owns, thus the pods work in parallel.
    */
   public void redisBatchProcess() {
+    try {
+      redisBatchProcessLoop();
+    } finally {
+      if (partitionLeaseManager != null) {
+        partitionLeaseManager.releaseAll();
+      }
+    }
+  }
+
+  private void redisBatchProcessLoop() {
     long movingAverage = 0;
     long previous = 0;
 
@@ -325,7 +345,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
       // Compute a limit value that takes into account the number of unprocessed
       // docs in the jobQ to ensure that the Q doesn't overflow.
-      int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
+      int limit = computeBatchLimit(base);
 
       if (limit <= 0) {
         // The Queue is full, so try after sometime
@@ -334,6 +354,16 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
         continue;
       }
 
+      List<PartitionRange> partitionRanges = null;
+      if (partitionLeaseManager != null) {
+        partitionRanges = partitionLeaseManager.obtainOwnedRanges(currentTimeMillis());
+        if (partitionRanges.isEmpty()) {
+          // This process doesn't own any partition at the moment, try again after a while
+          sleep(threadPoolIntervalInSeconds);
+          continue;
+        }
+      }
+
       long totalTimeStart = currentTimeMillis();
       long startTime = currentTimeMillis();
 
@@ -341,33 +371,43 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
       long processTime = 0;
       List<String> docIds = new ArrayList<>();
       try {
-        // Acquire the distributed lock
-        acquiredLock = acquireLock();
+        // Acquire the distributed lock - the partitions are already leased exclusively in partitioned mode
+        if (partitionRanges == null) {
+          acquiredLock = acquireLock();
 
-        processTime = currentTimeMillis() - startTime;
-        log.debug("Redis Batch Iterator Mode - time to acquire Redis lock {}", processTime);
+          processTime = currentTimeMillis() - startTime;
+          log.debug("Redis Batch Iterator Mode - time to acquire Redis lock {}", processTime);
+        }
 
         startTime = currentTimeMillis();
-        Iterator<T> docItr = persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit);
+        Iterator<T> docItr = obtainNextInstances(limit, partitionRanges);
         processTime = currentTimeMillis() - startTime;
         log.debug("Redis Batch Iterator Mode - time to acquire {} docs is {}", limit, processTime);
 
         // Iterate over the fetched documents - submit it to workers and prepare bulkWrite operations
+        long lag = 0;
         while (docItr.hasNext()) {
           T entity = docItr.next();
+          lag = Math.max(lag, computeLag(entity, base));
           submitEntityForProcessingWithoutWait(entity);
           docIds.add(entity.getUuid());
         }
+        iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, lag, ITERATOR_LAG);
 
         // Update the documents next iteration field
         updateDocumentNextIteration(docIds, base);
 
       } finally {
-        // Release the distributed lock - acquiredLock cannot be null
-        releaseLock(acquiredLock);
+        // Release the distributed lock - acquiredLock is null only in partitioned mode
+        if (acquiredLock != null) {
+          releaseLock(acquiredLock);
+        }
 
         processTime = currentTimeMillis() - totalTimeStart;
         log.debug("Redis Batch Iterator Mode - time to carryout the entire processing is {}", processTime);
+        if (batchSizeController != null) {
+          batchSizeController.recordRoundTime(processTime);
+        }
       }
 
       // If there were no docs available then sleep for
@@ -403,6 +443,52 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  /**
+   * Method to fetch the next batch of docs, in partitioned mode only the docs of the owned partitions are fetched.
+   * @param limit the maximum number of docs to fetch
+   * @param partitionRanges the id ranges of the owned partitions, null if the iterator is not partitioned
+   * @return Iterator over the fetched docs
+   */
+  private Iterator<T> obtainNextInstances(int limit, List<PartitionRange> partitionRanges) {
+    if (partitionRanges == null) {
+      return persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit);
+    }
+
+    List<T> docs = new ArrayList<>();
+    for (PartitionRange partitionRange : partitionRanges) {
+      int remaining = limit - docs.size();
+      if (remaining <= 0) {
+        break;
+      }
+      persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, remaining, partitionRange)
+          .forEachRemaining(docs::add);
+    }
+    return docs.iterator();
+  }
+
+  /**
+   * Method to compute the number of docs to fetch in the next round.
+   * @param now the current time in milliseconds
+   * @return the number of docs to fetch, a non-positive value means the worker jobQ is full
+   */
+  private int computeBatchLimit(long now) {
+    int queueSize = workerThreadPoolExecutor.getQueue().size();
+    if (batchSizeController == null) {
+      return Math.min(redisModeBatchSize, redisModeBatchSize - queueSize);
+    }
+
+    int limit = batchSizeController.nextBatchSize(queueSize, now);
+    iteratorMetricsService.recordIteratorMetricsWithValue(
+        iteratorName, batchSizeController.getThroughput(), ITERATOR_THROUGHPUT);
+    iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, Math.max(limit, 0), ITERATOR_BATCH_SIZE);
+    return limit;
+  }
+
+  private long computeLag(T entity, long base) {
+    Long nextIteration = entity.obtainNextIteration(fieldName);
+    return (nextIteration == null || nextIteration == 0) ? 0 : Math.max(0, base - nextIteration);
+  }
+
   private long movingAvg(long current, long sample) {
     return (SIMPLE_MOVING_AVG_MULTIPLIER * current + sample) / SIMPLE_MOVING_AVG_DIVISOR;
   }
@@ -444,6 +530,9 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         // Update the iterator metric for ITERATOR_PROCESSING_TIME
         updateIteratorMetricProcessingTime(processTime);
+        if (batchSizeController != null) {
+          batchSizeController.recordHandlerLatency(processTime);
+        }
       }
     }
   }
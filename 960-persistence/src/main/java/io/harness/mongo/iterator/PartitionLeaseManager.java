@@ -0,0 +1,201 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static java.time.Duration.ofSeconds;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.PersistentLockException;
+import io.harness.lock.AcquiredLock;
+import io.harness.lock.PersistentLocker;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Leases the virtual partitions of a partitioned iterator to the pods running it.
+ *
+ *  1. Every pod holds a member slot lock, the set of held member slots is the set of live pods.
+ *  2. On every rebalance a pod probes the member slots to find the live pods and its own rank
+ *     among them. The rank decides the contiguous block of partitions this pod should own.
+ *  3. A pod releases the partitions it should no longer own and tries to lease the ones it
+ *     should own. A partition still leased by its previous owner is picked up on a later
+ *     rebalance, so a partition is never processed by two pods at the same time.
+ *
+ * The member and partition locks are infinite locks with periodic refresh, thus the leases of a
+ * pod that goes away expire on their own and its partitions are taken over by the remaining pods.
+ * All the methods have to be called from the same thread since the locks are owned by a thread.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class PartitionLeaseManager {
+  private static final Duration PROBE_TIMEOUT = ofSeconds(1); // The lockTimeout used to probe a member slot
+  private static final Duration NO_WAIT = ofSeconds(0);
+  private static final String LOCK_PREFIX = "IteratorPartition-";
+
+  private final PersistentLocker persistentLocker;
+  private final String iteratorName;
+  private final int partitionCount;
+  private final Duration rebalanceInterval;
+
+  private int memberSlot = -1;
+  private AcquiredLock memberLock;
+  private final Map<Integer, AcquiredLock> partitionLocks = new TreeMap<>();
+  private List<PartitionRange> ownedRanges = Collections.emptyList();
+  private long nextRebalance;
+
+  public PartitionLeaseManager(
+      PersistentLocker persistentLocker, String iteratorName, int partitionCount, Duration rebalanceInterval) {
+    if (!persistentLocker.supportsInfiniteLocks()) {
+      throw new UnsupportedOperationException(
+          "Partitioned iterator " + iteratorName + " needs a persistent locker supporting infinite locks");
+    }
+    this.persistentLocker = persistentLocker;
+    this.iteratorName = iteratorName;
+    this.partitionCount = Math.max(1, Math.min(partitionCount, PartitionRange.MAX_PARTITIONS));
+    this.rebalanceInterval = rebalanceInterval;
+  }
+
+  /**
+   * Returns the id ranges owned by this pod, rebalancing the partitions if the rebalance interval elapsed.
+   * @param now the current time in milliseconds
+   * @return the owned id ranges, empty if this pod owns no partition
+   */
+  public List<PartitionRange> obtainOwnedRanges(long now) {
+    if (now >= nextRebalance) {
+      try {
+        rebalance();
+      } catch (RuntimeException ex) {
+        log.error("Failed to rebalance the partitions of iterator {}", iteratorName, ex);
+      }
+      nextRebalance = now + rebalanceInterval.toMillis();
+    }
+    return ownedRanges;
+  }
+
+  /**
+   * Releases all the leases held by this pod.
+   */
+  public void releaseAll() {
+    for (Iterator<AcquiredLock> locks = partitionLocks.values().iterator(); locks.hasNext();) {
+      release(locks.next());
+      locks.remove();
+    }
+    if (memberLock != null) {
+      release(memberLock);
+      memberLock = null;
+      memberSlot = -1;
+    }
+    ownedRanges = Collections.emptyList();
+  }
+
+  private void rebalance() {
+    if (memberLock == null && !acquireMemberSlot()) {
+      // There are more pods than partitions, this pod stays idle until a slot frees up.
+      releasePartitionsOutside(0, 0);
+      return;
+    }
+
+    int liveMembers = 1;
+    int rank = 0;
+    for (int slot = 0; slot < partitionCount; slot++) {
+      if (slot != memberSlot && isMemberSlotHeld(slot)) {
+        liveMembers++;
+        if (slot < memberSlot) {
+          rank++;
+        }
+      }
+    }
+
+    int first = rank * partitionCount / liveMembers;
+    int last = (rank + 1) * partitionCount / liveMembers;
+    releasePartitionsOutside(first, last);
+    for (int partition = first; partition < last; partition++) {
+      if (!partitionLocks.containsKey(partition)) {
+        AcquiredLock lock = tryToAcquireInfiniteLock(partitionLockName(partition));
+        if (lock != null) {
+          partitionLocks.put(partition, lock);
+        }
+      }
+    }
+
+    ownedRanges = PartitionRange.forPartitions(partitionLocks.keySet(), partitionCount);
+    log.info("Iterator {} owns partitions {} of {} with {} live members", iteratorName, partitionLocks.keySet(),
+        partitionCount, liveMembers);
+  }
+
+  private boolean acquireMemberSlot() {
+    for (int slot = 0; slot < partitionCount; slot++) {
+      AcquiredLock lock = tryToAcquireInfiniteLock(memberLockName(slot));
+      if (lock != null) {
+        memberSlot = slot;
+        memberLock = lock;
+        return true;
+      }
+    }
+    log.warn("No free member slot for iterator {} - all {} partitions are owned by other pods", iteratorName,
+        partitionCount);
+    return false;
+  }
+
+  private boolean isMemberSlotHeld(int slot) {
+    AcquiredLock probe = persistentLocker.tryToAcquireLock(memberLockName(slot), PROBE_TIMEOUT);
+    if (probe == null) {
+      return true;
+    }
+    release(probe);
+    return false;
+  }
+
+  private void releasePartitionsOutside(int first, int last) {
+    List<Integer> released = new ArrayList<>();
+    for (Map.Entry<Integer, AcquiredLock> entry : partitionLocks.entrySet()) {
+      if (entry.getKey() < first || entry.getKey() >= last) {
+        release(entry.getValue());
+        released.add(entry.getKey());
+      }
+    }
+    released.forEach(partitionLocks::remove);
+    ownedRanges = PartitionRange.forPartitions(partitionLocks.keySet(), partitionCount);
+  }
+
+  private AcquiredLock tryToAcquireInfiniteLock(String name) {
+    try {
+      return persistentLocker.tryToAcquireInfiniteLockWithPeriodicRefresh(name, NO_WAIT);
+    } catch (PersistentLockException ex) {
+      log.debug("Lock {} is held by another pod", name);
+      return null;
+    } catch (RuntimeException ex) {
+      log.error("Failed to acquire the lock {} of iterator {}", name, iteratorName, ex);
+      return null;
+    }
+  }
+
+  private void release(AcquiredLock lock) {
+    try {
+      lock.release();
+    } catch (RuntimeException ex) {
+      log.warn("Failed to release a partition lease of iterator {}", iteratorName, ex);
+    }
+  }
+
+  private String memberLockName(int slot) {
+    return LOCK_PREFIX + iteratorName + "-member-" + slot;
+  }
+
+  private String partitionLockName(int partition) {
+    return LOCK_PREFIX + iteratorName + "-" + partition;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A contiguous range of document ids owned by a partitioned iterator.
+ *
+ * Document ids generated by UUIDGenerator are random base64 url-safe strings, so the first character
+ * of the id is uniformly distributed over the 64 characters of the alphabet. A virtual partition is a
+ * contiguous slice of that alphabet, which allows a partition to be expressed as a plain _id range
+ * query. The lowest partition is open at the bottom and the highest one is open at the top so that
+ * every string id belongs to exactly one partition.
+ */
+@Value
+@Builder
+public class PartitionRange {
+  // The base64 url-safe alphabet in ascending ASCII order
+  static final String ID_ALPHABET = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+  public static final int MAX_PARTITIONS = ID_ALPHABET.length();
+
+  String fromInclusive; // null means the range is open at the bottom
+  String toExclusive; // null means the range is open at the top
+
+  /**
+   * Computes the partition of a document id.
+   * @param id the document id
+   * @param partitionCount the total number of partitions
+   * @return the partition, between 0 and partitionCount - 1
+   */
+  public static int partitionOf(String id, int partitionCount) {
+    int index = 0;
+    if (id != null && !id.isEmpty()) {
+      char first = id.charAt(0);
+      // Characters outside the alphabet fall into the open ended partitions
+      if (first > ID_ALPHABET.charAt(MAX_PARTITIONS - 1)) {
+        index = MAX_PARTITIONS - 1;
+      } else {
+        for (int i = MAX_PARTITIONS - 1; i >= 0; i--) {
+          if (first >= ID_ALPHABET.charAt(i)) {
+            index = i;
+            break;
+          }
+        }
+      }
+    }
+    for (int partition = partitionCount - 1; partition > 0; partition--) {
+      if (index >= lowerIndex(partition, partitionCount)) {
+        return partition;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Builds the id ranges covering the given partitions, merging the adjacent ones.
+   * @param partitions the owned partitions
+   * @param partitionCount the total number of partitions
+   * @return the id ranges, empty if there are no partitions
+   */
+  public static List<PartitionRange> forPartitions(Collection<Integer> partitions, int partitionCount) {
+    List<PartitionRange> ranges = new ArrayList<>();
+    int start = -1;
+    int previous = -1;
+    for (int partition : new TreeSet<>(partitions)) {
+      if (start == -1) {
+        start = partition;
+      } else if (partition != previous + 1) {
+        ranges.add(rangeOf(start, previous, partitionCount));
+        start = partition;
+      }
+      previous = partition;
+    }
+    if (start != -1) {
+      ranges.add(rangeOf(start, previous, partitionCount));
+    }
+    return ranges;
+  }
+
+  private static PartitionRange rangeOf(int first, int last, int partitionCount) {
+    return PartitionRange.builder()
+        .fromInclusive(first == 0 ? null : String.valueOf(ID_ALPHABET.charAt(lowerIndex(first, partitionCount))))
+        .toExclusive(last == partitionCount - 1
+                ? null
+                : String.valueOf(ID_ALPHABET.charAt(lowerIndex(last + 1, partitionCount))))
+        .build();
+  }
+
+  private static int lowerIndex(int partition, int partitionCount) {
+    return partition * MAX_PARTITIONS / partitionCount;
+  }
+}
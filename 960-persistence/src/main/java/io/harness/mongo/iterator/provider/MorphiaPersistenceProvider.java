@@ -14,6 +14,7 @@ import static java.lang.System.currentTimeMillis;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
+import io.harness.mongo.iterator.PartitionRange;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.persistence.HPersistence;
 
@@ -136,6 +137,21 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     return query.fetch(new FindOptions().limit(limit));
   }
 
+  @Override
+  public MorphiaIterator<T, T> obtainNextInstances(Class<T> clazz, String fieldName,
+      MorphiaFilterExpander<T> filterExpander, int limit, PartitionRange partitionRange) {
+    long now = currentTimeMillis();
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander, false, false);
+    if (partitionRange.getFromInclusive() != null) {
+      query.field("_id").greaterThanOrEqual(partitionRange.getFromInclusive());
+    }
+    if (partitionRange.getToExclusive() != null) {
+      query.field("_id").lessThan(partitionRange.getToExclusive());
+    }
+
+    return query.fetch(new FindOptions().limit(limit));
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
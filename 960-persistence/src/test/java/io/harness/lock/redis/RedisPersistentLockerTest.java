@@ -13,11 +13,15 @@ import static io.harness.rule.OwnerRule.PIYUSH;
 import static io.harness.rule.OwnerRule.RAMA;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,12 +30,15 @@ import static org.mockito.MockitoAnnotations.initMocks;
 import io.harness.PersistenceTestBase;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.exception.PersistentLockException;
 import io.harness.lock.AcquiredLock;
+import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 import io.harness.rule.Owner;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -165,4 +172,70 @@ public class RedisPersistentLockerTest extends PersistenceTestBase {
 
     verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
   }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireLocks() throws Exception {
+    RLock first = mockLock("locks:first", true);
+    RLock second = mockLock("locks:second", true);
+
+    try (AcquiredLock lock =
+             redisPersistentLocker.acquireLocks(Arrays.asList("second", "first"), Duration.ofMinutes(1))) {
+      assertThat(lock).isNotNull();
+    }
+
+    verify(first, times(1)).tryLockAsync(eq(0L), eq(60000L), eq(TimeUnit.MILLISECONDS), anyLong());
+    verify(second, times(1)).tryLockAsync(eq(0L), eq(60000L), eq(TimeUnit.MILLISECONDS), anyLong());
+    verify(first, times(1)).unlock();
+    verify(second, times(1)).unlock();
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireLocksReleasesTheObtainedLocksOnFailure() throws Exception {
+    RLock first = mockLock("locks:first", true);
+    RLock second = mockLock("locks:second", false);
+    RFuture<Void> unlockFuture = mock(RFuture.class);
+    when(first.unlockAsync(anyLong())).thenReturn(unlockFuture);
+
+    assertThatThrownBy(
+        () -> redisPersistentLocker.acquireLocks(Arrays.asList("first", "second"), Duration.ofMinutes(1)))
+        .isInstanceOf(PersistentLockException.class);
+
+    verify(first, times(1)).unlockAsync(anyLong());
+    verify(unlockFuture, times(1)).get(anyLong(), any(TimeUnit.class));
+    verify(second, never()).unlockAsync(anyLong());
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testAcquireLocksRecordsOneContentionPerRefusedFamily() throws Exception {
+    PersistenceMetricsServiceImpl metricsService = mock(PersistenceMetricsServiceImpl.class);
+    on(redisPersistentLocker).set("persistenceMetricsService", metricsService);
+    RLock first = mockLock("locks:plan-first", true);
+    mockLock("locks:plan-second", false);
+    mockLock("locks:plan-third", false);
+    when(first.unlockAsync(anyLong())).thenReturn(mock(RFuture.class));
+
+    assertThatThrownBy(()
+                           -> redisPersistentLocker.acquireLocks(
+                               Arrays.asList("plan-first", "plan-second", "plan-third"), Duration.ofMinutes(1)))
+        .isInstanceOf(PersistentLockException.class);
+
+    verify(metricsService, times(1)).recordLockContention(anyString());
+    verify(metricsService).recordLockContention("plan");
+  }
+
+  private RLock mockLock(String name, boolean acquired) throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(name)).thenReturn(rLock);
+    when(rLock.isLocked()).thenReturn(true);
+    RFuture<Boolean> future = mock(RFuture.class);
+    when(future.get(anyLong(), any(TimeUnit.class))).thenReturn(acquired);
+    when(rLock.tryLockAsync(anyLong(), anyLong(), any(TimeUnit.class), anyLong())).thenReturn(future);
+    return rLock;
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.rule.OwnerRule.RAGHAV_MURALI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class AdaptiveBatchSizeControllerTest extends CategoryTest {
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void nextBatchSize_staticModeUsesFreeQueueCapacity() {
+    AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(false, 10, 5, 20);
+
+    assertThat(controller.nextBatchSize(0, 1000)).isEqualTo(20);
+    assertThat(controller.nextBatchSize(15, 2000)).isEqualTo(5);
+    assertThat(controller.nextBatchSize(25, 3000)).isLessThanOrEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void nextBatchSize_adaptiveModeStaysWithinBounds() {
+    AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(true, 4, 4, 100);
+
+    // Slow handlers and a fast round - only a few docs are needed to keep the workers busy.
+    controller.recordRoundTime(10);
+    for (int i = 0; i < 10; i++) {
+      controller.recordHandlerLatency(1000);
+    }
+    int batchSize = 100;
+    for (int i = 0; i < 10; i++) {
+      batchSize = controller.nextBatchSize(0, 1000L * (i + 1));
+    }
+    assertThat(batchSize).isEqualTo(5);
+
+    // Fast handlers and a slow round - the batch grows, but never beyond the max bound.
+    for (int i = 0; i < 50; i++) {
+      controller.recordRoundTime(1000);
+      controller.recordHandlerLatency(1);
+    }
+    for (int i = 0; i < 10; i++) {
+      batchSize = controller.nextBatchSize(0, 20000L + 1000L * i);
+    }
+    assertThat(batchSize).isEqualTo(100);
+  }
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void nextBatchSize_adaptiveModeChangesGradually() {
+    AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(true, 4, 1, 100);
+    controller.recordRoundTime(10);
+    controller.recordHandlerLatency(1000);
+
+    assertThat(controller.nextBatchSize(0, 1000)).isEqualTo(50);
+    assertThat(controller.nextBatchSize(0, 2000)).isEqualTo(25);
+  }
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void nextBatchSize_adaptiveModePausesWhenQueueIsFull() {
+    AdaptiveBatchSizeController controller = new AdaptiveBatchSizeController(true, 4, 1, 10);
+
+    assertThat(controller.nextBatchSize(10, 1000)).isEqualTo(0);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.eraro.ErrorCode.FAILED_TO_ACQUIRE_PERSISTENT_LOCK;
+import static io.harness.exception.WingsException.SRE;
+import static io.harness.rule.OwnerRule.RAGHAV_MURALI;
+
+import static java.time.Duration.ofMinutes;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.exception.PersistentLockException;
+import io.harness.lock.AcquiredLock;
+import io.harness.lock.PersistentLocker;
+import io.harness.rule.Owner;
+
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PartitionLeaseManagerTest extends CategoryTest {
+  private static final String ITERATOR_NAME = "iterator";
+  private static final String LOCK_PREFIX = "IteratorPartition-" + ITERATOR_NAME + "-";
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void constructor_failsWithoutInfiniteLockSupport() {
+    PersistentLocker persistentLocker = mock(PersistentLocker.class);
+    when(persistentLocker.supportsInfiniteLocks()).thenReturn(false);
+
+    assertThatThrownBy(() -> new PartitionLeaseManager(persistentLocker, ITERATOR_NAME, 2, ofMinutes(1)))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void obtainOwnedRanges_skipsPartitionsLeasedElsewhereOrFailing() {
+    PersistentLocker persistentLocker = mock(PersistentLocker.class);
+    when(persistentLocker.supportsInfiniteLocks()).thenReturn(true);
+    when(persistentLocker.tryToAcquireLock(any(String.class), any())).thenReturn(mock(AcquiredLock.class));
+    when(persistentLocker.tryToAcquireInfiniteLockWithPeriodicRefresh(eq(LOCK_PREFIX + "member-0"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    when(persistentLocker.tryToAcquireInfiniteLockWithPeriodicRefresh(eq(LOCK_PREFIX + "0"), any()))
+        .thenThrow(new PersistentLockException("Lock held", FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE));
+    when(persistentLocker.tryToAcquireInfiniteLockWithPeriodicRefresh(eq(LOCK_PREFIX + "1"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    when(persistentLocker.tryToAcquireInfiniteLockWithPeriodicRefresh(eq(LOCK_PREFIX + "2"), any()))
+        .thenThrow(new IllegalStateException("Redis unavailable"));
+
+    PartitionLeaseManager partitionLeaseManager =
+        new PartitionLeaseManager(persistentLocker, ITERATOR_NAME, 3, ofMinutes(1));
+
+    assertThat(partitionLeaseManager.obtainOwnedRanges(System.currentTimeMillis()))
+        .isEqualTo(PartitionRange.forPartitions(Collections.singletonList(1), 3));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.RAGHAV_MURALI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class PartitionRangeTest extends CategoryTest {
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void forPartitions_mergesAdjacentPartitions() {
+    List<PartitionRange> ranges = PartitionRange.forPartitions(Arrays.asList(0, 1, 3), 4);
+
+    assertThat(ranges).hasSize(2);
+    assertThat(ranges.get(0).getFromInclusive()).isNull();
+    assertThat(ranges.get(0).getToExclusive()).isEqualTo("V");
+    assertThat(ranges.get(1).getFromInclusive()).isEqualTo("k");
+    assertThat(ranges.get(1).getToExclusive()).isNull();
+  }
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void forPartitions_allPartitionsCoverEverything() {
+    List<PartitionRange> ranges = PartitionRange.forPartitions(Arrays.asList(2, 0, 1), 3);
+
+    assertThat(ranges).hasSize(1);
+    assertThat(ranges.get(0).getFromInclusive()).isNull();
+    assertThat(ranges.get(0).getToExclusive()).isNull();
+  }
+
+  @Test
+  @Owner(developers = RAGHAV_MURALI)
+  @Category(UnitTests.class)
+  public void partitionOf_matchesTheRangeOfThePartition() {
+    int partitionCount = 7;
+    for (int i = 0; i < 1000; i++) {
+      String id = generateUuid();
+      int partition = PartitionRange.partitionOf(id, partitionCount);
+      PartitionRange range = PartitionRange.forPartitions(Arrays.asList(partition), partitionCount).get(0);
+
+      assertThat(range.getFromInclusive() == null || id.compareTo(range.getFromInclusive()) >= 0).isTrue();
+      assertThat(range.getToExclusive() == null || id.compareTo(range.getToExclusive()) < 0).isTrue();
+    }
+  }
+}
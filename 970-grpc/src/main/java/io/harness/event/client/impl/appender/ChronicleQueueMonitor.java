@@ -33,12 +33,17 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
   private static final int THRESHOLD = 30;
 
   private final RollingChronicleQueue queue;
+  private final EventPublishingStats publishingStats;
 
   private volatile boolean healthy = true;
+  private volatile long publishRate;
+  private long lastPublishedMessages;
+  private long lastRunNanos;
 
   @Inject
-  public ChronicleQueueMonitor(@Named("appender") RollingChronicleQueue queue) {
+  public ChronicleQueueMonitor(@Named("appender") RollingChronicleQueue queue, EventPublishingStats publishingStats) {
     this.queue = queue;
+    this.publishingStats = publishingStats;
     addListener(new LoggingListener(this), MoreExecutors.directExecutor());
   }
 
@@ -57,6 +62,8 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
         log.info("Event queue recovered. Marking healthy. Current count {}", fileCount);
         healthy = true;
       }
+      updatePublishRate();
+      log.info("eventQueue backlogDepth: {}, publishRate: {}/min", publishingStats.getBacklogDepth(), publishRate);
     } catch (Exception e) {
       log.error("Ignoring encountered exception", e);
     }
@@ -67,7 +74,31 @@ public class ChronicleQueueMonitor extends AbstractScheduledService {
     return Scheduler.newFixedDelaySchedule(1, 1, TimeUnit.MINUTES);
   }
 
+  private void updatePublishRate() {
+    long now = System.nanoTime();
+    long publishedMessages = publishingStats.getPublishedMessages();
+    if (lastRunNanos != 0 && now > lastRunNanos) {
+      publishRate = (publishedMessages - lastPublishedMessages) * TimeUnit.MINUTES.toNanos(1) / (now - lastRunNanos);
+    }
+    lastPublishedMessages = publishedMessages;
+    lastRunNanos = now;
+  }
+
   public boolean isHealthy() {
     return healthy;
   }
+
+  /**
+   * Number of messages in the queue not yet read by the tailer, as last sampled by the tailer.
+   */
+  public long getBacklogDepth() {
+    return publishingStats.getBacklogDepth();
+  }
+
+  /**
+   * Number of messages published per minute, over the last minute.
+   */
+  public long getPublishRate() {
+    return publishRate;
+  }
 }
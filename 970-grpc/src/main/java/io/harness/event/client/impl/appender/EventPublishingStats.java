@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.appender;
+
+import com.google.inject.Singleton;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishing progress of the queue tailer, reported by {@link ChronicleQueueMonitor}. Kept apart from the tailer so
+ * that the monitor does not depend on it, as the tailer is not bound everywhere the appender is.
+ */
+@Singleton
+public class EventPublishingStats {
+  private final AtomicLong publishedMessages = new AtomicLong();
+  private volatile long backlogDepth;
+
+  public void recordPublished(int messageCount) {
+    publishedMessages.addAndGet(messageCount);
+  }
+
+  public void recordBacklogDepth(long excerptCount) {
+    backlogDepth = excerptCount;
+  }
+
+  public long getPublishedMessages() {
+    return publishedMessages.get();
+  }
+
+  public long getBacklogDepth() {
+    return backlogDepth;
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Batch limits adapting to the publish latency. They double while full batches are published in less than half of
+ * TARGET_LATENCY, and halve when a publish takes longer than TARGET_LATENCY or fails.
+ */
+@Getter
+class BatchLimits {
+  static final Duration TARGET_LATENCY = Duration.ofSeconds(2);
+
+  static final int MIN_COUNT = 100;
+  static final int INITIAL_COUNT = 500;
+  static final int MAX_COUNT = 2000;
+  static final int MIN_BYTES = 1024 * 64; // 64KB
+  static final int INITIAL_BYTES = 1024 * 256; // 256KB
+  static final int MAX_BYTES = 1024 * 1024; // 1MB
+
+  private int count = INITIAL_COUNT;
+  private int bytes = INITIAL_BYTES;
+
+  Batch newBatch() {
+    return new Batch(bytes, count);
+  }
+
+  void recordPublished(Batch batch, Duration latency) {
+    if (latency.compareTo(TARGET_LATENCY) > 0) {
+      shrink();
+    } else if (batch.isFull() && latency.compareTo(TARGET_LATENCY.dividedBy(2)) < 0) {
+      count = Math.min(count * 2, MAX_COUNT);
+      bytes = Math.min(bytes * 2, MAX_BYTES);
+    }
+  }
+
+  void recordFailure() {
+    shrink();
+  }
+
+  private void shrink() {
+    count = Math.max(count / 2, MIN_COUNT);
+    bytes = Math.max(bytes / 2, MIN_BYTES);
+  }
+}
@@ -8,12 +8,16 @@
 package io.harness.event.client.impl.tailer;
 
 import static com.google.common.base.Verify.verify;
+import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_UNSUPPORTED_TYPE;
 import static java.util.Objects.requireNonNull;
 
 import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
 import io.harness.event.PublishResponse;
+import io.harness.event.client.impl.appender.EventPublishingStats;
 import io.harness.eventpublisherclient.EventPublisherClient;
 import io.harness.flow.BackoffScheduler;
 import io.harness.logging.LoggingListener;
@@ -21,33 +25,50 @@ import io.harness.util.EventServiceRestUtils;
 
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nullable;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.openhft.chronicle.queue.ExcerptTailer;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
 import net.openhft.chronicle.wire.DocumentContext;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
 import retrofit2.Call;
+import retrofit2.Response;
 
 /**
  * Tails the chronicle-queue and publishes the events over rpc.
  * <p/>
+ * Up to MAX_IN_FLIGHT_BATCHES batches are published at the same time, the sent index only moves past a batch once it
+ * and all the batches read before it are published. When a publish fails, the tailer goes back to the sent index and
+ * the batches read since are published again.
+ * <p/>
  * Intentionally not thread-safe as CQ tailers are also not thread-safe. The methods in this class, and {@link
- * FileDeletionManager} are supposed to be executed by the same single thread.
+ * FileDeletionManager} are supposed to be executed by the same single thread. Only the publish calls run on the
+ * publisher threads.
  */
 @Slf4j
 @Singleton
 public class ChronicleEventTailer extends AbstractScheduledService {
   private static final String READ_TAILER = "read-tailer";
-
-  // Batching settings
-  private static final int MAX_BATCH_COUNT = 500;
-  private static final int MAX_BATCH_BYTES = 1024 * 256; // 256KB
+  private static final int MAX_IN_FLIGHT_BATCHES = 4;
+  private static final MediaType PROTOBUF = MediaType.parse("application/x-protobuf");
+  private static final String GZIP = "gzip";
 
   private final ExcerptTailer readTailer;
 
@@ -61,19 +82,29 @@ public class ChronicleEventTailer extends AbstractScheduledService {
 
   private final EventPublisherClient eventPublisherClient;
 
+  private final EventPublishingStats publishingStats;
+  private final BatchLimits batchLimits = new BatchLimits();
+  private final Deque<InFlightBatch> inFlightBatches = new ArrayDeque<>();
+  private final ExecutorService publishExecutor;
+
   private String accountId;
+  // Turned off once the event service refuses a compressed request
+  private volatile boolean compressRestRequests = true;
 
   @Inject
   ChronicleEventTailer(@Nullable EventPublisherBlockingStub blockingStub, EventPublisherClient eventPublisherClient,
       @Named("tailer") RollingChronicleQueue chronicleQueue, FileDeletionManager fileDeletionManager,
-      @Named("tailer") BackoffScheduler backoffScheduler) {
+      @Named("tailer") BackoffScheduler backoffScheduler, EventPublishingStats publishingStats) {
     this.blockingStub = blockingStub;
     this.eventPublisherClient = eventPublisherClient;
     this.queue = chronicleQueue;
     this.readTailer = chronicleQueue.createTailer(READ_TAILER);
     this.fileDeletionManager = fileDeletionManager;
     this.scheduler = backoffScheduler;
+    this.publishingStats = publishingStats;
     this.sampler = new Sampler(Duration.ofMinutes(1));
+    this.publishExecutor = Executors.newFixedThreadPool(MAX_IN_FLIGHT_BATCHES,
+        new ThreadFactoryBuilder().setNameFormat("event-publisher-%d").setDaemon(true).build());
     addListener(new LoggingListener(this), MoreExecutors.directExecutor());
   }
 
@@ -101,6 +132,7 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   protected void shutDown() {
     try {
       log.info("Shutting down");
+      publishExecutor.shutdownNow();
       printStats();
       fileDeletionManager.deleteOlderFiles();
     } catch (Exception e) {
@@ -117,6 +149,7 @@ public class ChronicleEventTailer extends AbstractScheduledService {
       long sentIndex = fileDeletionManager.getSentIndex();
       long endIndex = queue.createTailer().toEnd().index();
       long excerptCount = queue.countExcerpts(readIndex, endIndex);
+      publishingStats.recordBacklogDepth(excerptCount);
       log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}", readIndex, sentIndex,
           endIndex, excerptCount);
     } catch (Exception e) {
@@ -130,67 +163,29 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       sampler.updateTime();
       sampler.sampled(() -> log.info("Checking for messages to publish"));
-      Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
-      while (!batchToSend.isFull()) {
-        long endIndex = queue.createTailer().toEnd().index();
-        try (DocumentContext dc = readTailer.readingDocument()) {
-          if (!dc.isPresent()) {
-            sampler.sampled(() -> log.info("Reached end of queue"));
-            long readIndex = readTailer.index();
-            if (readIndex < endIndex) {
-              readTailer.moveToIndex(endIndex);
-              fileDeletionManager.setSentIndex(endIndex);
-              log.warn(
-                  "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
-            }
+      while (isRunning()) {
+        while (inFlightBatches.size() < MAX_IN_FLIGHT_BATCHES) {
+          Batch batch = readBatch();
+          if (batch.isEmpty()) {
             break;
           }
-          try {
-            verify(dc.wire() != null, "Null wire with document context present");
-            byte[] bytes = requireNonNull(dc.wire()).read().bytes();
-            if (bytes != null) {
-              PublishMessage message = PublishMessage.parseFrom(bytes);
-              batchToSend.add(message);
-            } else {
-              // could happen in case of an error during append with document context open.
-              log.warn("Read NULL message. Skipping");
-            }
-          } catch (Exception e) {
-            log.error("Exception while parsing message", e);
-          }
+          PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batch.getMessages()).build();
+          inFlightBatches.add(new InFlightBatch(
+              batch, readTailer.index(), publishExecutor.submit(() -> publish(publishRequest, batch.size()))));
         }
-      }
-      if (batchToSend.isFull()) {
-        log.info("Batch is full");
-      }
-      if (!batchToSend.isEmpty()) {
-        PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
-        try {
-          publishMessagesOverRest(publishRequest);
+        if (inFlightBatches.isEmpty()) {
           fileDeletionManager.setSentIndex(readTailer.index());
-          scheduler.recordSuccess();
-          log.info("Published {} messages successfully over rest", batchToSend.size());
-        } catch (IOException e) {
-          log.error("Something wrong with publishing over rest", e);
-          try {
-            if (blockingStub == null) {
-              log.info("::: blockingStub is not initialized :::: ");
-              return;
-            }
-            log.info("Trying to publish over GRPC");
-            blockingStub.withDeadlineAfter(30, TimeUnit.SECONDS).publish(publishRequest);
-            log.info("Published {} messages successfully over grpc", batchToSend.size());
-            fileDeletionManager.setSentIndex(readTailer.index());
-            scheduler.recordSuccess();
-          } catch (Exception err) {
-            log.warn("Exception during message publish", err);
-            QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
-            scheduler.recordFailure();
-          }
+          sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+          break;
         }
-      } else {
-        fileDeletionManager.setSentIndex(readTailer.index());
-        sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+        if (!acknowledge(inFlightBatches.poll())) {
+          rewind();
+          break;
+        }
+        // The loop only returns once the backlog is published, the stats and file deletion are sampled along the way
+        sampler.sampled(this::printStats);
+        sampler.sampled(fileDeletionManager::deleteOlderFiles);
+        sampler.updateTime();
       }
     } catch (Exception e) {
       log.error("Encountered exception", e);
@@ -204,7 +199,114 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
+  private Batch readBatch() {
+    Batch batch = batchLimits.newBatch();
+    while (!batch.isFull()) {
+      long endIndex = queue.createTailer().toEnd().index();
+      try (DocumentContext dc = readTailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          sampler.sampled(() -> log.info("Reached end of queue"));
+          long readIndex = readTailer.index();
+          if (readIndex < endIndex) {
+            readTailer.moveToIndex(endIndex);
+            if (batch.isEmpty() && inFlightBatches.isEmpty()) {
+              fileDeletionManager.setSentIndex(endIndex);
+            }
+            log.warn(
+                "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
+          }
+          break;
+        }
+        try {
+          verify(dc.wire() != null, "Null wire with document context present");
+          byte[] bytes = requireNonNull(dc.wire()).read().bytes();
+          if (bytes != null) {
+            PublishMessage message = PublishMessage.parseFrom(bytes);
+            batch.add(message);
+          } else {
+            // could happen in case of an error during append with document context open.
+            log.warn("Read NULL message. Skipping");
+          }
+        } catch (Exception e) {
+          log.error("Exception while parsing message", e);
+        }
+      }
+    }
+    if (batch.isFull()) {
+      log.info("Batch is full");
+    }
+    return batch;
+  }
+
+  /**
+   * Waits for the oldest batch in flight to be published, and moves the sent index past it if it was.
+   */
+  private boolean acknowledge(InFlightBatch inFlightBatch) {
+    try {
+      Duration latency = inFlightBatch.getPublished().get();
+      fileDeletionManager.setSentIndex(inFlightBatch.getEndIndex());
+      scheduler.recordSuccess();
+      batchLimits.recordPublished(inFlightBatch.getBatch(), latency);
+      publishingStats.recordPublished(inFlightBatch.getBatch().size());
+      return true;
+    } catch (ExecutionException e) {
+      log.warn("Exception during message publish", e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("Interrupted while publishing messages", e);
+    }
+    return false;
+  }
+
+  private void rewind() {
+    // The batches read after the failed one are published again, even if some of them were already published
+    inFlightBatches.forEach(inFlightBatch -> inFlightBatch.getPublished().cancel(false));
+    inFlightBatches.clear();
+    QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
+    scheduler.recordFailure();
+    batchLimits.recordFailure();
+  }
+
+  private Duration publish(PublishRequest publishRequest, int messageCount) throws Exception {
+    long startTime = System.nanoTime();
+    try {
+      publishMessagesOverRest(publishRequest);
+      log.info("Published {} messages successfully over rest", messageCount);
+    } catch (IOException e) {
+      log.error("Something wrong with publishing over rest", e);
+      if (blockingStub == null) {
+        log.info("::: blockingStub is not initialized :::: ");
+        throw e;
+      }
+      log.info("Trying to publish over GRPC");
+      blockingStub.withDeadlineAfter(30, TimeUnit.SECONDS).withCompression(GZIP).publish(publishRequest);
+      log.info("Published {} messages successfully over grpc", messageCount);
+    }
+    return Duration.ofNanos(System.nanoTime() - startTime);
+  }
+
   private void publishMessagesOverRest(PublishRequest publishRequest) throws IOException {
+    if (compressRestRequests) {
+      RequestBody requestBody = RequestBody.create(PROTOBUF, compress(publishRequest));
+      Response<PublishResponse> response = eventPublisherClient.publishCompressed(accountId, requestBody).execute();
+      if (response.isSuccessful()) {
+        return;
+      }
+      String errorResponse = response.errorBody() != null ? response.errorBody().string() : "";
+      // Other failures are transient, only a service refusing the compressed body is sent uncompressed requests
+      if (response.code() != HTTP_UNSUPPORTED_TYPE && response.code() != HTTP_BAD_REQUEST) {
+        throw new IOException(
+            format("Compressed publish received %d Error Response: %s", response.code(), errorResponse));
+      }
+      log.info("Event service refused compressed messages over rest with {} Error Response: {}, sending them "
+              + "uncompressed from now on",
+          response.code(), errorResponse);
+      compressRestRequests = false;
+    }
+    executeRestCall(publishRequest);
+  }
+
+  private void executeRestCall(PublishRequest publishRequest) throws IOException {
     try {
       Call<PublishResponse> call = eventPublisherClient.publish(accountId, publishRequest);
       EventServiceRestUtils.executeRestCall(call);
@@ -214,8 +316,24 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
+  private static byte[] compress(PublishRequest publishRequest) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(publishRequest.getSerializedSize() / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+      publishRequest.writeTo(gzip);
+    }
+    return bytes.toByteArray();
+  }
+
   @Override
   protected Scheduler scheduler() {
     return scheduler;
   }
+
+  @Value
+  private static class InFlightBatch {
+    Batch batch;
+    // Index of the read tailer after the last message of the batch
+    long endIndex;
+    Future<Duration> published;
+  }
 }
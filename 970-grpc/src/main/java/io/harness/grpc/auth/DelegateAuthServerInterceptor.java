@@ -44,7 +44,8 @@ public class DelegateAuthServerInterceptor implements ServerInterceptor {
   private static final ServerCall.Listener NOOP_LISTENER = new ServerCall.Listener() {};
   private static final Set<String> INCLUDED_SERVICES =
       ImmutableSet.of("io.harness.perpetualtask.PerpetualTaskService", "io.harness.event.PingPongService",
-          "io.harness.event.EventPublisher", "io.harness.delegate.DelegateService", "io.harness.delegate.DelegateTask");
+          "io.harness.event.EventPublisher", "io.harness.delegate.DelegateService", "io.harness.delegate.DelegateTask",
+          "io.harness.taskdispatch.TaskDispatchService");
 
   private final DelegateTokenAuthenticator tokenAuthenticator;
 
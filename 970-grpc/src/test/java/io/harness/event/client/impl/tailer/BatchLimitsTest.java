@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.event.client.impl.tailer.BatchTest.TEST_MESSAGE;
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class BatchLimitsTest extends CategoryTest {
+  private final BatchLimits batchLimits = new BatchLimits();
+
+  private Batch fullBatch() {
+    Batch batch = new Batch(1, 1);
+    batch.add(TEST_MESSAGE);
+    return batch;
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldGrowOnFastFullBatches() {
+    batchLimits.recordPublished(fullBatch(), Duration.ofMillis(100));
+    assertThat(batchLimits.getCount()).isEqualTo(BatchLimits.INITIAL_COUNT * 2);
+    assertThat(batchLimits.getBytes()).isEqualTo(BatchLimits.INITIAL_BYTES * 2);
+
+    for (int i = 0; i < 10; i++) {
+      batchLimits.recordPublished(fullBatch(), Duration.ofMillis(100));
+    }
+    assertThat(batchLimits.getCount()).isEqualTo(BatchLimits.MAX_COUNT);
+    assertThat(batchLimits.getBytes()).isEqualTo(BatchLimits.MAX_BYTES);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldNotGrowOnPartialBatches() {
+    Batch batch = batchLimits.newBatch();
+    batch.add(TEST_MESSAGE);
+    batchLimits.recordPublished(batch, Duration.ofMillis(100));
+    assertThat(batchLimits.getCount()).isEqualTo(BatchLimits.INITIAL_COUNT);
+    assertThat(batchLimits.getBytes()).isEqualTo(BatchLimits.INITIAL_BYTES);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldShrinkOnSlowPublishesAndFailures() {
+    batchLimits.recordPublished(fullBatch(), BatchLimits.TARGET_LATENCY.plusMillis(1));
+    assertThat(batchLimits.getCount()).isEqualTo(BatchLimits.INITIAL_COUNT / 2);
+    assertThat(batchLimits.getBytes()).isEqualTo(BatchLimits.INITIAL_BYTES / 2);
+
+    for (int i = 0; i < 10; i++) {
+      batchLimits.recordFailure();
+    }
+    assertThat(batchLimits.getCount()).isEqualTo(BatchLimits.MIN_COUNT);
+    assertThat(batchLimits.getBytes()).isEqualTo(BatchLimits.MIN_BYTES);
+  }
+}
@@ -16,6 +16,9 @@ import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -31,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,6 +57,9 @@ public class CastedField {
   private boolean isArray; // indicated if it is an Array
   private boolean isCollection; // indicated if the collection is a list)
   private Type genericType;
+  // Resolved once so that reading and writing the field does not go through the reflection checks on every call
+  @Getter(AccessLevel.NONE) private MethodHandle getter;
+  @Getter(AccessLevel.NONE) private MethodHandle setter;
 
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
@@ -62,6 +69,7 @@ public class CastedField {
     realType = field.getType();
     genericType = field.getGenericType();
     discover(recaster);
+    discoverAccessors();
   }
 
   CastedField(final Field field, final Type type, final Recaster recaster) {
@@ -70,6 +78,20 @@ public class CastedField {
     discoverType(recaster);
   }
 
+  private void discoverAccessors() {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+    } catch (IllegalAccessException e) {
+      log.debug("Falling back to reflection to read {}", getFullName(), e);
+    }
+    try {
+      setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+    } catch (IllegalAccessException e) {
+      log.debug("Falling back to reflection to write {}", getFullName(), e);
+    }
+  }
+
   String getRecasterFieldNameFromField(Field f) {
     // If RecasterFieldName annotation is declared on a field and value provided is non-empty, then set the
     // recasterFieldName with the value provided in annotation else null.
@@ -359,18 +381,40 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
+    if (getter == null) {
+      try {
+        return field.get(instance);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
     try {
-      return field.get(instance);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      return (Object) getter.invokeExact(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
     }
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (setter == null) {
+      try {
+        field.set(instance, value);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+      return;
+    }
     try {
-      field.set(instance, value);
-    } catch (IllegalAccessException e) {
-      throw new RuntimeException(e);
+      setter.invokeExact(instance, value);
+    } catch (ClassCastException | NullPointerException e) {
+      // Same contract as Field#set for a value of the wrong type or a null primitive
+      throw new IllegalArgumentException(format("Can not set %s to %s", getFullName(), value), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
     }
   }
 
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.harness.RecasterTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.CastedField;
 import io.harness.category.element.UnitTests;
 import io.harness.exceptions.RecasterException;
 import io.harness.rule.Owner;
@@ -468,4 +469,50 @@ public class RecastMapTest extends RecasterTestBase {
   private static class DummyInstant {
     private Instant instant;
   }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldTestRecasterWithFinalAndInheritedFields() {
+    Recast recast = new Recast(recaster, ImmutableSet.of(DummyFinal.class));
+    DummyFinal dummyFinal = new DummyFinal("parent", 7, "child");
+
+    for (int i = 0; i < 3; i++) {
+      Map<String, Object> document = recast.toMap(dummyFinal);
+      assertThat(document.get("parentValue")).isEqualTo("parent");
+      assertThat(document.get("count")).isEqualTo(7);
+      assertThat(document.get("childValue")).isEqualTo("child");
+
+      DummyFinal recastedDummyFinal = recast.fromMap(document, DummyFinal.class);
+      assertThat(recastedDummyFinal.parentValue).isEqualTo("parent");
+      assertThat(recastedDummyFinal.count).isEqualTo(7);
+      assertThat(recastedDummyFinal.childValue).isEqualTo("child");
+    }
+
+    CastedField countField = recaster.getCastedClass(DummyFinal.class)
+                                 .getPersistenceFields()
+                                 .stream()
+                                 .filter(cf -> cf.getField().getName().equals("count"))
+                                 .findFirst()
+                                 .orElseThrow(IllegalStateException::new);
+    assertThatThrownBy(() -> countField.setFieldValue(dummyFinal, "seven"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class DummyFinalParent {
+    private String parentValue;
+  }
+
+  private static class DummyFinal extends DummyFinalParent {
+    private final int count;
+    private final String childValue;
+
+    DummyFinal(String parentValue, int count, String childValue) {
+      super(parentValue);
+      this.count = count;
+      this.childValue = childValue;
+    }
+  }
 }
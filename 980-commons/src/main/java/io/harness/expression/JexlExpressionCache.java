@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.expression.EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import javax.validation.constraints.NotNull;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Cache of parsed jexl expressions and scripts.
+ *
+ * Parsed expressions and scripts are immutable and thread safe, and are bound to the engine that created them, so
+ * each cache owns its engine. Entries are keyed by the trimmed text and the least recently used ones are evicted
+ * beyond the maximum size. The variables generated by partial evaluation have random names, the expressions referring
+ * to them are never seen twice and are parsed without being cached.
+ *
+ * The EngineExpressionEvaluator instances share the default cache unless they are given their own.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class JexlExpressionCache {
+  static final long DEFAULT_MAX_SIZE = 10000;
+
+  private static final JexlExpressionCache DEFAULT = new JexlExpressionCache(DEFAULT_MAX_SIZE);
+
+  private final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private final Cache<String, JexlExpression> expressions;
+  private final Cache<String, JexlScript> scripts;
+
+  public JexlExpressionCache(long maxSize) {
+    this.expressions = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    this.scripts = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  public static JexlExpressionCache getDefault() {
+    return DEFAULT;
+  }
+
+  public JexlExpression expression(@NotNull String expression) {
+    if (!isCacheable(expression)) {
+      return engine.createExpression(expression);
+    }
+    String key = expression.trim();
+    JexlExpression jexlExpression = expressions.getIfPresent(key);
+    if (jexlExpression == null) {
+      // Parse outside of the cache loader so that parsing errors are thrown as they are. Two threads parsing the
+      // same expression at the same time is harmless.
+      jexlExpression = engine.createExpression(key);
+      expressions.put(key, jexlExpression);
+    }
+    return jexlExpression;
+  }
+
+  public JexlScript script(@NotNull String script) {
+    if (!isCacheable(script)) {
+      return engine.createScript(script);
+    }
+    String key = script.trim();
+    JexlScript jexlScript = scripts.getIfPresent(key);
+    if (jexlScript == null) {
+      jexlScript = engine.createScript(key);
+      scripts.put(key, jexlScript);
+    }
+    return jexlScript;
+  }
+
+  public CacheStats expressionStats() {
+    return expressions.stats();
+  }
+
+  public CacheStats scriptStats() {
+    return scripts.stats();
+  }
+
+  /**
+   * Registers the hit rate and size gauges of the cache.
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    metricRegistry.register("jexl_expression_cache_hit_rate", (Gauge<Double>) () -> expressions.stats().hitRate());
+    metricRegistry.register("jexl_expression_cache_size", (Gauge<Long>) expressions::size);
+    metricRegistry.register("jexl_script_cache_hit_rate", (Gauge<Double>) () -> scripts.stats().hitRate());
+    metricRegistry.register("jexl_script_cache_size", (Gauge<Long>) scripts::size);
+  }
+
+  private static boolean isCacheable(String text) {
+    return !text.contains(HARNESS_INTERNAL_VARIABLE_PREFIX);
+  }
+}
@@ -11,9 +11,8 @@ import static io.harness.expression.SecretString.SECRET_MASK;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.exceptions.JWTDecodeException;
-import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -21,20 +20,37 @@ public class LogSanitizerHelper {
   public static final String JWT_REGEX = "[\\w-]*\\.[\\w-]*\\.[\\w-]*";
   public static final Pattern pattern = Pattern.compile(JWT_REGEX);
   public static String sanitizeJWT(String message) {
-    String finalMessage = message;
-    List<String> regexMatches = pattern.matcher(message)
-                                    .results()
-                                    .map(matchResult -> finalMessage.substring(matchResult.start(), matchResult.end()))
-                                    .collect(Collectors.toList());
-    for (String regexMatch : regexMatches) {
-      try {
-        JWT.decode(regexMatch);
-        message = message.replaceAll(regexMatch, SECRET_MASK);
-      } catch (JWTDecodeException ignored) {
-      } catch (Exception ex) {
-        log.error("Error while trying to decode JWT", ex);
+    // A JWT has three parts separated by dots
+    if (message == null || message.indexOf('.') < 0) {
+      return message;
+    }
+    StringBuilder sanitized = null;
+    int emitted = 0;
+    Matcher matcher = pattern.matcher(message);
+    while (matcher.find()) {
+      if (isJWT(matcher.group())) {
+        if (sanitized == null) {
+          sanitized = new StringBuilder(message.length());
+        }
+        sanitized.append(message, emitted, matcher.start()).append(SECRET_MASK);
+        emitted = matcher.end();
       }
     }
-    return message;
+    if (sanitized == null) {
+      return message;
+    }
+    return sanitized.append(message, emitted, message.length()).toString();
+  }
+
+  private static boolean isJWT(String token) {
+    try {
+      JWT.decode(token);
+      return true;
+    } catch (JWTDecodeException ignored) {
+      return false;
+    } catch (Exception ex) {
+      log.error("Error while trying to decode JWT", ex);
+      return false;
+    }
   }
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.expression.SecretString.SECRET_MASK;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Masks a fixed set of secrets in log messages, compiled once into an Aho-Corasick automaton.
+ *
+ * A message is scanned once whatever the number of secrets. Every character covered by an occurrence of a secret is
+ * masked, overlapping occurrences are masked together by a single mask. A message without any secret is returned as
+ * it is, without any copy.
+ */
+public class SecretMasker {
+  private static final int ROOT = 0;
+  private static final int NO_MATCH = 0;
+  private static final char[] NO_KEYS = new char[0];
+  private static final int[] NO_TARGETS = new int[0];
+
+  // The transitions of a node are sorted by character, looked up with a binary search
+  private final char[][] keys;
+  private final int[][] targets;
+  private final int[] fail;
+  private final int[] depth;
+  // The node of the longest secret that is a suffix of the node, NO_MATCH if none
+  private final int[] match;
+
+  private SecretMasker(char[][] keys, int[][] targets, int[] fail, int[] depth, int[] match) {
+    this.keys = keys;
+    this.targets = targets;
+    this.fail = fail;
+    this.depth = depth;
+    this.match = match;
+  }
+
+  public static SecretMasker compile(Collection<String> secrets) {
+    List<Map<Character, Integer>> children = new ArrayList<>();
+    List<Integer> depths = new ArrayList<>();
+    List<Boolean> terminals = new ArrayList<>();
+    children.add(new TreeMap<>());
+    depths.add(0);
+    terminals.add(false);
+    if (secrets != null) {
+      for (String secret : secrets) {
+        if (isEmpty(secret)) {
+          continue;
+        }
+        int node = ROOT;
+        for (int i = 0; i < secret.length(); i++) {
+          Integer next = children.get(node).get(secret.charAt(i));
+          if (next == null) {
+            next = children.size();
+            children.get(node).put(secret.charAt(i), next);
+            children.add(new TreeMap<>());
+            depths.add(i + 1);
+            terminals.add(false);
+          }
+          node = next;
+        }
+        terminals.set(node, true);
+      }
+    }
+
+    int size = children.size();
+    char[][] keys = new char[size][];
+    int[][] targets = new int[size][];
+    int[] depth = new int[size];
+    for (int node = 0; node < size; node++) {
+      Map<Character, Integer> nodeChildren = children.get(node);
+      keys[node] = nodeChildren.isEmpty() ? NO_KEYS : new char[nodeChildren.size()];
+      targets[node] = nodeChildren.isEmpty() ? NO_TARGETS : new int[nodeChildren.size()];
+      int index = 0;
+      for (Map.Entry<Character, Integer> entry : nodeChildren.entrySet()) {
+        keys[node][index] = entry.getKey();
+        targets[node][index] = entry.getValue();
+        index++;
+      }
+      depth[node] = depths.get(node);
+    }
+
+    // Breadth first, so that the failure link of a node is computed before the node
+    int[] fail = new int[size];
+    int[] match = new int[size];
+    Deque<Integer> queue = new ArrayDeque<>();
+    queue.add(ROOT);
+    while (!queue.isEmpty()) {
+      int node = queue.poll();
+      for (int index = 0; index < keys[node].length; index++) {
+        int child = targets[node][index];
+        fail[child] = node == ROOT ? ROOT : step(keys, targets, fail, fail[node], keys[node][index]);
+        match[child] = terminals.get(child) ? child : match[fail[child]];
+        queue.add(child);
+      }
+    }
+    return new SecretMasker(keys, targets, fail, depth, match);
+  }
+
+  public boolean hasSecrets() {
+    return keys[ROOT].length > 0;
+  }
+
+  public String mask(String message) {
+    if (isEmpty(message) || !hasSecrets()) {
+      return message;
+    }
+    StringBuilder masked = null;
+    int emitted = 0;
+    // The occurrences found that a later occurrence may still overlap, disjoint and in order
+    Deque<int[]> pending = null;
+    int node = ROOT;
+    for (int i = 0; i < message.length(); i++) {
+      node = step(keys, targets, fail, node, message.charAt(i));
+      if (pending == null && match[node] == NO_MATCH) {
+        continue;
+      }
+      if (pending == null) {
+        pending = new ArrayDeque<>();
+      }
+      if (match[node] != NO_MATCH) {
+        // The longest secret ending here starts the earliest
+        int start = i + 1 - depth[match[node]];
+        while (!pending.isEmpty() && pending.peekLast()[1] > start) {
+          start = Math.min(start, pending.pollLast()[0]);
+        }
+        pending.addLast(new int[] {start, i + 1});
+      }
+      // No later occurrence can start before the current node does
+      int earliestStart = i + 1 - depth[node];
+      while (!pending.isEmpty() && pending.peekFirst()[1] <= earliestStart) {
+        int[] occurrence = pending.pollFirst();
+        if (masked == null) {
+          masked = new StringBuilder(message.length());
+        }
+        masked.append(message, emitted, occurrence[0]).append(SECRET_MASK);
+        emitted = occurrence[1];
+      }
+    }
+    if (pending != null) {
+      for (int[] occurrence : pending) {
+        if (masked == null) {
+          masked = new StringBuilder(message.length());
+        }
+        masked.append(message, emitted, occurrence[0]).append(SECRET_MASK);
+        emitted = occurrence[1];
+      }
+    }
+    if (masked == null) {
+      return message;
+    }
+    return masked.append(message, emitted, message.length()).toString();
+  }
+
+  private static int step(char[][] keys, int[][] targets, int[] fail, int node, char c) {
+    while (true) {
+      int index = Arrays.binarySearch(keys[node], c);
+      if (index >= 0) {
+        return targets[node][index];
+      }
+      if (node == ROOT) {
+        return ROOT;
+      }
+      node = fail[node];
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The buffers used by the KryoSerializer, pooled so that a serialization does not allocate them on every call.
+ *
+ * The kryo input and output buffers are confined to the thread, a nested serialization on the same thread gets
+ * its own buffers. Buffers that grew beyond MAX_RETAINED_BUFFER_SIZE are dropped on release so that a single large
+ * payload does not stay pinned to the thread. Deflaters and inflaters hold native memory, they are shared by all the
+ * threads through a small bounded pool instead.
+ */
+class KryoBuffers implements AutoCloseable {
+  static final int BUFFER_SIZE = 4096;
+  static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+  private static final int MAX_POOLED_CODECS = 2 * Runtime.getRuntime().availableProcessors();
+  private static final byte[] EMPTY = new byte[0];
+  private static final ThreadLocal<KryoBuffers> LOCAL = ThreadLocal.withInitial(() -> new KryoBuffers(true));
+  private static final Queue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(MAX_POOLED_CODECS);
+  private static final Queue<Inflater> INFLATERS = new ArrayBlockingQueue<>(MAX_POOLED_CODECS);
+
+  private final boolean threadLocal;
+  private boolean inUse;
+  private Output output;
+  private Input arrayInput;
+  private Input streamInput;
+  private Deflater deflater;
+  private Inflater inflater;
+
+  private KryoBuffers(boolean threadLocal) {
+    this.threadLocal = threadLocal;
+  }
+
+  static KryoBuffers acquire() {
+    KryoBuffers buffers = LOCAL.get();
+    if (buffers.inUse) {
+      return new KryoBuffers(false);
+    }
+    buffers.inUse = true;
+    return buffers;
+  }
+
+  // The output is not bound to a stream, it grows as needed
+  Output output() {
+    if (output == null) {
+      output = new Output(BUFFER_SIZE, -1);
+    }
+    return output;
+  }
+
+  // The input reads from the caller array, it never owns a buffer
+  Input arrayInput(byte[] bytes, int offset, int count) {
+    if (arrayInput == null) {
+      arrayInput = new Input();
+    }
+    arrayInput.setBuffer(bytes, offset, count);
+    return arrayInput;
+  }
+
+  Input streamInput() {
+    if (streamInput == null) {
+      streamInput = new Input(BUFFER_SIZE);
+    }
+    return streamInput;
+  }
+
+  Deflater deflater() {
+    if (deflater == null) {
+      deflater = DEFLATERS.poll();
+      if (deflater == null) {
+        deflater = new Deflater();
+      }
+    }
+    return deflater;
+  }
+
+  Inflater inflater() {
+    if (inflater == null) {
+      inflater = INFLATERS.poll();
+      if (inflater == null) {
+        inflater = new Inflater();
+      }
+    }
+    return inflater;
+  }
+
+  @Override
+  public void close() {
+    if (output != null) {
+      output.setOutputStream(null);
+      if (!threadLocal || output.getBuffer().length > MAX_RETAINED_BUFFER_SIZE) {
+        output = null;
+      }
+    }
+    if (arrayInput != null) {
+      arrayInput.setBuffer(EMPTY);
+    }
+    if (streamInput != null) {
+      streamInput.setInputStream(null);
+    }
+    if (deflater != null) {
+      deflater.reset();
+      if (!DEFLATERS.offer(deflater)) {
+        deflater.end();
+      }
+      deflater = null;
+    }
+    if (inflater != null) {
+      inflater.reset();
+      if (!INFLATERS.offer(inflater)) {
+        inflater.end();
+      }
+      inflater = null;
+    }
+    inUse = false;
+  }
+}
@@ -20,10 +20,14 @@ import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Set;
 import java.util.zip.DeflaterOutputStream;
@@ -104,55 +108,140 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
-    } catch (Exception e) {
-      throw new RuntimeException(e);
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Output output = buffers.output();
+      writeObject(obj, output);
+      return output.toBytes();
+    } catch (Exception exception) {
+      throw new RuntimeException(exception);
     }
   }
 
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    writeDeflatedToStream(obj, byteStream);
+    return byteStream.toByteArray();
+  }
+
+  /**
+   * Serializes the object straight into the stream through a pooled buffer. The stream is flushed, not closed.
+   */
+  public void writeToStream(Object obj, OutputStream outputStream) {
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Output output = buffers.output();
+      output.setOutputStream(outputStream);
+      writeObject(obj, output);
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
+  /**
+   * Serializes and deflates the object into the stream without materializing the serialized bytes. The output is
+   * compatible with asInflatedObject. The stream is flushed, not closed.
+   */
+  public void writeDeflatedToStream(Object obj, OutputStream outputStream) {
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      DeflaterOutputStream deflaterStream =
+          new DeflaterOutputStream(outputStream, buffers.deflater(), KryoBuffers.BUFFER_SIZE);
+      Output output = buffers.output();
+      output.setOutputStream(deflaterStream);
+      writeObject(obj, output);
+      deflaterStream.finish();
+      deflaterStream.flush();
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
   }
 
+  /**
+   * Serializes the object into the remaining space of the buffer, advancing its position.
+   * @return the number of bytes written
+   * @throws BufferOverflowException if the serialized object does not fit in the buffer, the buffer is unchanged
+   */
+  public int writeToBuffer(Object obj, ByteBuffer buffer) {
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Output output = buffers.output();
+      writeObject(obj, output);
+      if (output.position() > buffer.remaining()) {
+        throw new BufferOverflowException();
+      }
+      buffer.put(output.getBuffer(), 0, output.position());
+      return output.position();
+    }
+  }
+
+  private void writeObject(Object obj, Output output) {
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+    output.flush();
+  }
+
   public <T> T clone(T object) {
     return pool.run(kryo -> kryo.copy(object));
   }
 
   public Object asObject(byte[] bytes) {
-    try (Input input = new Input(bytes)) {
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Input input = buffers.arrayInput(bytes, 0, bytes.length);
       return pool.run(kryo -> kryo.readClassAndObject(input));
     }
   }
 
   public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
+    return readInflatedFromStream(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Deserializes an object from the stream through a pooled buffer. The input is buffered, so the stream may be read
+   * past the end of the object - it is meant for streams holding a single object. The stream is not closed.
+   */
+  public Object readFromStream(InputStream inputStream) {
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Input input = buffers.streamInput();
+      input.setInputStream(inputStream);
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    }
+  }
+
+  /**
+   * Inflates and deserializes an object written by asDeflatedBytes or writeDeflatedToStream. The stream is not closed.
+   */
+  public Object readInflatedFromStream(InputStream inputStream) {
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Input input = buffers.streamInput();
+      input.setInputStream(new InflaterInputStream(inputStream, buffers.inflater(), KryoBuffers.BUFFER_SIZE));
       return pool.run(kryo -> kryo.readClassAndObject(input));
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
   }
 
+  /**
+   * Deserializes an object from the remaining bytes of the buffer and advances the position past the object. Heap
+   * buffers are read in place.
+   */
+  public Object readFromBuffer(ByteBuffer buffer) {
+    byte[] bytes;
+    int offset;
+    if (buffer.hasArray()) {
+      bytes = buffer.array();
+      offset = buffer.arrayOffset() + buffer.position();
+    } else {
+      bytes = new byte[buffer.remaining()];
+      buffer.duplicate().get(bytes);
+      offset = 0;
+    }
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      Input input = buffers.arrayInput(bytes, offset, buffer.remaining());
+      Object obj = pool.run(kryo -> kryo.readClassAndObject(input));
+      buffer.position(buffer.position() + input.position() - offset);
+      return obj;
+    }
+  }
+
   public Object asObject(String base64) {
     return asObject(Base64.decodeBase64(base64));
   }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class JexlExpressionCacheTest extends CategoryTest {
+  private final JexlExpressionCache cache = new JexlExpressionCache(JexlExpressionCache.DEFAULT_MAX_SIZE);
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testExpressionsAreReusedByNormalizedText() {
+    JexlExpression expression = cache.expression("a + b");
+
+    assertThat(cache.expression("  a + b ")).isSameAs(expression);
+    assertThat(cache.expressionStats().hitCount()).isEqualTo(1);
+
+    MapContext context = new MapContext();
+    context.set("a", 1);
+    context.set("b", 2);
+    assertThat(expression.evaluate(context)).isEqualTo(3);
+    assertThat(cache.script("var c = a * b; c + 1").execute(context)).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testEmptyCacheParsesEveryTime() {
+    JexlExpressionCache emptyCache = new JexlExpressionCache(0);
+
+    assertThat(emptyCache.expression("a + b")).isNotSameAs(emptyCache.expression("a + b"));
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testPartialEvaluationVariablesAreNotCached() {
+    String expression = EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + "abcdefghijkl.length()";
+
+    assertThat(cache.expression(expression)).isNotSameAs(cache.expression(expression));
+    assertThat(cache.expressionStats().requestCount()).isZero();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testParsingErrorsAreNotWrapped() {
+    assertThatThrownBy(() -> cache.expression("a +")).isInstanceOf(JexlException.class);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testEvaluatorUsesItsCache() {
+    EngineExpressionEvaluator evaluator = new EngineExpressionEvaluator(null, cache);
+
+    assertThat(evaluator.evaluateExpression("<+1 + 2>")).isEqualTo(3);
+    assertThat(evaluator.evaluateExpression("<+1 + 2>")).isEqualTo(3);
+    assertThat(cache.expressionStats().hitCount()).isPositive();
+  }
+}
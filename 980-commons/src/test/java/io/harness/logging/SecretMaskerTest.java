@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.expression.SecretString.SECRET_MASK;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SecretMaskerTest extends CategoryTest {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testMessageWithoutSecretsIsNotCopied() {
+    String message = "nothing to hide in here";
+
+    assertThat(SecretMasker.compile(ImmutableList.of("password", "token")).mask(message)).isSameAs(message);
+    assertThat(SecretMasker.compile(Collections.emptyList()).hasSecrets()).isFalse();
+    assertThat(SecretMasker.compile(null).mask(message)).isSameAs(message);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testAllSecretsAreMasked() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("secret1", "secret2", "he", "hers"));
+
+    assertThat(secretMasker.mask("secret1 and secret2, secret1secret2"))
+        .isEqualTo(SECRET_MASK + " and " + SECRET_MASK + ", " + SECRET_MASK + SECRET_MASK);
+    assertThat(secretMasker.mask("ushers")).isEqualTo("us" + SECRET_MASK);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testOverlappingSecretsAreMaskedTogether() {
+    SecretMasker secretMasker = SecretMasker.compile(ImmutableList.of("abcd", "cdef", "xbcdex"));
+
+    assertThat(secretMasker.mask("-abcdef-")).isEqualTo("-" + SECRET_MASK + "-");
+    assertThat(secretMasker.mask("-xbcdex-")).isEqualTo("-" + SECRET_MASK + "-");
+    assertThat(secretMasker.mask("abcdxbcdex")).isEqualTo(SECRET_MASK + SECRET_MASK);
+  }
+}
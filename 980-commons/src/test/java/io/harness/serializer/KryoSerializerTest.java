@@ -0,0 +1,101 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.io.Output;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashSet;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>(), true);
+  private final String value = String.join("", Collections.nCopies(10000, "payload-"));
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStreamsAreCompatibleWithBytes() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeToStream(value, outputStream);
+
+    assertThat(outputStream.toByteArray()).isEqualTo(kryoSerializer.asBytes(value));
+    assertThat(kryoSerializer.readFromStream(new ByteArrayInputStream(outputStream.toByteArray()))).isEqualTo(value);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(value))).isEqualTo(value);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDeflatedStreamsAreCompatibleWithDeflatedBytes() {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    kryoSerializer.writeDeflatedToStream(value, outputStream);
+
+    assertThat(kryoSerializer.asInflatedObject(outputStream.toByteArray())).isEqualTo(value);
+    assertThat(kryoSerializer.readInflatedFromStream(
+                   new ByteArrayInputStream(kryoSerializer.asDeflatedBytes(value))))
+        .isEqualTo(value);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testByteBuffers() {
+    ByteBuffer buffer = ByteBuffer.allocate(value.length() * 2);
+    int first = kryoSerializer.writeToBuffer(value, buffer);
+    int second = kryoSerializer.writeToBuffer(42, buffer);
+    assertThat(buffer.position()).isEqualTo(first + second);
+
+    buffer.flip();
+    assertThat(kryoSerializer.readFromBuffer(buffer)).isEqualTo(value);
+    assertThat(kryoSerializer.readFromBuffer(buffer)).isEqualTo(42);
+    assertThat(buffer.hasRemaining()).isFalse();
+
+    ByteBuffer small = ByteBuffer.allocate(16);
+    assertThatThrownBy(() -> kryoSerializer.writeToBuffer(value, small)).isInstanceOf(BufferOverflowException.class);
+    assertThat(small.position()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLargeOutputBuffersAreNotRetained() {
+    kryoSerializer.asBytes(42);
+    Output retained;
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      retained = buffers.output();
+    }
+
+    kryoSerializer.asBytes(value);
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      assertThat(buffers.output()).isNotSameAs(retained);
+      assertThat(buffers.output().getBuffer()).hasSize(KryoBuffers.BUFFER_SIZE);
+    }
+
+    kryoSerializer.asBytes(42);
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      retained = buffers.output();
+    }
+    try (KryoBuffers buffers = KryoBuffers.acquire()) {
+      assertThat(buffers.output()).isSameAs(retained);
+    }
+  }
+}
@@ -41,18 +41,7 @@ public class ACLUtils {
         .roleAssignmentId(roleAssignment.getId())
         .scopeIdentifier(roleAssignment.getScopeIdentifier())
         .permissionIdentifier(permission)
-        .sourceMetadata(SourceMetadata.builder()
-                            .roleIdentifier(roleAssignment.getRoleIdentifier())
-                            .roleAssignmentIdentifier(roleAssignment.getIdentifier())
-                            .resourceGroupIdentifier(roleAssignment.getResourceGroupIdentifier())
-                            .userGroupIdentifier(USER_GROUP.equals(roleAssignment.getPrincipalType())
-                                    ? roleAssignment.getPrincipalIdentifier()
-                                    : null)
-                            .userGroupScopeLevel(USER_GROUP.equals(roleAssignment.getPrincipalType())
-                                    ? roleAssignment.getPrincipalScopeLevel()
-                                    : roleAssignment.getScopeLevel())
-                            .implicitlyCreatedForScopeAccess(isImplicitForScope)
-                            .build())
+        .sourceMetadata(buildSourceMetadata(roleAssignment, isImplicitForScope))
         .resourceSelector(resourceSelector.getSelector())
         .conditional(resourceSelector.isConditional())
         .condition(resourceSelector.getCondition())
@@ -64,6 +53,20 @@ public class ACLUtils {
         .build();
   }
 
+  public static SourceMetadata buildSourceMetadata(RoleAssignmentDBO roleAssignment, boolean isImplicitForScope) {
+    return SourceMetadata.builder()
+        .roleIdentifier(roleAssignment.getRoleIdentifier())
+        .roleAssignmentIdentifier(roleAssignment.getIdentifier())
+        .resourceGroupIdentifier(roleAssignment.getResourceGroupIdentifier())
+        .userGroupIdentifier(
+            USER_GROUP.equals(roleAssignment.getPrincipalType()) ? roleAssignment.getPrincipalIdentifier() : null)
+        .userGroupScopeLevel(USER_GROUP.equals(roleAssignment.getPrincipalType())
+                ? roleAssignment.getPrincipalScopeLevel()
+                : roleAssignment.getScopeLevel())
+        .implicitlyCreatedForScopeAccess(isImplicitForScope)
+        .build();
+  }
+
   public static String buildResourceSelector(Scope scope) {
     return new StringBuilder(scope.toString())
         .append(SCOPE_DELIMITER)
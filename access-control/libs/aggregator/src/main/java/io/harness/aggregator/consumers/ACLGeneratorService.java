@@ -25,4 +25,15 @@ public interface ACLGeneratorService {
 
   long createACLs(RoleAssignmentDBO roleAssignmentDBO, Set<String> principals, Set<String> permissions,
       Set<ResourceSelector> resourceSelectors);
+
+  /**
+   * Brings the ACLs of the role assignment in line with its principals, role and resource group, deleting and creating
+   * only the ACLs which differ from the existing ones.
+   */
+  Result syncACLsForRoleAssignment(RoleAssignmentDBO roleAssignment);
+
+  /**
+   * Same as syncACLsForRoleAssignment, for the ACLs implicitly created for scope access only.
+   */
+  Result syncImplicitACLsForRoleAssignment(RoleAssignmentDBO roleAssignment);
 }
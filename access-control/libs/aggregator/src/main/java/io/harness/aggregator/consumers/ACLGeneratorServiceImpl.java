@@ -13,6 +13,7 @@ import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.accesscontrol.scopes.core.ScopeHelper.toParentScope;
 import static io.harness.aggregator.ACLUtils.buildACL;
 import static io.harness.aggregator.ACLUtils.buildResourceSelector;
+import static io.harness.aggregator.ACLUtils.buildSourceMetadata;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.accesscontrol.acl.api.Principal;
@@ -34,10 +35,13 @@ import io.harness.accesscontrol.scopes.core.ScopeService;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -129,6 +133,79 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
     return numberOfACLsCreated;
   }
 
+  @Override
+  public Result syncACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
+    String roleAssignmentId = roleAssignment.getId();
+    String principalType =
+        SERVICE_ACCOUNT.equals(roleAssignment.getPrincipalType()) ? SERVICE_ACCOUNT.name() : USER.name();
+    if (aclRepository.existsByRoleAssignmentIdAndPrincipalTypeNot(roleAssignmentId, principalType)) {
+      // The principal type is part of the ACL query strings, none of the ACLs can be kept
+      long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentId(roleAssignmentId);
+      long numberOfACLsCreated = createACLsForRoleAssignment(roleAssignment)
+          + createImplicitACLsForRoleAssignment(roleAssignment, new HashSet<>(), new HashSet<>());
+      return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+    }
+
+    long numberOfACLsUpdated = aclRepository.updateSourceMetadataAndEnabled(
+        roleAssignmentId, buildSourceMetadata(roleAssignment, false), !roleAssignment.isDisabled());
+
+    Set<String> existingPrincipals =
+        new HashSet<>(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentId));
+    Set<String> existingPermissions =
+        new HashSet<>(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(roleAssignmentId));
+    Set<ResourceSelector> existingResourceSelectors =
+        aclRepository.getDistinctResourceSelectorsInACLs(roleAssignmentId);
+    Set<String> principals = getPrincipalsFromRoleAssignment(roleAssignment);
+    Set<String> permissions = getPermissionsFromRole(roleAssignment);
+    Set<ResourceSelector> resourceSelectors = getResourceSelectorsFromRoleAssignment(roleAssignment);
+    Pair<List<String>, List<ACL>> implicitACLsDiff = diffImplicitACLs(roleAssignment);
+
+    long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentIdInBulk(roleAssignmentId,
+        Sets.difference(existingPrincipals, principals), Sets.difference(existingPermissions, permissions),
+        Sets.difference(existingResourceSelectors, resourceSelectors), implicitACLsDiff.getLeft());
+
+    // The existing explicit ACLs are the product of the existing principals, permissions and resource selectors, the
+    // ACLs missing from it are created in three disjoint parts
+    Set<String> principalsKept = Sets.intersection(existingPrincipals, principals);
+    Set<String> permissionsKept = Sets.intersection(existingPermissions, permissions);
+    long numberOfACLsCreated =
+        createACLs(roleAssignment, Sets.difference(principals, existingPrincipals), permissions, resourceSelectors);
+    numberOfACLsCreated += createACLs(
+        roleAssignment, principalsKept, Sets.difference(permissions, existingPermissions), resourceSelectors);
+    numberOfACLsCreated += createACLs(roleAssignment, principalsKept, permissionsKept,
+        Sets.difference(resourceSelectors, existingResourceSelectors));
+    numberOfACLsCreated += aclRepository.insertAllIgnoringDuplicates(implicitACLsDiff.getRight());
+
+    return new Result(numberOfACLsCreated, numberOfACLsDeleted, numberOfACLsUpdated);
+  }
+
+  @Override
+  public Result syncImplicitACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
+    Pair<List<String>, List<ACL>> implicitACLsDiff = diffImplicitACLs(roleAssignment);
+    long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentIdInBulk(roleAssignment.getId(),
+        Collections.emptySet(), Collections.emptySet(), Collections.emptySet(), implicitACLsDiff.getLeft());
+    long numberOfACLsCreated = aclRepository.insertAllIgnoringDuplicates(implicitACLsDiff.getRight());
+    return new Result(numberOfACLsCreated, numberOfACLsDeleted);
+  }
+
+  /**
+   * Returns the ids of the existing implicit ACLs of the role assignment which are not needed anymore, and the
+   * implicit ACLs which are needed but do not exist yet.
+   */
+  private Pair<List<String>, List<ACL>> diffImplicitACLs(RoleAssignmentDBO roleAssignment) {
+    Map<Pair<String, String>, ACL> implicitACLs = new HashMap<>();
+    for (ACL acl : getImplicitACLsForRoleAssignment(roleAssignment)) {
+      implicitACLs.putIfAbsent(Pair.of(acl.getAclQueryString(), acl.getResourceSelector()), acl);
+    }
+    List<String> aclIdsToDelete = new ArrayList<>();
+    for (ACL existingACL : aclRepository.getImplicitACLsForRoleAssignment(roleAssignment.getId())) {
+      if (implicitACLs.remove(Pair.of(existingACL.getAclQueryString(), existingACL.getResourceSelector())) == null) {
+        aclIdsToDelete.add(existingACL.getId());
+      }
+    }
+    return Pair.of(aclIdsToDelete, new ArrayList<>(implicitACLs.values()));
+  }
+
   private List<ACL> getImplicitACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
     Optional<ResourceGroup> resourceGroup = resourceGroupService.get(
         roleAssignment.getResourceGroupIdentifier(), roleAssignment.getScopeIdentifier(), ManagedFilter.NO_FILTER);
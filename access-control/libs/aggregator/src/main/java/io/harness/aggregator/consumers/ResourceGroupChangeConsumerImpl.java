@@ -11,6 +11,7 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
@@ -48,11 +49,13 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
   private final ResourceGroupRepository resourceGroupRepository;
   private final ExecutorService executorService;
   private final ACLGeneratorService aclGeneratorService;
+  private final ACLCache aclCache;
 
   public ResourceGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       ResourceGroupRepository resourceGroupRepository, String executorServiceSuffix,
-      ACLGeneratorService aclGeneratorService) {
+      ACLGeneratorService aclGeneratorService, ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.resourceGroupRepository = resourceGroupRepository;
     this.aclGeneratorService = aclGeneratorService;
@@ -87,7 +90,7 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnResourceGroupUpdateTask(
-                         aclRepository, aclGeneratorService, roleAssignment, resourceGroup.get()))
+                         aclRepository, aclGeneratorService, aclCache, roleAssignment, resourceGroup.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -130,12 +133,14 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final ResourceGroupDBO updatedResourceGroup;
     private final ACLGeneratorService changeConsumerService;
+    private final ACLCache aclCache;
 
     private ReProcessRoleAssignmentOnResourceGroupUpdateTask(ACLRepository aclRepository,
-        ACLGeneratorService changeConsumerService, RoleAssignmentDBO roleAssignment,
+        ACLGeneratorService changeConsumerService, ACLCache aclCache, RoleAssignmentDBO roleAssignment,
         ResourceGroupDBO updatedResourceGroup) {
       this.aclRepository = aclRepository;
       this.changeConsumerService = changeConsumerService;
+      this.aclCache = aclCache;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedResourceGroup = updatedResourceGroup;
     }
@@ -185,9 +190,15 @@ public class ResourceGroupChangeConsumerImpl implements ChangeConsumer<ResourceG
         }
 
         if (updatedResourceGroup.getScopeSelectors() != null) {
-          numberOfACLsDeleted += aclRepository.deleteByRoleAssignmentIdAndImplicitForScope(roleAssignmentDBO.getId());
-          numberOfACLsCreated += changeConsumerService.createImplicitACLsForRoleAssignment(
-              roleAssignmentDBO, new HashSet<>(), new HashSet<>());
+          Result implicitACLsResult = changeConsumerService.syncImplicitACLsForRoleAssignment(roleAssignmentDBO);
+          numberOfACLsDeleted += implicitACLsResult.getNumberOfACLsDeleted();
+          numberOfACLsCreated += implicitACLsResult.getNumberOfACLsCreated();
+        }
+
+        aclCache.invalidatePrincipals(existingPrincipals);
+        if (existingPrincipals.isEmpty()) {
+          aclCache.invalidatePrincipals(
+              aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
         }
       }
 
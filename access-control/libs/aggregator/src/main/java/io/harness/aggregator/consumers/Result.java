@@ -10,7 +10,18 @@ package io.harness.aggregator.consumers;
 import lombok.Value;
 
 @Value
-class Result {
+public class Result {
   long numberOfACLsCreated;
   long numberOfACLsDeleted;
+  long numberOfACLsUpdated;
+
+  Result(long numberOfACLsCreated, long numberOfACLsDeleted) {
+    this(numberOfACLsCreated, numberOfACLsDeleted, 0);
+  }
+
+  Result(long numberOfACLsCreated, long numberOfACLsDeleted, long numberOfACLsUpdated) {
+    this.numberOfACLsCreated = numberOfACLsCreated;
+    this.numberOfACLsDeleted = numberOfACLsDeleted;
+    this.numberOfACLsUpdated = numberOfACLsUpdated;
+  }
 }
@@ -10,6 +10,7 @@ package io.harness.aggregator.consumers;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
@@ -18,6 +19,7 @@ import io.harness.logging.DelayLogContext;
 
 import com.google.inject.Singleton;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -30,14 +32,16 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   private final RoleAssignmentRepository roleAssignmentRepository;
   private final ACLGeneratorService aclGeneratorService;
   private final RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler;
+  private final ACLCache aclCache;
 
   public RoleAssignmentChangeConsumerImpl(ACLRepository aclRepository,
       RoleAssignmentRepository roleAssignmentRepository, ACLGeneratorService aclGeneratorService,
-      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler) {
+      RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler, ACLCache aclCache) {
     this.aclRepository = aclRepository;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.aclGeneratorService = aclGeneratorService;
     this.roleAssignmentCRUDEventHandler = roleAssignmentCRUDEventHandler;
+    this.aclCache = aclCache;
   }
 
   @Override
@@ -46,11 +50,20 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
         || !StringUtils.isEmpty(updatedRoleAssignmentDBO.getResourceGroupIdentifier())
         || !StringUtils.isEmpty(updatedRoleAssignmentDBO.getPrincipalIdentifier())
         || updatedRoleAssignmentDBO.getDisabled() != null) {
-      log.info("Number of ACLs deleted: {} for roleassignment: {}", deleteACLs(id), id);
+      long startTime = System.currentTimeMillis();
+      List<String> principalsBeforeUpdate = aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id);
       Optional<RoleAssignmentDBO> roleAssignment = roleAssignmentRepository.findById(id);
-      if (roleAssignment.isPresent()) {
-        long createdCount = createACLs(roleAssignment.get());
-        log.info("Number of ACLs created: {} for roleassignment: {}", createdCount, id);
+      Result result = roleAssignment.isPresent()
+          ? aclGeneratorService.syncACLsForRoleAssignment(roleAssignment.get())
+          : new Result(0, deleteACLs(id));
+      aclCache.invalidatePrincipals(principalsBeforeUpdate);
+      aclCache.invalidatePrincipals(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id));
+      long permissionsChangeTime = System.currentTimeMillis() - startTime;
+      try (DelayLogContext ignore = new DelayLogContext(permissionsChangeTime, OVERRIDE_ERROR)) {
+        log.info(
+            "RoleAssignmentChangeConsumerImpl.consumeUpdateEvent: Number of ACLs created: {}, deleted: {}, updated: {} for {} Time taken: {}",
+            result.getNumberOfACLsCreated(), result.getNumberOfACLsDeleted(), result.getNumberOfACLsUpdated(), id,
+            permissionsChangeTime);
       }
     }
   }
@@ -59,7 +72,9 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
   public void consumeDeleteEvent(String id) {
     long startTime = System.currentTimeMillis();
     roleAssignmentCRUDEventHandler.handleRoleAssignmentDelete(id);
+    List<String> principals = aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id);
     long numberOfACLsDeleted = deleteACLs(id);
+    aclCache.invalidatePrincipals(principals);
     long permissionsChangeTime = System.currentTimeMillis() - startTime;
     try (DelayLogContext ignore = new DelayLogContext(permissionsChangeTime, OVERRIDE_ERROR)) {
       log.info("RoleAssignmentChangeConsumerImpl.consumeDeleteEvent: Number of ACLs deleted: {} for {} Time taken: {}",
@@ -89,6 +104,7 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
     }
     roleAssignmentCRUDEventHandler.handleRoleAssignmentCreate(newRoleAssignmentDBO);
     long numberOfACLsCreated = createACLs(newRoleAssignmentDBO);
+    aclCache.invalidatePrincipals(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(id));
     long permissionsChangeTime = System.currentTimeMillis() - startTime;
     try (DelayLogContext ignore = new DelayLogContext(permissionsChangeTime, OVERRIDE_ERROR)) {
       log.info("RoleAssignmentChangeConsumerImpl.consumeCreateEvent: Number of ACLs created: {} for {} Time taken: {}",
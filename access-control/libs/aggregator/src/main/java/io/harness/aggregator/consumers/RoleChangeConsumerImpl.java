@@ -10,6 +10,7 @@ package io.harness.aggregator.consumers;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
@@ -49,10 +50,13 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
   private final RoleRepository roleRepository;
   private final ExecutorService executorService;
   private final ACLGeneratorService aclGeneratorService;
+  private final ACLCache aclCache;
 
   public RoleChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
-      RoleRepository roleRepository, String executorServiceSuffix, ACLGeneratorService aclGeneratorService) {
+      RoleRepository roleRepository, String executorServiceSuffix, ACLGeneratorService aclGeneratorService,
+      ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.roleRepository = roleRepository;
     String changeConsumerThreadFactory = String.format("%s-role-change-consumer", executorServiceSuffix) + "-%d";
@@ -84,7 +88,7 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnRoleUpdateTask(
-                         aclRepository, aclGeneratorService, roleAssignment, role.get()))
+                         aclRepository, aclGeneratorService, aclCache, roleAssignment, role.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -126,11 +130,14 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final RoleDBO updatedRole;
     private final ACLGeneratorService aclGeneratorService;
+    private final ACLCache aclCache;
 
     private ReProcessRoleAssignmentOnRoleUpdateTask(ACLRepository aclRepository,
-        ACLGeneratorService aclGeneratorService, RoleAssignmentDBO roleAssignment, RoleDBO updatedRole) {
+        ACLGeneratorService aclGeneratorService, ACLCache aclCache, RoleAssignmentDBO roleAssignment,
+        RoleDBO updatedRole) {
       this.aclRepository = aclRepository;
       this.aclGeneratorService = aclGeneratorService;
+      this.aclCache = aclCache;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedRole = updatedRole;
     }
@@ -144,6 +151,8 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
               existingPermissions);
       Set<String> permissionsRemovedFromRole = Sets.difference(existingPermissions,
           updatedRole.getPermissions() == null ? Collections.emptySet() : updatedRole.getPermissions());
+      List<String> principalsBeforeUpdate =
+          aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId());
 
       long numberOfACLsDeleted =
           aclRepository.deleteByRoleAssignmentIdAndPermissions(roleAssignmentDBO.getId(), permissionsRemovedFromRole);
@@ -164,6 +173,11 @@ public class RoleChangeConsumerImpl implements ChangeConsumer<RoleDBO> {
       numberOfACLsCreated += aclGeneratorService.createImplicitACLsForRoleAssignment(
           roleAssignmentDBO, new HashSet<>(), permissionsAddedToRole);
 
+      aclCache.invalidatePrincipals(principalsBeforeUpdate);
+      if (existingPrincipals.isEmpty()) {
+        aclCache.invalidatePrincipals(
+            aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
+      }
       return new Result(numberOfACLsCreated, numberOfACLsDeleted);
     }
   }
@@ -11,6 +11,7 @@ import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -52,11 +53,13 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
   private final ACLGeneratorService aclGeneratorService;
   private final ScopeService scopeService;
   private final UserGroupCRUDEventHandler userGroupCRUDEventHandler;
+  private final ACLCache aclCache;
 
   public UserGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       UserGroupRepository userGroupRepository, String executorServiceSuffix, ACLGeneratorService aclGeneratorService,
-      ScopeService scopeService, UserGroupCRUDEventHandler userGroupCRUDEventHandler) {
+      ScopeService scopeService, UserGroupCRUDEventHandler userGroupCRUDEventHandler, ACLCache aclCache) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.userGroupRepository = userGroupRepository;
     this.scopeService = scopeService;
@@ -97,7 +100,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
             .stream()
             .map((RoleAssignmentDBO roleAssignment)
                      -> new ReProcessRoleAssignmentOnUserGroupUpdateTask(
-                         aclRepository, aclGeneratorService, roleAssignment, userGroup.get()))
+                         aclRepository, aclGeneratorService, aclCache, roleAssignment, userGroup.get()))
             .collect(Collectors.toList());
 
     long numberOfACLsCreated = 0;
@@ -140,13 +143,16 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
   private static class ReProcessRoleAssignmentOnUserGroupUpdateTask implements Callable<Result> {
     private final ACLRepository aclRepository;
     private final ACLGeneratorService changeConsumerService;
+    private final ACLCache aclCache;
     private final RoleAssignmentDBO roleAssignmentDBO;
     private final UserGroupDBO updatedUserGroup;
 
     private ReProcessRoleAssignmentOnUserGroupUpdateTask(ACLRepository aclRepository,
-        ACLGeneratorService changeConsumerService, RoleAssignmentDBO roleAssignment, UserGroupDBO updatedUserGroup) {
+        ACLGeneratorService changeConsumerService, ACLCache aclCache, RoleAssignmentDBO roleAssignment,
+        UserGroupDBO updatedUserGroup) {
       this.aclRepository = aclRepository;
       this.changeConsumerService = changeConsumerService;
+      this.aclCache = aclCache;
       this.roleAssignmentDBO = roleAssignment;
       this.updatedUserGroup = updatedUserGroup;
     }
@@ -179,6 +185,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
       numberOfACLsCreated += changeConsumerService.createImplicitACLsForRoleAssignment(
           roleAssignmentDBO, principalsAddedToUserGroup, new HashSet<>());
 
+      aclCache.invalidatePrincipals(Sets.union(principalsAddedToUserGroup, principalRemovedFromUserGroup));
       return new Result(numberOfACLsCreated, totalACLsDeleted);
     }
   }
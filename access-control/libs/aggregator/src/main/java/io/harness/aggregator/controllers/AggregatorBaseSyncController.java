@@ -8,6 +8,7 @@
 package io.harness.aggregator.controllers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -117,16 +118,16 @@ public abstract class AggregatorBaseSyncController implements Runnable {
       AggregatorJobType aggregatorJobType, ACLGeneratorService aclGeneratorService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService,
-      AccessControlAdminService accessControlAdminService) {
+      AccessControlAdminService accessControlAdminService, ACLCache aclCache) {
     ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, aclGeneratorService, roleAssignmentCRUDEventHandler);
-    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, roleRepository, aggregatorJobType.name(), aclGeneratorService);
+        aclRepository, roleAssignmentRepository, aclGeneratorService, roleAssignmentCRUDEventHandler, aclCache);
+    ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        roleRepository, aggregatorJobType.name(), aclGeneratorService, aclCache);
     ChangeConsumer<ResourceGroupDBO> resourceGroupChangeConsumer = new ResourceGroupChangeConsumerImpl(aclRepository,
-        roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), aclGeneratorService);
+        roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), aclGeneratorService, aclCache);
     ChangeConsumer<UserGroupDBO> userGroupChangeConsumer =
         new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            aggregatorJobType.name(), aclGeneratorService, scopeService, userGroupCRUDEventHandler);
+            aggregatorJobType.name(), aclGeneratorService, scopeService, userGroupCRUDEventHandler, aclCache);
     collectionToConsumerMap = new HashMap<>();
     collectionToConsumerMap.put(ROLE_ASSIGNMENTS, roleAssignmentChangeConsumer);
     collectionToConsumerMap.put(ROLES, roleChangeConsumer);
@@ -12,6 +12,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_C
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.aggregator.api.SecondarySyncStatus;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -67,7 +68,8 @@ public class AggregatorSecondarySyncController extends AggregatorBaseSyncControl
     super(aclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
         aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.SECONDARY,
         aclGeneratorService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService,
-        accessControlAdminService);
+        // The secondary ACLs are not read until they replace the primary ones, which invalidates the whole cache
+        accessControlAdminService, new ACLCache());
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.aclRepository = aclRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -83,7 +84,7 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     ACLGeneratorService changeConsumerService = new ACLGeneratorServiceImpl(
         roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>(), aclRepository);
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler, new ACLCache());
     scopeIdentifier =
         Scope.builder().level(TestScopeLevels.TEST_SCOPE).instanceId(getRandomString(10)).build().toString();
     role = RoleTestUtils.buildRole(scopeIdentifier);
@@ -179,6 +180,25 @@ public class RoleAssignmentChangeConsumerImplTest extends AggregatorTestBase {
     verify(roleAssignmentCRUDEventHandler, times(1)).handleRoleAssignmentDelete(roleAssignmentDBO.getId());
   }
 
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testRoleAssignmentUpdate() {
+    RoleAssignmentDBO roleAssignmentDBO = createACLsForRoleAssignment(
+        Principal.builder().principalIdentifier(userGroup.getIdentifier()).principalType(USER_GROUP).build());
+    when(roleAssignmentRepository.findById(roleAssignmentDBO.getId())).thenReturn(Optional.of(roleAssignmentDBO));
+    String removedUser = userGroup.getUsers().iterator().next();
+    userGroup.getUsers().remove(removedUser);
+    userGroup.getUsers().add(getRandomString(20));
+    role.getPermissions().add(getRandomString(20));
+
+    roleAssignmentChangeConsumer.consumeUpdateEvent(
+        roleAssignmentDBO.getId(), RoleAssignmentDBO.builder().roleIdentifier(role.getIdentifier()).build());
+    verifyACLs(roleAssignmentDBO);
+    assertThat(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()))
+        .doesNotContain(removedUser);
+  }
+
   private void verifyACLs(RoleAssignmentDBO assignment) {
     assertThat(new HashSet<>(aclRepository.getDistinctPermissionsInACLsForRoleAssignment(assignment.getId())))
         .isEqualTo(role.getPermissions());
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.common.filter.ManagedFilter;
 import io.harness.accesscontrol.principals.Principal;
@@ -80,13 +81,13 @@ public class RoleChangeConsumerImplTest extends AggregatorTestBase {
     ACLGeneratorService changeConsumerService = new ACLGeneratorServiceImpl(
         roleService, userGroupService, resourceGroupService, scopeService, new HashMap<>(), aclRepository);
     roleChangeConsumer = new RoleChangeConsumerImpl(aclRepository, roleAssignmentRepository, roleRepository,
-        AggregatorJobType.PRIMARY.name(), changeConsumerService);
+        AggregatorJobType.PRIMARY.name(), changeConsumerService, new ACLCache());
     aclRepository.cleanCollection();
     scopeIdentifier = getRandomString(20);
     role = buildRoleRBO(scopeIdentifier, ThreadLocalRandom.current().nextInt(1, 4));
     resourceGroup = buildResourceGroup(scopeIdentifier);
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
-        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
+        aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler, new ACLCache());
 
     mockRoleServices(role);
     when(resourceGroupService.get(
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.BaseStatusListener;
+
+/**
+ * The enabled ACLs of every ACL query string looked up, per principal identifier. The query strings already hold the
+ * scope, the permission and the resource selector, so one map per principal is enough.
+ *
+ * The aggregator change consumers invalidate the principals whose ACLs they change. The consumers only run on the
+ * replica holding the aggregator lock, so the invalidations are published on a redis topic every replica listens to.
+ * Messages missed while a replica is not subscribed are covered by dropping the whole cache on every (re)subscribe,
+ * and ENTRY_TTL still bounds how long an entry is served.
+ *
+ * The cache is off unless enabled, a disabled cache never holds entries and the ACLs are always read from mongo.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLCache {
+  static final Duration ENTRY_TTL = Duration.ofMinutes(1);
+  private static final int MAX_PRINCIPALS = 10000;
+  private static final int MAX_QUERY_STRINGS_PER_PRINCIPAL = 5000;
+  private static final String MESSAGE_DELIMITER = "\n";
+  private static final String ALL_PRINCIPALS = "*";
+
+  private final boolean enabled;
+  private final RTopic invalidationTopic;
+  // Identifies the messages this replica published, which it has already applied
+  private final String publisherId = generateUuid();
+  private final Cache<String, PrincipalACLs> principalACLs;
+  private final Ticker ticker;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+  private final LongAdder hitAgeMillis = new LongAdder();
+
+  /**
+   * A disabled cache, for the ACLs that are never served from a cache.
+   */
+  public ACLCache() {
+    this(false, null, Ticker.systemTicker());
+  }
+
+  public ACLCache(boolean enabled, RTopic invalidationTopic) {
+    this(enabled, invalidationTopic, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ACLCache(boolean enabled, RTopic invalidationTopic, Ticker ticker) {
+    this.enabled = enabled;
+    this.invalidationTopic = enabled ? invalidationTopic : null;
+    this.ticker = ticker;
+    this.principalACLs = CacheBuilder.newBuilder()
+                             .maximumSize(MAX_PRINCIPALS)
+                             .expireAfterWrite(ENTRY_TTL.toMillis(), TimeUnit.MILLISECONDS)
+                             .ticker(ticker)
+                             .build();
+    if (this.invalidationTopic != null) {
+      this.invalidationTopic.addListener(String.class, (channel, message) -> onInvalidationMessage(message));
+      this.invalidationTopic.addListener(new BaseStatusListener() {
+        @Override
+        public void onSubscribe(String channel) {
+          invalidateAllLocally();
+        }
+      });
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Returns the cached ACLs of the principal. The ACLs looked up after this call have to be put in the returned entry,
+   * so that the ones read before an invalidation never land in the entry that replaced it.
+   */
+  PrincipalACLs getPrincipalACLs(String principalIdentifier) {
+    return principalACLs.asMap().computeIfAbsent(principalIdentifier, key -> new PrincipalACLs(ticker.read()));
+  }
+
+  public void invalidatePrincipals(Collection<String> principalIdentifiers) {
+    if (!enabled || principalIdentifiers.isEmpty()) {
+      return;
+    }
+    invalidatePrincipalsLocally(principalIdentifiers);
+    publish(String.join(MESSAGE_DELIMITER, principalIdentifiers));
+  }
+
+  public void invalidateAll() {
+    if (!enabled) {
+      return;
+    }
+    invalidateAllLocally();
+    publish(ALL_PRINCIPALS);
+  }
+
+  private void invalidatePrincipalsLocally(Collection<String> principalIdentifiers) {
+    principalACLs.invalidateAll(principalIdentifiers);
+    invalidations.add(principalIdentifiers.size());
+  }
+
+  private void invalidateAllLocally() {
+    invalidations.add(principalACLs.size());
+    principalACLs.invalidateAll();
+  }
+
+  private void publish(String principals) {
+    if (invalidationTopic == null) {
+      return;
+    }
+    invalidationTopic.publishAsync(publisherId + MESSAGE_DELIMITER + principals).onComplete((receivers, throwable) -> {
+      if (throwable != null) {
+        log.error("Failed to publish the ACL cache invalidation of {}, other replicas serve it until it expires",
+            principals, throwable);
+      }
+    });
+  }
+
+  @VisibleForTesting
+  void onInvalidationMessage(String message) {
+    List<String> parts = Arrays.asList(message.split(MESSAGE_DELIMITER));
+    if (parts.get(0).equals(publisherId)) {
+      return;
+    }
+    List<String> principalIdentifiers = parts.subList(1, parts.size());
+    if (principalIdentifiers.contains(ALL_PRINCIPALS)) {
+      invalidateAllLocally();
+    } else {
+      invalidatePrincipalsLocally(principalIdentifiers);
+    }
+  }
+
+  public ACLCacheStats getStats() {
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long lookups = hitCount + missCount;
+    return ACLCacheStats.builder()
+        .hitCount(hitCount)
+        .missCount(missCount)
+        .hitRate(lookups == 0 ? 1.0 : (double) hitCount / lookups)
+        .invalidationCount(invalidations.sum())
+        .averageHitAgeMillis(hitCount == 0 ? 0 : hitAgeMillis.sum() / hitCount)
+        .principalCount(principalACLs.size())
+        .build();
+  }
+
+  @Value
+  @Builder
+  public static class ACLCacheStats {
+    long hitCount;
+    long missCount;
+    double hitRate;
+    long invalidationCount;
+    // How long the principals served from the cache had been cached, on average
+    long averageHitAgeMillis;
+    long principalCount;
+  }
+
+  class PrincipalACLs {
+    private final long createdAtNanos;
+    private final Map<String, List<ACL>> aclsByQueryString = new ConcurrentHashMap<>();
+
+    private PrincipalACLs(long createdAtNanos) {
+      this.createdAtNanos = createdAtNanos;
+    }
+
+    /**
+     * Returns the cached ACLs of the query string, an empty list when none are enabled, or null when not cached.
+     */
+    List<ACL> get(String aclQueryString) {
+      List<ACL> acls = aclsByQueryString.get(aclQueryString);
+      if (acls == null) {
+        misses.increment();
+      } else {
+        hits.increment();
+        hitAgeMillis.add(TimeUnit.NANOSECONDS.toMillis(ticker.read() - createdAtNanos));
+      }
+      return acls;
+    }
+
+    void put(String aclQueryString, List<ACL> acls) {
+      if (aclsByQueryString.size() < MAX_QUERY_STRINGS_PER_PRINCIPAL) {
+        aclsByQueryString.put(aclQueryString, acls);
+      }
+    }
+  }
+}
@@ -21,6 +21,8 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,11 +40,14 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
   private final ACLRepository aclRepository;
+  private final ACLCache aclCache;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLCache aclCache,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclCache = aclCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -154,12 +159,50 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
+    Map<String, List<ACL>> aclsByQueryString = getACLsByQueryString(principal, aclQueryStrings);
     return aclQueryStringsPerPermission.stream()
         .map(queryStringsForPermission
-            -> aclsPresentInDB.stream()
-                   .filter(acl -> queryStringsForPermission.contains(acl.getAclQueryString()))
+            -> queryStringsForPermission.stream()
+                   .flatMap(queryString -> aclsByQueryString.get(queryString).stream())
                    .collect(Collectors.toList()))
         .collect(Collectors.toList());
   }
+
+  private Map<String, List<ACL>> getACLsByQueryString(Principal principal, Set<String> aclQueryStrings) {
+    if (!aclCache.isEnabled()) {
+      return getEnabledACLsByQueryString(aclQueryStrings);
+    }
+
+    ACLCache.PrincipalACLs cachedACLs = aclCache.getPrincipalACLs(principal.getPrincipalIdentifier());
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>();
+    Set<String> uncachedQueryStrings = new HashSet<>();
+    for (String aclQueryString : aclQueryStrings) {
+      List<ACL> acls = cachedACLs.get(aclQueryString);
+      if (acls == null) {
+        uncachedQueryStrings.add(aclQueryString);
+      } else {
+        aclsByQueryString.put(aclQueryString, acls);
+      }
+    }
+    if (uncachedQueryStrings.isEmpty()) {
+      return aclsByQueryString;
+    }
+
+    getEnabledACLsByQueryString(uncachedQueryStrings).forEach((aclQueryString, acls) -> {
+      cachedACLs.put(aclQueryString, acls);
+      aclsByQueryString.put(aclQueryString, acls);
+    });
+    return aclsByQueryString;
+  }
+
+  private Map<String, List<ACL>> getEnabledACLsByQueryString(Set<String> aclQueryStrings) {
+    Map<String, List<ACL>> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true)
+                                                 .stream()
+                                                 .collect(Collectors.groupingBy(ACL::getAclQueryString));
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>();
+    for (String aclQueryString : aclQueryStrings) {
+      aclsByQueryString.put(aclQueryString, aclsPresentInDB.getOrDefault(aclQueryString, Collections.emptyList()));
+    }
+    return aclsByQueryString;
+  }
 }
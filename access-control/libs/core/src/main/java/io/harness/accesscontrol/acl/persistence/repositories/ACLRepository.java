@@ -8,6 +8,7 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.SourceMetadata;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -33,6 +34,26 @@ public interface ACLRepository {
 
   long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId);
 
+  /**
+   * Deletes, in a single ordered bulk write, the ACLs of the role assignment with any of the principals or permissions,
+   * the explicit ACLs with any of the resource selectors and the ACLs with any of the ids.
+   */
+  long deleteByRoleAssignmentIdInBulk(String roleAssignmentId, Set<String> principals, Set<String> permissions,
+      Set<ResourceSelector> resourceSelectors, Collection<String> ids);
+
+  /**
+   * Sets the role assignment fields of the source metadata and the enabled flag on the ACLs of the role assignment,
+   * returning the number of ACLs changed.
+   */
+  long updateSourceMetadataAndEnabled(String roleAssignmentId, SourceMetadata sourceMetadata, boolean enabled);
+
+  boolean existsByRoleAssignmentIdAndPrincipalTypeNot(String roleAssignmentId, String principalType);
+
+  /**
+   * Returns the ids, ACL query strings and resource selectors of the implicit ACLs of the role assignment.
+   */
+  List<ACL> getImplicitACLsForRoleAssignment(String roleAssignmentId);
+
   List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId);
 
   List<String> getDistinctPrincipalsInACLsForRoleAssignment(String id);
@@ -9,15 +9,19 @@ package io.harness.accesscontrol.acl.persistence.repositories;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.ACL.ACLKeys;
+import io.harness.accesscontrol.acl.persistence.SourceMetadata;
+import io.harness.accesscontrol.acl.persistence.SourceMetadata.SourceMetadataKeys;
 import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.mongo.index.MongoIndex;
 
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.MongoBulkWriteException;
@@ -27,7 +31,9 @@ import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.RenameCollectionOptions;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.executable.ValidateOnExecution;
@@ -37,10 +43,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.bson.conversions.Bson;
 import org.hibernate.validator.constraints.NotEmpty;
 import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(PL)
 @AllArgsConstructor(access = AccessLevel.PROTECTED, onConstructor = @__({ @Inject }))
@@ -48,6 +56,8 @@ import org.springframework.data.mongodb.core.query.Query;
 @Slf4j
 @ValidateOnExecution
 public abstract class BaseACLRepositoryImpl implements ACLRepository {
+  private static final int DELETE_BATCH_SIZE = 1000;
+
   protected final MongoTemplate mongoTemplate;
 
   protected abstract String getCollectionName();
@@ -110,11 +120,18 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
     if (isEmpty(resourceSelectorsToDelete)) {
       return 0;
     }
+    return mongoTemplate
+        .remove(new Query(getResourceSelectorsCriteria(roleAssignmentId, resourceSelectorsToDelete)), ACL.class,
+            getCollectionName())
+        .getDeletedCount();
+  }
+
+  private Criteria getResourceSelectorsCriteria(String roleAssignmentId, Set<ResourceSelector> resourceSelectors) {
     Criteria criteria = Criteria.where(ACLKeys.roleAssignmentId)
                             .is(roleAssignmentId)
                             .and(ACL.IMPLICITLY_CREATED_FOR_SCOPE_ACCESS_KEY)
                             .ne(true);
-    Criteria[] resourceSelectorCriteria = resourceSelectorsToDelete.stream()
+    Criteria[] resourceSelectorCriteria = resourceSelectors.stream()
                                               .map(resourceSelector
                                                   -> Criteria.where(ACLKeys.resourceSelector)
                                                          .is(resourceSelector.getSelector())
@@ -123,8 +140,7 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
                                                          .and(ACLKeys.condition)
                                                          .is(resourceSelector.getCondition()))
                                               .toArray(Criteria[] ::new);
-    criteria.orOperator(resourceSelectorCriteria);
-    return mongoTemplate.remove(new Query(criteria), ACL.class, getCollectionName()).getDeletedCount();
+    return criteria.orOperator(resourceSelectorCriteria);
   }
 
   @Override
@@ -160,6 +176,74 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         .getDeletedCount();
   }
 
+  @Override
+  public long deleteByRoleAssignmentIdInBulk(String roleAssignmentId, Set<String> principals, Set<String> permissions,
+      Set<ResourceSelector> resourceSelectors, Collection<String> ids) {
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.ORDERED, ACL.class, getCollectionName());
+    int numberOfOperations = 0;
+    for (List<String> batch : Iterables.partition(principals, DELETE_BATCH_SIZE)) {
+      bulkOperations.remove(new Query(
+          Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId).and(ACLKeys.principalIdentifier).in(batch)));
+      numberOfOperations++;
+    }
+    for (List<String> batch : Iterables.partition(permissions, DELETE_BATCH_SIZE)) {
+      bulkOperations.remove(new Query(
+          Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId).and(ACLKeys.permissionIdentifier).in(batch)));
+      numberOfOperations++;
+    }
+    if (isNotEmpty(resourceSelectors)) {
+      bulkOperations.remove(new Query(getResourceSelectorsCriteria(roleAssignmentId, resourceSelectors)));
+      numberOfOperations++;
+    }
+    for (List<String> batch : Iterables.partition(ids, DELETE_BATCH_SIZE)) {
+      bulkOperations.remove(new Query(Criteria.where(ACLKeys.id).in(batch)));
+      numberOfOperations++;
+    }
+    if (numberOfOperations == 0) {
+      return 0;
+    }
+    return bulkOperations.execute().getDeletedCount();
+  }
+
+  @Override
+  public long updateSourceMetadataAndEnabled(String roleAssignmentId, SourceMetadata sourceMetadata, boolean enabled) {
+    Map<String, Object> values = new HashMap<>();
+    values.put(ACL.ROLE_IDENTIFIER_KEY, sourceMetadata.getRoleIdentifier());
+    values.put(ACL.RESOURCE_GROUP_IDENTIFIER_KEY, sourceMetadata.getResourceGroupIdentifier());
+    values.put(ACL.USER_GROUP_IDENTIFIER_KEY, sourceMetadata.getUserGroupIdentifier());
+    values.put(ACLKeys.sourceMetadata + "." + SourceMetadataKeys.userGroupScopeLevel,
+        sourceMetadata.getUserGroupScopeLevel());
+    values.put(ACLKeys.enabled, enabled);
+
+    Update update = new Update();
+    values.forEach(update::set);
+    // Only the ACLs with a different value are written
+    Criteria criteria = Criteria.where(ACLKeys.roleAssignmentId)
+                            .is(roleAssignmentId)
+                            .orOperator(values.entrySet()
+                                            .stream()
+                                            .map(value -> Criteria.where(value.getKey()).ne(value.getValue()))
+                                            .toArray(Criteria[] ::new));
+    return mongoTemplate.updateMulti(new Query(criteria), update, ACL.class, getCollectionName()).getModifiedCount();
+  }
+
+  @Override
+  public boolean existsByRoleAssignmentIdAndPrincipalTypeNot(String roleAssignmentId, String principalType) {
+    Criteria criteria =
+        Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId).and(ACLKeys.principalType).ne(principalType);
+    return mongoTemplate.exists(new Query(criteria), ACL.class, getCollectionName());
+  }
+
+  @Override
+  public List<ACL> getImplicitACLsForRoleAssignment(String roleAssignmentId) {
+    Query query = new Query(Criteria.where(ACLKeys.roleAssignmentId)
+                                .is(roleAssignmentId)
+                                .and(ACL.IMPLICITLY_CREATED_FOR_SCOPE_ACCESS_KEY)
+                                .is(true));
+    query.fields().include(ACLKeys.id).include(ACLKeys.aclQueryString).include(ACLKeys.resourceSelector);
+    return mongoTemplate.find(query, ACL.class, getCollectionName());
+  }
+
   @Override
   public List<String> getDistinctPermissionsInACLsForRoleAssignment(String roleAssignmentId) {
     Criteria criteria = Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId);
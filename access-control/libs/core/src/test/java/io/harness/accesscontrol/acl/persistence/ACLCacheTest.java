@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RFuture;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.api.listener.StatusListener;
+
+@OwnedBy(PL)
+public class ACLCacheTest extends CategoryTest {
+  private long nanos;
+  private final Ticker ticker = new Ticker() {
+    @Override
+    public long read() {
+      return nanos;
+    }
+  };
+  private final ACLCache aclCache = new ACLCache(true, null, ticker);
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testHitsAndMisses() {
+    List<ACL> acls = ImmutableList.of(ACL.builder().aclQueryString("query1").build());
+    ACLCache.PrincipalACLs principalACLs = aclCache.getPrincipalACLs("principal1");
+    assertThat(principalACLs.get("query1")).isNull();
+    principalACLs.put("query1", acls);
+    principalACLs.put("query2", Collections.emptyList());
+
+    nanos += TimeUnit.SECONDS.toNanos(10);
+    principalACLs = aclCache.getPrincipalACLs("principal1");
+    assertThat(principalACLs.get("query1")).isEqualTo(acls);
+    assertThat(principalACLs.get("query2")).isEmpty();
+    assertThat(aclCache.getPrincipalACLs("principal2").get("query1")).isNull();
+
+    ACLCache.ACLCacheStats stats = aclCache.getStats();
+    assertThat(stats.getHitCount()).isEqualTo(2);
+    assertThat(stats.getMissCount()).isEqualTo(2);
+    assertThat(stats.getHitRate()).isEqualTo(0.5);
+    assertThat(stats.getAverageHitAgeMillis()).isEqualTo(10000);
+    assertThat(stats.getPrincipalCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInvalidation() {
+    ACLCache.PrincipalACLs principalACLs = aclCache.getPrincipalACLs("principal1");
+    aclCache.getPrincipalACLs("principal2").put("query1", Collections.emptyList());
+    aclCache.invalidatePrincipals(ImmutableList.of("principal1"));
+
+    // ACLs read before the invalidation do not land in the new entry
+    principalACLs.put("query1", Collections.emptyList());
+    assertThat(aclCache.getPrincipalACLs("principal1").get("query1")).isNull();
+    assertThat(aclCache.getPrincipalACLs("principal2").get("query1")).isEmpty();
+
+    aclCache.invalidateAll();
+    assertThat(aclCache.getPrincipalACLs("principal2").get("query1")).isNull();
+    assertThat(aclCache.getStats().getInvalidationCount()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testEntriesExpire() {
+    aclCache.getPrincipalACLs("principal1").put("query1", Collections.emptyList());
+    nanos += ACLCache.ENTRY_TTL.toNanos() - 1;
+    assertThat(aclCache.getPrincipalACLs("principal1").get("query1")).isEmpty();
+    nanos += 1;
+    assertThat(aclCache.getPrincipalACLs("principal1").get("query1")).isNull();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDisabledCacheDoesNotPublish() {
+    RTopic topic = mock(RTopic.class);
+    ACLCache disabledCache = new ACLCache(false, topic, ticker);
+
+    disabledCache.invalidatePrincipals(ImmutableList.of("principal1"));
+    disabledCache.invalidateAll();
+
+    assertThat(disabledCache.isEnabled()).isFalse();
+    assertThat(new ACLCache().isEnabled()).isFalse();
+    verifyNoInteractions(topic);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testInvalidationsAreBroadcast() {
+    RTopic topic = mock(RTopic.class);
+    when(topic.publishAsync(anyString())).thenReturn(mock(RFuture.class));
+    ACLCache publisher = new ACLCache(true, topic, ticker);
+    ACLCache receiver = new ACLCache(true, mock(RTopic.class), ticker);
+    receiver.getPrincipalACLs("principal1").put("query1", Collections.emptyList());
+    receiver.getPrincipalACLs("principal2").put("query1", Collections.emptyList());
+    receiver.getPrincipalACLs("principal3").put("query1", Collections.emptyList());
+
+    publisher.invalidatePrincipals(ImmutableList.of("principal1", "principal2"));
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+    verify(topic).publishAsync(message.capture());
+    verify(topic).addListener(eq(String.class), any(MessageListener.class));
+    verify(topic).addListener(any(StatusListener.class));
+
+    receiver.onInvalidationMessage(message.getValue());
+    assertThat(receiver.getPrincipalACLs("principal1").get("query1")).isNull();
+    assertThat(receiver.getPrincipalACLs("principal2").get("query1")).isNull();
+    assertThat(receiver.getPrincipalACLs("principal3").get("query1")).isEmpty();
+
+    // A replica skips its own messages, it has applied them before publishing
+    publisher.getPrincipalACLs("principal3").put("query1", Collections.emptyList());
+    publisher.onInvalidationMessage(message.getValue().replace("principal1", "principal3"));
+    assertThat(publisher.getPrincipalACLs("principal3").get("query1")).isEmpty();
+
+    publisher.invalidateAll();
+    verify(topic, times(2)).publishAsync(message.capture());
+    receiver.onInvalidationMessage(message.getValue());
+    assertThat(receiver.getPrincipalACLs("principal3").get("query1")).isNull();
+  }
+}
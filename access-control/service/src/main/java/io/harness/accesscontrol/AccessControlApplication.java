@@ -28,6 +28,8 @@ import static com.google.common.collect.ImmutableMap.of;
 import static io.serializer.HObjectMapper.configureObjectMapperForNG;
 
 import io.harness.Microservice;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
+import io.harness.accesscontrol.acl.persistence.ACLCache.ACLCacheStats;
 import io.harness.accesscontrol.commons.bootstrap.AccessControlManagementJob;
 import io.harness.accesscontrol.commons.events.EntityCrudEventListenerService;
 import io.harness.accesscontrol.commons.events.UserMembershipEventListenerService;
@@ -86,6 +88,7 @@ import io.harness.telemetry.filter.APIAuthTelemetryResponseFilter;
 import io.harness.telemetry.filter.TerraformTelemetryFilter;
 import io.harness.token.remote.TokenClient;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Guice;
@@ -112,6 +115,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import javax.servlet.DispatcherType;
 import javax.servlet.FilterRegistration.Dynamic;
@@ -223,6 +227,7 @@ public class AccessControlApplication extends Application<AccessControlConfigura
       environment.lifecycle().manage(injector.getInstance(MongoOffsetCleanupJob.class));
     }
 
+    registerACLCacheMetrics(injector);
     if (appConfig.getAggregatorConfiguration().isExportMetricsToStackDriver()) {
       initializeMonitoring(injector);
     }
@@ -235,6 +240,20 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     injector.getInstance(RecordMetricsJob.class).scheduleMetricsTasks();
   }
 
+  private void registerACLCacheMetrics(Injector injector) {
+    ACLCache aclCache = injector.getInstance(ACLCache.class);
+    registerACLCacheGauge(aclCache, "hit_count", ACLCacheStats::getHitCount);
+    registerACLCacheGauge(aclCache, "miss_count", ACLCacheStats::getMissCount);
+    registerACLCacheGauge(aclCache, "hit_rate", ACLCacheStats::getHitRate);
+    registerACLCacheGauge(aclCache, "invalidation_count", ACLCacheStats::getInvalidationCount);
+    registerACLCacheGauge(aclCache, "average_hit_age_millis", ACLCacheStats::getAverageHitAgeMillis);
+    registerACLCacheGauge(aclCache, "principal_count", ACLCacheStats::getPrincipalCount);
+  }
+
+  private void registerACLCacheGauge(ACLCache aclCache, String name, Function<ACLCacheStats, Number> stat) {
+    metricRegistry.register("acl_cache." + name, (Gauge<Number>) () -> stat.apply(aclCache.getStats()));
+  }
+
   private void registerHealthCheck(Environment environment, Injector injector) {
     final HealthService healthService = injector.getInstance(HealthService.class);
     environment.healthChecks().register("Access Control Service", healthService);
@@ -110,6 +110,7 @@ public class AccessControlConfiguration extends Configuration {
   @JsonProperty("jwtAuthSecret") private String jwtAuthSecret;
   @JsonProperty("identityServiceSecret") private String identityServiceSecret;
   @JsonProperty("enableAudit") private boolean enableAudit;
+  @JsonProperty("enableAclCache") private boolean enableAclCache;
   @JsonProperty("auditClientConfig") private ServiceHttpClientConfig auditClientConfig;
   @JsonProperty("featureFlagClientConfiguration") private FeatureFlagClientConfiguration featureFlagClientConfiguration;
   @JsonProperty("outboxPollConfig") private OutboxPollConfiguration outboxPollConfig;
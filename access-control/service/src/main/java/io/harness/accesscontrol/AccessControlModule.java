@@ -18,6 +18,7 @@ import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.ORGANIZA
 import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_GROUP_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_TOPIC_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.ENTITY_CRUD;
@@ -31,6 +32,7 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCache;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResource;
 import io.harness.accesscontrol.admin.api.AccessControlAdminResourceImpl;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
@@ -161,11 +163,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hibernate.validator.parameternameprovider.ReflectionParameterNameProvider;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import ru.vyarus.guice.validator.ValidationModule;
 
 @OwnedBy(PL)
 @Slf4j
 public class AccessControlModule extends AbstractModule {
+  private static final String ACL_CACHE_INVALIDATION_TOPIC = "aclCacheInvalidation";
   private static AccessControlModule instance;
   private final AccessControlConfiguration config;
 
@@ -210,6 +214,22 @@ public class AccessControlModule extends AbstractModule {
     return null;
   }
 
+  @Provides
+  @Singleton
+  public ACLCache getACLCache(@Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    if (!config.isEnableAclCache()) {
+      return new ACLCache();
+    }
+    if (redissonClient == null) {
+      log.warn("The ACL cache is disabled as its invalidations can not be broadcast without the events framework");
+      return new ACLCache();
+    }
+    String envNamespace = config.getEventsConfig().getRedisConfig().getEnvNamespace();
+    String topicName =
+        isEmpty(envNamespace) ? ACL_CACHE_INVALIDATION_TOPIC : envNamespace + ":" + ACL_CACHE_INVALIDATION_TOPIC;
+    return new ACLCache(true, redissonClient.getTopic(topicName, StringCodec.INSTANCE));
+  }
+
   @Provides
   @Named(ENTITY_CRUD)
   @Singleton
@@ -25,6 +25,8 @@ public class InstanceDataReader {
   private int batchSize;
   private InstanceDataDao instanceDataDao;
   private String clusterId;
+  private List<String> projectedFields;
+
   public InstanceDataReader(InstanceDataDao instanceDataDao, String accountId, String clusterId,
       List<InstanceType> instanceTypes, Instant activeInstanceIterator, Instant endTime, int batchSize) {
     this.accountId = accountId;
@@ -36,9 +38,22 @@ public class InstanceDataReader {
     this.clusterId = clusterId;
   }
 
+  /**
+   * Reader of only the given fields of the instances, for the passes that do not need the whole instance data.
+   */
+  public InstanceDataReader(InstanceDataDao instanceDataDao, String accountId, String clusterId,
+      List<InstanceType> instanceTypes, Instant activeInstanceIterator, Instant endTime, int batchSize,
+      List<String> projectedFields) {
+    this(instanceDataDao, accountId, clusterId, instanceTypes, activeInstanceIterator, endTime, batchSize);
+    this.projectedFields = projectedFields;
+  }
+
   public List<InstanceData> getNext() {
     List<InstanceData> instanceDataLists;
-    if (clusterId == null) {
+    if (projectedFields != null) {
+      instanceDataLists = instanceDataDao.getInstanceDataListsOfTypes(
+          accountId, batchSize, activeInstanceIterator, endTime, instanceTypes, clusterId, projectedFields);
+    } else if (clusterId == null) {
       instanceDataLists = instanceDataDao.getInstanceDataListsOfTypes(
           accountId, batchSize, activeInstanceIterator, endTime, instanceTypes);
     } else {
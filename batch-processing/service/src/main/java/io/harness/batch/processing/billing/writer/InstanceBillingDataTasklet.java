@@ -53,15 +53,18 @@ import io.harness.ccm.commons.beans.Resource;
 import io.harness.ccm.commons.constants.CloudProvider;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
 import io.harness.ccm.commons.entities.batch.InstanceData;
+import io.harness.ccm.commons.entities.batch.InstanceData.InstanceDataKeys;
 import io.harness.ccm.commons.entities.billing.CECluster;
 import io.harness.ccm.commons.service.intf.ClusterRecordService;
 import io.harness.ff.FeatureFlagService;
 
 import software.wings.service.intfc.instance.CloudToHarnessMappingService;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
 import java.math.BigDecimal;
 import java.math.MathContext;
@@ -74,6 +77,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.mutable.MutableInt;
@@ -105,6 +114,9 @@ public class InstanceBillingDataTasklet implements Tasklet {
   @Autowired private CEClusterDao ceClusterDao;
 
   private static final String CLAIM_REF_SEPARATOR = "/";
+  private static final int DEFAULT_CLUSTER_PARALLELISM = 4;
+  private static final List<String> PVC_CLAIM_COUNT_FIELDS =
+      ImmutableList.of(InstanceDataKeys.pvcClaimNames, InstanceDataKeys.metaData);
   private int batchSize;
 
   @Override
@@ -123,32 +135,90 @@ public class InstanceBillingDataTasklet implements Tasklet {
 
     BatchJobType batchJobType = CCMJobConstants.getBatchJobTypeFromJobParams(
         chunkContext.getStepContext().getStepExecution().getJobParameters());
-    // bill PV first
-    List<InstanceBillingData> pvInstanceBillingDataList =
-        billPVInstances(batchJobType, accountId, startTime, endTime, clusterIds, isClusterQueryEnabled);
+    // Without the cluster filter the whole account is a single partition
+    List<String> partitions = isClusterQueryEnabled ? new ArrayList<>(clusterIds) : Collections.singletonList(null);
+    ExecutorService executor = newClusterExecutor(partitions.size());
+    try {
+      // bill PV first
+      List<InstanceBillingData> pvInstanceBillingDataList = new ArrayList<>();
+      runPerCluster(executor, "PV billing", accountId, partitions,
+          clusterId -> getPvInstanceBillingData(batchJobType, accountId, startTime, endTime, clusterId))
+          .forEach(pvInstanceBillingDataList::addAll);
+
+      Map<String, InstanceBillingData> claimRefToPVInstanceBillingData =
+          pvInstanceBillingDataList.stream().collect(Collectors.toMap(e
+              -> e.getNamespace() + CLAIM_REF_SEPARATOR + e.getWorkloadName(),
+              e -> e, (e1, e2) -> e1.getStartTimestamp() > e2.getStartTimestamp() ? e1 : e2));
+
+      Map<String, MutableInt> pvcClaimCount = new HashMap<>();
+      runPerCluster(executor, "PVC claim count", accountId, partitions,
+          clusterId -> fetchPvcClaimCount(accountId, startTime, endTime, clusterId))
+          .forEach(clusterClaimCount
+              -> clusterClaimCount.forEach(
+                  (claimRef, count) -> pvcClaimCount.computeIfAbsent(claimRef, k -> new MutableInt(0)).add(count)));
+
+      runPerCluster(executor, "billing", accountId, partitions,
+          clusterId
+          -> billAllInstances(accountId, startTime, endTime, batchJobType, claimRefToPVInstanceBillingData,
+              pvcClaimCount, clusterId));
+    } finally {
+      executor.shutdownNow();
+    }
+    return null;
+  }
 
-    Map<String, InstanceBillingData> claimRefToPVInstanceBillingData =
-        pvInstanceBillingDataList.stream().collect(Collectors.toMap(e
-            -> e.getNamespace() + CLAIM_REF_SEPARATOR + e.getWorkloadName(),
-            e -> e, (e1, e2) -> e1.getStartTimestamp() > e2.getStartTimestamp() ? e1 : e2));
+  private ExecutorService newClusterExecutor(int partitionCount) {
+    int parallelism = config.getBatchQueryConfig().getBillingClusterParallelism();
+    if (parallelism <= 0) {
+      parallelism = DEFAULT_CLUSTER_PARALLELISM;
+    }
+    return Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, partitionCount)),
+        new ThreadFactoryBuilder().setNameFormat("instance-billing-%d").build());
+  }
 
-    Map<String, MutableInt> pvcClaimCount =
-        getPvcClaimCount(accountId, startTime, endTime, clusterIds, isClusterQueryEnabled);
-    if (isClusterQueryEnabled) {
-      for (String clusterId : clusterIds) {
-        billAllInstances(
-            accountId, startTime, endTime, batchJobType, claimRefToPVInstanceBillingData, pvcClaimCount, clusterId);
+  /**
+   * Runs the task for every cluster on the executor, logging the time each cluster took and how many are done. The
+   * claim refs and claim counts shared by the tasks are only read once built, so the clusters are independent.
+   */
+  private <T> List<T> runPerCluster(ExecutorService executor, String stage, String accountId, List<String> clusterIds,
+      Function<String, T> clusterTask) {
+    long stageStartMillis = System.currentTimeMillis();
+    AtomicInteger completed = new AtomicInteger();
+    List<Future<T>> futures = new ArrayList<>();
+    for (String clusterId : clusterIds) {
+      futures.add(executor.submit(() -> {
+        long startMillis = System.currentTimeMillis();
+        T result = clusterTask.apply(clusterId);
+        log.info("{} of cluster {} took {} ms, {}/{} clusters done for accountId: {}", stage, clusterId,
+            System.currentTimeMillis() - startMillis, completed.incrementAndGet(), clusterIds.size(), accountId);
+        return result;
+      }));
+    }
+
+    List<T> results = new ArrayList<>();
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get());
       }
-    } else {
-      billAllInstances(
-          accountId, startTime, endTime, batchJobType, claimRefToPVInstanceBillingData, pvcClaimCount, null);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new IllegalStateException("Interrupted during " + stage + " of accountId: " + accountId, e);
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      log.error("Exception in billing step", e.getCause());
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException("Failed " + stage + " of accountId: " + accountId, e.getCause());
     }
-    return null;
+    log.info("{} of {} clusters took {} ms for accountId: {}", stage, clusterIds.size(),
+        System.currentTimeMillis() - stageStartMillis, accountId);
+    return results;
   }
 
-  private void billAllInstances(String accountId, Instant startTime, Instant endTime, BatchJobType batchJobType,
+  private int billAllInstances(String accountId, Instant startTime, Instant endTime, BatchJobType batchJobType,
       Map<String, InstanceBillingData> claimRefToPVInstanceBillingData, Map<String, MutableInt> pvcClaimCount,
       String clusterId) {
+    int instanceCount = 0;
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader = new InstanceDataReader(instanceDataDao, accountId, clusterId,
         ImmutableList.of(
@@ -156,14 +226,12 @@ public class InstanceBillingDataTasklet implements Tasklet {
         startTime, endTime, batchSize);
     do {
       instanceDataLists = instanceDataReader.getNext();
-      try {
-        createBillingData(accountId, startTime, endTime, batchJobType, instanceDataLists,
-            claimRefToPVInstanceBillingData, pvcClaimCount);
-      } catch (Exception ex) {
-        log.error("Exception in billing step", ex);
-        throw ex;
-      }
+      createBillingData(accountId, startTime, endTime, batchJobType, instanceDataLists,
+          claimRefToPVInstanceBillingData, pvcClaimCount);
+      instanceCount += instanceDataLists.size();
     } while (instanceDataLists.size() == batchSize);
+    log.info("Billed {} instances of cluster {} for accountId: {}", instanceCount, clusterId, accountId);
+    return instanceCount;
   }
 
   private boolean isClusterIdFilterQueryEnabled(String accountId) {
@@ -201,27 +269,14 @@ public class InstanceBillingDataTasklet implements Tasklet {
     return clusterIds;
   }
 
-  private Map<String, MutableInt> getPvcClaimCount(
-      String accountId, Instant startTime, Instant endTime, Set<String> clusterIds, boolean isClusterQueryEnabled) {
+  private Map<String, MutableInt> fetchPvcClaimCount(
+      String accountId, Instant startTime, Instant endTime, String clusterId) {
     Map<String, MutableInt> result = new HashMap<>();
-    if (isClusterQueryEnabled) {
-      for (String clusterId : clusterIds) {
-        fetchPvcClaimCount(accountId, startTime, endTime, result, clusterId);
-      }
-    } else {
-      fetchPvcClaimCount(accountId, startTime, endTime, result, null);
-    }
-
-    return result;
-  }
-
-  private void fetchPvcClaimCount(
-      String accountId, Instant startTime, Instant endTime, Map<String, MutableInt> result, String clusterId) {
     List<InstanceData> instanceDataLists;
-    InstanceDataReader instanceDataReader = new InstanceDataReader(
-        instanceDataDao, accountId, clusterId, ImmutableList.of(K8S_POD), startTime, endTime, batchSize);
+    // Only the claims and the namespace of the pods are needed to count the claims
+    InstanceDataReader instanceDataReader = new InstanceDataReader(instanceDataDao, accountId, clusterId,
+        ImmutableList.of(K8S_POD), startTime, endTime, batchSize, PVC_CLAIM_COUNT_FIELDS);
     do {
-      // TODO change here
       instanceDataLists = instanceDataReader.getNext();
       for (InstanceData instanceData : instanceDataLists) {
         List<String> pvcClaimNames = firstNonNull(instanceData.getPvcClaimNames(), Collections.emptyList());
@@ -233,36 +288,21 @@ public class InstanceBillingDataTasklet implements Tasklet {
         }
       }
     } while (instanceDataLists.size() == batchSize);
+    return result;
   }
 
-  private List<InstanceBillingData> billPVInstances(BatchJobType batchJobType, String accountId, Instant startTime,
-      Instant endTime, Set<String> clusterIds, boolean isClusterQueryEnabled) {
+  private List<InstanceBillingData> getPvInstanceBillingData(
+      BatchJobType batchJobType, String accountId, Instant startTime, Instant endTime, String clusterId) {
     List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
-    if (isClusterQueryEnabled) {
-      for (String clusterId : clusterIds) {
-        getPvInstanceBillingData(batchJobType, accountId, startTime, endTime, instanceBillingDataList, clusterId);
-      }
-    } else {
-      getPvInstanceBillingData(batchJobType, accountId, startTime, endTime, instanceBillingDataList, null);
-    }
-    return instanceBillingDataList;
-  }
-
-  private void getPvInstanceBillingData(BatchJobType batchJobType, String accountId, Instant startTime, Instant endTime,
-      List<InstanceBillingData> instanceBillingDataList, String clusterId) {
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader = new InstanceDataReader(
         instanceDataDao, accountId, clusterId, ImmutableList.of(K8S_PV), startTime, endTime, batchSize);
     do {
       instanceDataLists = instanceDataReader.getNext();
-      try {
-        instanceBillingDataList.addAll(createBillingData(
-            accountId, startTime, endTime, batchJobType, instanceDataLists, ImmutableMap.of(), ImmutableMap.of()));
-      } catch (Exception ex) {
-        log.error("Exception in billing step", ex);
-        throw ex;
-      }
+      instanceBillingDataList.addAll(createBillingData(
+          accountId, startTime, endTime, batchJobType, instanceDataLists, ImmutableMap.of(), ImmutableMap.of()));
     } while (instanceDataLists.size() == batchSize);
+    return instanceBillingDataList;
   }
 
   List<InstanceBillingData> createBillingData(String accountId, Instant startTime, Instant endTime,
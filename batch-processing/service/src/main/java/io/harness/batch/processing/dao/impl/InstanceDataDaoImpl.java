@@ -296,21 +296,38 @@ public class InstanceDataDaoImpl implements InstanceDataDao {
 
   public List<InstanceData> getInstanceDataListsOfTypesAndClusterId(String accountId, int batchSize, Instant startTime,
       Instant endTime, List<InstanceType> instanceTypes, String clusterId) {
-    Query<InstanceData> query = hPersistence.createQuery(InstanceData.class, excludeCount)
-                                    .filter(InstanceDataKeys.accountId, accountId)
-                                    .filter(InstanceDataKeys.clusterId, clusterId)
-                                    .field(InstanceDataKeys.activeInstanceIterator)
-                                    .greaterThanOrEq(startTime)
-                                    .field(InstanceDataKeys.usageStartTime)
-                                    .lessThanOrEq(endTime)
-                                    .field(InstanceDataKeys.instanceType)
-                                    .in(instanceTypes)
-                                    .order(InstanceDataKeys.accountId + "," + InstanceDataKeys.clusterId + ","
-                                        + InstanceDataKeys.activeInstanceIterator)
-                                    .useReadPreference(ReadPreference.secondaryPreferred());
+    Query<InstanceData> query = getActiveClusterInstanceQuery(accountId, startTime, endTime, instanceTypes, clusterId);
     return query.asList(new FindOptions().limit(batchSize));
   }
 
+  @Override
+  public List<InstanceData> getInstanceDataListsOfTypes(String accountId, int batchSize, Instant startTime,
+      Instant endTime, List<InstanceType> instanceTypes, String clusterId, List<String> projectedFields) {
+    Query<InstanceData> query = clusterId == null
+        ? getActiveInstanceQuery(accountId, startTime, endTime, instanceTypes)
+        : getActiveClusterInstanceQuery(accountId, startTime, endTime, instanceTypes, clusterId);
+    // The iterator is what the next batch starts from
+    query.project(InstanceDataKeys.activeInstanceIterator, true);
+    projectedFields.forEach(field -> query.project(field, true));
+    return query.asList(new FindOptions().limit(batchSize));
+  }
+
+  private Query<InstanceData> getActiveClusterInstanceQuery(
+      String accountId, Instant startTime, Instant endTime, List<InstanceType> instanceTypes, String clusterId) {
+    return hPersistence.createQuery(InstanceData.class, excludeCount)
+        .filter(InstanceDataKeys.accountId, accountId)
+        .filter(InstanceDataKeys.clusterId, clusterId)
+        .field(InstanceDataKeys.activeInstanceIterator)
+        .greaterThanOrEq(startTime)
+        .field(InstanceDataKeys.usageStartTime)
+        .lessThanOrEq(endTime)
+        .field(InstanceDataKeys.instanceType)
+        .in(instanceTypes)
+        .order(
+            InstanceDataKeys.accountId + "," + InstanceDataKeys.clusterId + "," + InstanceDataKeys.activeInstanceIterator)
+        .useReadPreference(ReadPreference.secondaryPreferred());
+  }
+
   public List<InstanceData> getInstanceDataListsOfTypesAndClusterIdWithoutBatchSize(
       String accountId, Instant startTime, Instant endTime, List<InstanceType> instanceTypes, String clusterId) {
     Query<InstanceData> query = hPersistence.createQuery(InstanceData.class, excludeCount)
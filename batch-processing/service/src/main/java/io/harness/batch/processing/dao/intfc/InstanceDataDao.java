@@ -57,4 +57,7 @@ public interface InstanceDataDao {
 
   List<InstanceData> getInstanceDataListsOfTypesAndClusterId(String accountId, int batchSize, Instant startTime,
       Instant endTime, List<InstanceType> instanceTypes, String clusterId);
+
+  List<InstanceData> getInstanceDataListsOfTypes(String accountId, int batchSize, Instant startTime, Instant endTime,
+      List<InstanceType> instanceTypes, String clusterId, List<String> projectedFields);
 }
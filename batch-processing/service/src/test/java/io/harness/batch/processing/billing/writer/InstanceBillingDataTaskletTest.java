@@ -16,7 +16,10 @@ import static io.harness.rule.OwnerRule.ROHIT;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,17 +36,20 @@ import io.harness.batch.processing.billing.timeseries.service.impl.UtilizationDa
 import io.harness.batch.processing.billing.writer.support.BillingDataGenerationValidator;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.ccm.CCMJobConstants;
+import io.harness.batch.processing.cloudevents.aws.ecs.service.CEClusterDao;
 import io.harness.batch.processing.config.BatchMainConfig;
 import io.harness.batch.processing.dao.intfc.InstanceDataDao;
 import io.harness.batch.processing.pricing.PricingSource;
 import io.harness.batch.processing.service.intfc.CustomBillingMetaDataService;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
+import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.ccm.commons.beans.HarnessServiceInfo;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.beans.Resource;
 import io.harness.ccm.commons.constants.CloudProvider;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
+import io.harness.ccm.commons.entities.ClusterRecord;
 import io.harness.ccm.commons.entities.batch.InstanceData;
 import io.harness.ccm.commons.service.intf.ClusterRecordService;
 import io.harness.ff.FeatureFlagService;
@@ -53,6 +59,7 @@ import software.wings.security.authentication.BatchQueryConfig;
 import software.wings.service.intfc.instance.CloudToHarnessMappingService;
 
 import com.amazonaws.services.ecs.model.LaunchType;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -90,6 +97,7 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
   private static final String INFRA_MAPPING_ID = "infra_mapping_id";
   private static final String DEPLOYMENT_SUMMARY_ID = "deployment_summary_id";
   private static final String CLUSTER_ID = "cluster_id";
+  private static final String OTHER_CLUSTER_ID = "other_cluster_id";
   private static final String CLUSTER_NAME = "cluster_name";
   private static final String NODE_INSTANCE_ID = "node_instance_id";
   private static final String ACTUAL_PARENT_RESOURCE_ID = "actual_parent_resource_id";
@@ -124,6 +132,8 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
 
   @Mock private FeatureFlagService featureFlagService;
 
+  @Mock private CEClusterDao ceClusterDao;
+
   @Captor private ArgumentCaptor<List<InstanceBillingData>> instanceBillingDataArgumentCaptor;
 
   @Before
@@ -343,6 +353,46 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
     assertThat(repeatStatus).isNull();
   }
 
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testExecuteBillsEveryCluster() {
+    ChunkContext chunkContext = mock(ChunkContext.class);
+    StepContext stepContext = mock(StepContext.class);
+    StepExecution stepExecution = mock(StepExecution.class);
+    JobParameters parameters = mock(JobParameters.class);
+
+    when(chunkContext.getStepContext()).thenReturn(stepContext);
+    when(stepContext.getStepExecution()).thenReturn(stepExecution);
+    when(stepExecution.getJobParameters()).thenReturn(parameters);
+
+    when(parameters.getString(CCMJobConstants.JOB_START_DATE)).thenReturn(String.valueOf(START_TIME_MILLIS));
+    when(parameters.getString(CCMJobConstants.ACCOUNT_ID)).thenReturn(ACCOUNT_ID);
+    when(parameters.getString(CCMJobConstants.JOB_END_DATE)).thenReturn(String.valueOf(END_TIME_MILLIS));
+    when(parameters.getString(CCMJobConstants.BATCH_JOB_TYPE)).thenReturn(BatchJobType.INSTANCE_BILLING.name());
+
+    when(featureFlagService.isEnabled(FeatureName.CCM_INSTANCE_DATA_CLUSTERID_FILTER, ACCOUNT_ID)).thenReturn(true);
+    when(eventsClusterRecordService.getByAccountId(ACCOUNT_ID))
+        .thenReturn(Arrays.asList(ClusterRecord.builder().uuid(CLUSTER_ID).build(),
+            ClusterRecord.builder().uuid(OTHER_CLUSTER_ID).build()));
+    when(billingDataGenerationValidator.shouldGenerateBillingData(any(), any(), any())).thenReturn(true);
+
+    RepeatStatus repeatStatus = instanceBillingDataTasklet.execute(null, chunkContext);
+    assertThat(repeatStatus).isNull();
+
+    for (String clusterId : Arrays.asList(CLUSTER_ID, OTHER_CLUSTER_ID)) {
+      verify(instanceDataDao)
+          .getInstanceDataListsOfTypesAndClusterId(
+              eq(ACCOUNT_ID), anyInt(), any(), any(), eq(ImmutableList.of(InstanceType.K8S_PV)), eq(clusterId));
+      // The claims are counted from the projected pods
+      verify(instanceDataDao)
+          .getInstanceDataListsOfTypes(eq(ACCOUNT_ID), anyInt(), any(), any(),
+              eq(ImmutableList.of(InstanceType.K8S_POD)), eq(clusterId), anyList());
+      verify(instanceDataDao, times(2))
+          .getInstanceDataListsOfTypesAndClusterId(eq(ACCOUNT_ID), anyInt(), any(), any(), any(), eq(clusterId));
+    }
+  }
+
   @Test
   @Owner(developers = HITESH)
   @Category(UnitTests.class)
@@ -82,6 +82,12 @@ public class NodeProjectionUtils {
           NodeExecutionKeys.startTs, NodeExecutionKeys.endTs, NodeExecutionKeys.parentId,
           NodeExecutionKeys.resolvedParams, NodeExecutionKeys.oldRetry, NodeExecutionKeys.nodeId);
 
+  // Children are walked by the expression engine, their resolvedParams are only loaded for the ones that are read
+  public static final Set<String> fieldsForExpressionEngineChildren =
+      Sets.newHashSet(NodeExecutionKeys.status, NodeExecutionKeys.ambiance, NodeExecutionKeys.mode,
+          NodeExecutionKeys.startTs, NodeExecutionKeys.endTs, NodeExecutionKeys.parentId, NodeExecutionKeys.oldRetry,
+          NodeExecutionKeys.nodeId);
+
   public static final Set<String> forFacilitation = Sets.newHashSet(NodeExecutionKeys.ambiance,
       NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.module, NodeExecutionKeys.resolvedParams);
 
@@ -127,7 +127,11 @@ public class OrchestrationModule extends AbstractModule implements ServersModule
     install(new AbstractWaiterModule() {
       @Override
       public WaiterConfiguration waiterConfiguration() {
-        return WaiterConfiguration.builder().persistenceLayer(PersistenceLayer.SPRING).build();
+        long flushIntervalMillis = config.getNotifyResponseFlushIntervalMillis();
+        return WaiterConfiguration.builder()
+            .persistenceLayer(PersistenceLayer.SPRING)
+            .doneWithFlushInterval(flushIntervalMillis > 0 ? java.time.Duration.ofMillis(flushIntervalMillis) : null)
+            .build();
       }
     });
     install(new AbstractOrchestrationDelayModule() {
@@ -57,4 +57,6 @@ public class OrchestrationModuleConfig {
   String licenseClientId;
 
   ExpandedJsonLockConfig expandedJsonLockConfig;
+  // Interval of the buffer that writes the responses passed to WaitNotifyEngine.doneWith in bulk, 0 disables it
+  long notifyResponseFlushIntervalMillis;
 }
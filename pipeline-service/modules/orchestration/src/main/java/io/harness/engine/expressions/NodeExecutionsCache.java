@@ -17,20 +17,29 @@ import io.harness.execution.NodeExecution;
 import io.harness.plan.Node;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.data.stepparameters.PmsStepParameters;
 import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
 import org.springframework.data.util.CloseableIterator;
 
+/**
+ * Cache of the node executions and plan nodes read while resolving the expressions of an ambiance.
+ *
+ * An instance only lives for one evaluation, node executions keep changing while the plan runs so nothing is shared
+ * with other evaluations. Children are fetched a level at a time on the parentId index and without their resolved
+ * parameters, which are loaded only for the node executions whose parameters are read.
+ */
 @OwnedBy(CDC)
 @Value
 public class NodeExecutionsCache {
@@ -42,31 +51,52 @@ public class NodeExecutionsCache {
   Map<String, NodeExecution> map;
   Map<String, List<String>> childrenMap;
   Map<String, Node> nodeMap;
+  Set<String> withoutResolvedParams;
 
   @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance) {
     this.nodeExecutionService = nodeExecutionService;
     this.planService = planService;
     this.ambiance = ambiance;
-    this.nodeMap = new HashMap<>();
-    this.map = new HashMap<>();
-    this.childrenMap = new HashMap<>();
+    this.nodeMap = new ConcurrentHashMap<>();
+    this.map = new ConcurrentHashMap<>();
+    this.childrenMap = new ConcurrentHashMap<>();
+    this.withoutResolvedParams = ConcurrentHashMap.newKeySet();
   }
 
-  public synchronized NodeExecution fetch(String nodeExecutionId) {
+  public NodeExecution fetch(String nodeExecutionId) {
     if (nodeExecutionId == null) {
       return null;
     }
-    if (map.containsKey(nodeExecutionId)) {
-      return map.get(nodeExecutionId);
+    NodeExecution nodeExecution = map.get(nodeExecutionId);
+    if (nodeExecution != null) {
+      return nodeExecution;
     }
 
-    NodeExecution nodeExecution =
+    nodeExecution =
         nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
-    map.put(nodeExecutionId, nodeExecution);
+    if (nodeExecution != null) {
+      map.put(nodeExecutionId, nodeExecution);
+    }
     return nodeExecution;
   }
 
+  /**
+   * Returns the resolved step parameters of the node execution, loading them if it was fetched as a child.
+   */
+  public PmsStepParameters fetchResolvedStepParameters(NodeExecution nodeExecution) {
+    if (nodeExecution.getResolvedStepParameters() != null || !withoutResolvedParams.remove(nodeExecution.getUuid())) {
+      return nodeExecution.getResolvedStepParameters();
+    }
+    NodeExecution loaded = nodeExecutionService.getWithFieldsIncluded(
+        nodeExecution.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine);
+    if (loaded == null) {
+      return null;
+    }
+    map.put(loaded.getUuid(), loaded);
+    return loaded.getResolvedStepParameters();
+  }
+
   /**
    * Fetches a list of children for a particular parent Id.
    *
@@ -77,10 +107,10 @@ public class NodeExecutionsCache {
    * {@link NodeExecutionsCache#childrenMap} with parentId => List#childIds
    *
    */
-  public synchronized List<NodeExecution> fetchChildren(String parentId) {
+  public List<NodeExecution> fetchChildren(String parentId) {
     String childrenMapKey = parentId == null ? NULL_PARENT_ID : parentId;
-    if (childrenMap.containsKey(childrenMapKey)) {
-      List<String> ids = childrenMap.get(childrenMapKey);
+    List<String> ids = childrenMap.get(childrenMapKey);
+    if (ids != null) {
       if (EmptyPredicate.isEmpty(ids)) {
         return Collections.emptyList();
       }
@@ -90,19 +120,25 @@ public class NodeExecutionsCache {
 
     List<NodeExecution> childExecutions = new LinkedList<>();
     try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             ambiance.getPlanExecutionId(), parentId, NodeProjectionUtils.fieldsForExpressionEngine)) {
+             ambiance.getPlanExecutionId(), parentId, NodeProjectionUtils.fieldsForExpressionEngineChildren)) {
       while (iterator.hasNext()) {
         childExecutions.add(iterator.next());
       }
     }
     if (EmptyPredicate.isEmpty(childExecutions)) {
-      childrenMap.put(parentId, Collections.emptyList());
+      childrenMap.put(childrenMapKey, Collections.emptyList());
       return Collections.emptyList();
     }
 
-    childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
-    childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
-    return childExecutions;
+    for (NodeExecution childExecution : childExecutions) {
+      // Keep a node execution already fetched with its resolved parameters
+      if (map.putIfAbsent(childExecution.getUuid(), childExecution) == null) {
+        withoutResolvedParams.add(childExecution.getUuid());
+      }
+    }
+    List<String> childIds = childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList());
+    childrenMap.put(childrenMapKey, childIds);
+    return childIds.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
   }
 
   // Should not change the fields to be included as its only used by NodeExecutionMap, if you change it may not use
@@ -116,16 +152,19 @@ public class NodeExecutionsCache {
         .collect(Collectors.toList());
   }
 
-  public synchronized Node fetchNode(String nodeId) {
+  public Node fetchNode(String nodeId) {
     if (nodeId == null) {
       return null;
     }
-    if (nodeMap.containsKey(nodeId)) {
-      return nodeMap.get(nodeId);
+    Node node = nodeMap.get(nodeId);
+    if (node != null) {
+      return node;
     }
 
-    Node node = planService.fetchNode(ambiance.getPlanId(), nodeId);
-    nodeMap.put(nodeId, node);
+    node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+    if (node != null) {
+      nodeMap.put(nodeId, node);
+    }
     return node;
   }
 }
@@ -29,6 +29,7 @@ import io.harness.plancreator.strategy.StrategyUtils;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.ambiance.Level;
 import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.data.stepparameters.PmsStepParameters;
 import io.harness.pms.execution.utils.AmbianceUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.sdk.core.execution.NodeExecutionUtils;
@@ -268,9 +269,10 @@ public class NodeExecutionMap extends LateBindingMap {
 
   private static Map<String, Object> extractFinalStepParameters(
       NodeExecution nodeExecution, NodeExecutionsCache nodeExecutionsCache) {
-    if (nodeExecution.getResolvedStepParameters() != null) {
-      Map<String, Object> stepParameters = NodeExecutionUtils.extractAndProcessObject(
-          RecastOrchestrationUtils.toJson(nodeExecution.getResolvedStepParameters()));
+    PmsStepParameters resolvedStepParameters = nodeExecutionsCache.fetchResolvedStepParameters(nodeExecution);
+    if (resolvedStepParameters != null) {
+      Map<String, Object> stepParameters =
+          NodeExecutionUtils.extractAndProcessObject(RecastOrchestrationUtils.toJson(resolvedStepParameters));
       if (stepParameters != null) {
         return stepParameters;
       }
@@ -103,18 +103,8 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
   public String consumeInternal(Ambiance ambiance, Level producedBy, String name, String value, String groupName) {
     try {
       return transactionHelper.performTransaction(() -> {
-        OutcomeInstance instance = mongoTemplate.insert(
-            OutcomeInstance.builder()
-                .uuid(generateUuid())
-                .planExecutionId(ambiance.getPlanExecutionId())
-                .stageExecutionId(ambiance.getStageExecutionId())
-                .producedBy(producedBy)
-                .name(name)
-                .outcomeValue(PmsOutcome.parse(value))
-                .groupName(groupName)
-                .levelRuntimeIdIdx(ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList()))
-                .fullyQualifiedName(ExpandedJsonFunctorUtils.generateFullyQualifiedName(ambiance, name))
-                .build());
+        OutcomeInstance instance =
+            mongoTemplate.insert(prepareOutcomeInstance(ambiance, producedBy, name, value, groupName));
         planExpansionService.addOutcomes(ambiance, name, instance.getOutcomeValue());
         return instance.getUuid();
       });
@@ -123,6 +113,55 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
     }
   }
 
+  @Override
+  public List<String> consumeAll(Ambiance ambiance, List<ConsumeRequest> consumeRequests) {
+    if (isEmpty(consumeRequests)) {
+      return Collections.emptyList();
+    }
+    Level producedBy = AmbianceUtils.obtainCurrentLevel(ambiance);
+    List<Ambiance> groupScopedAmbiances = new ArrayList<>();
+    List<OutcomeInstance> instances = new ArrayList<>();
+    for (ConsumeRequest request : consumeRequests) {
+      Ambiance groupScopedAmbiance = ResolverUtils.obtainGroupScopedAmbiance(ambiance, request.getGroupName());
+      groupScopedAmbiances.add(groupScopedAmbiance);
+      instances.add(prepareOutcomeInstance(
+          groupScopedAmbiance, producedBy, request.getName(), request.getValue(), request.getGroupName()));
+    }
+
+    try {
+      return transactionHelper.performTransaction(() -> {
+        // Single bulk insert for all the outcomes of the step
+        mongoTemplate.insertAll(instances);
+        for (int i = 0; i < instances.size(); i++) {
+          OutcomeInstance instance = instances.get(i);
+          planExpansionService.addOutcomes(
+              groupScopedAmbiances.get(i), instance.getName(), instance.getOutcomeValue());
+        }
+        return instances.stream().map(OutcomeInstance::getUuid).collect(Collectors.toList());
+      });
+    } catch (DuplicateKeyException ex) {
+      throw new OutcomeException(
+          format("One of the outcomes with names %s is already saved",
+              consumeRequests.stream().map(ConsumeRequest::getName).collect(Collectors.toList())),
+          ex);
+    }
+  }
+
+  private OutcomeInstance prepareOutcomeInstance(
+      Ambiance ambiance, Level producedBy, String name, String value, String groupName) {
+    return OutcomeInstance.builder()
+        .uuid(generateUuid())
+        .planExecutionId(ambiance.getPlanExecutionId())
+        .stageExecutionId(ambiance.getStageExecutionId())
+        .producedBy(producedBy)
+        .name(name)
+        .outcomeValue(PmsOutcome.parse(value))
+        .groupName(groupName)
+        .levelRuntimeIdIdx(ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList()))
+        .fullyQualifiedName(ExpandedJsonFunctorUtils.generateFullyQualifiedName(ambiance, name))
+        .build();
+  }
+
   @Override
   public List<String> findAllByRuntimeId(String planExecutionId, String runtimeId) {
     Map<String, String> outcomesMap = findAllOutcomesMapByRuntimeId(planExecutionId, runtimeId);
@@ -277,14 +316,16 @@ public class PmsOutcomeServiceImpl implements PmsOutcomeService {
 
   @Override
   public List<String> cloneForRetryExecution(Ambiance ambiance, String originalNodeExecutionUuid) {
-    List<String> outcomeUuids = new ArrayList<>();
     List<OutcomeInstance> outcomeInstances = fetchOutcomeInstanceByRuntimeId(originalNodeExecutionUuid);
-    for (OutcomeInstance outcomeInstance : outcomeInstances) {
-      String uuid = consume(ambiance, outcomeInstance.getName(), outcomeInstance.getOutcomeValue().toJson(),
-          outcomeInstance.getGroupName());
-      outcomeUuids.add(uuid);
-    }
-    return outcomeUuids;
+    return consumeAll(ambiance,
+        outcomeInstances.stream()
+            .map(outcomeInstance
+                -> ConsumeRequest.builder()
+                       .name(outcomeInstance.getName())
+                       .value(outcomeInstance.getOutcomeValue().toJson())
+                       .groupName(outcomeInstance.getGroupName())
+                       .build())
+            .collect(Collectors.toList()));
   }
 
   @Override
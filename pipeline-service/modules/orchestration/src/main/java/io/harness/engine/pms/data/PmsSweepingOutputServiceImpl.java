@@ -35,7 +35,7 @@ import io.harness.springdata.PersistenceUtils;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.mongodb.DuplicateKeyException;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.List;
@@ -124,14 +124,16 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
 
   @Override
   public List<String> cloneForRetryExecution(Ambiance ambiance, String originalNodeExecutionUuid) {
-    List<String> outputUuids = new ArrayList<>();
     List<ExecutionSweepingOutputInstance> outputInstances = fetchOutcomeInstanceByRuntimeId(originalNodeExecutionUuid);
-    for (ExecutionSweepingOutputInstance outputInstance : outputInstances) {
-      String uuid = consume(
-          ambiance, outputInstance.getName(), outputInstance.getValueOutput().toJson(), outputInstance.getGroupName());
-      outputUuids.add(uuid);
-    }
-    return outputUuids;
+    return consumeAll(ambiance,
+        outputInstances.stream()
+            .map(outputInstance
+                -> ConsumeRequest.builder()
+                       .name(outputInstance.getName())
+                       .value(outputInstance.getValueOutput().toJson())
+                       .groupName(outputInstance.getGroupName())
+                       .build())
+            .collect(Collectors.toList()));
   }
 
   @Override
@@ -222,21 +224,51 @@ public class PmsSweepingOutputServiceImpl implements PmsSweepingOutputService {
   @Override
   public String consumeInternal(Ambiance ambiance, Level producedBy, String name, String value, String groupName) {
     try {
-      ExecutionSweepingOutputInstance instance = mongoTemplate.insert(
-          ExecutionSweepingOutputInstance.builder()
-              .uuid(generateUuid())
-              .planExecutionId(ambiance.getPlanExecutionId())
-              .stageExecutionId(ambiance.getStageExecutionId())
-              .producedBy(producedBy)
-              .name(name)
-              .valueOutput(PmsSweepingOutput.parse(value))
-              .levelRuntimeIdIdx(ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList()))
-              .groupName(groupName)
-              .fullyQualifiedName(ExpandedJsonFunctorUtils.generateFullyQualifiedName(ambiance, name))
-              .build());
+      ExecutionSweepingOutputInstance instance =
+          mongoTemplate.insert(prepareSweepingOutputInstance(ambiance, producedBy, name, value, groupName));
       return instance.getUuid();
     } catch (DuplicateKeyException ex) {
       throw new SweepingOutputException(format("Sweeping output with name %s is already saved", name), ex);
     }
   }
+
+  @Override
+  public List<String> consumeAll(Ambiance ambiance, List<ConsumeRequest> consumeRequests) {
+    if (EmptyPredicate.isEmpty(consumeRequests)) {
+      return Collections.emptyList();
+    }
+    Level producedBy = AmbianceUtils.obtainCurrentLevel(ambiance);
+    List<ExecutionSweepingOutputInstance> instances =
+        consumeRequests.stream()
+            .map(request
+                -> prepareSweepingOutputInstance(
+                    ResolverUtils.obtainGroupScopedAmbiance(ambiance, request.getGroupName()), producedBy,
+                    request.getName(), request.getValue(), request.getGroupName()))
+            .collect(Collectors.toList());
+    try {
+      // Single bulk insert for all the outputs
+      mongoTemplate.insertAll(instances);
+    } catch (DuplicateKeyException ex) {
+      throw new SweepingOutputException(
+          format("One of the sweeping outputs with names %s is already saved",
+              consumeRequests.stream().map(ConsumeRequest::getName).collect(Collectors.toList())),
+          ex);
+    }
+    return instances.stream().map(ExecutionSweepingOutputInstance::getUuid).collect(Collectors.toList());
+  }
+
+  private ExecutionSweepingOutputInstance prepareSweepingOutputInstance(
+      Ambiance ambiance, Level producedBy, String name, String value, String groupName) {
+    return ExecutionSweepingOutputInstance.builder()
+        .uuid(generateUuid())
+        .planExecutionId(ambiance.getPlanExecutionId())
+        .stageExecutionId(ambiance.getStageExecutionId())
+        .producedBy(producedBy)
+        .name(name)
+        .valueOutput(PmsSweepingOutput.parse(value))
+        .levelRuntimeIdIdx(ResolverUtils.prepareLevelRuntimeIdIdx(ambiance.getLevelsList()))
+        .groupName(groupName)
+        .fullyQualifiedName(ExpandedJsonFunctorUtils.generateFullyQualifiedName(ambiance, name))
+        .build();
+  }
 }
@@ -7,13 +7,13 @@
 
 package io.harness.engine.pms.data;
 
-import io.harness.data.structure.EmptyPredicate;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.ambiance.Level;
 import io.harness.pms.contracts.refobjects.RefObject;
 import io.harness.pms.execution.utils.AmbianceUtils;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 
 public interface Resolver {
@@ -21,26 +21,18 @@ public interface Resolver {
 
   default String consume(@NotNull Ambiance ambiance, @NotNull String name, String value, String groupName) {
     Level producedBy = AmbianceUtils.obtainCurrentLevel(ambiance);
-    if (EmptyPredicate.isEmpty(groupName)) {
-      return consumeInternal(ambiance, producedBy, name, value, groupName);
-    }
-    if (groupName.equals(ResolverUtils.GLOBAL_GROUP_SCOPE)) {
-      return consumeInternal(AmbianceUtils.clone(ambiance, 0), producedBy, name, value, groupName);
-    }
-
-    if (EmptyPredicate.isEmpty(ambiance.getLevelsList())) {
-      throw new GroupNotFoundException(groupName);
-    }
-
-    List<Level> levels = ambiance.getLevelsList();
-    for (int i = levels.size() - 1; i >= 0; i--) {
-      Level level = levels.get(i);
-      if (groupName.equals(level.getGroup())) {
-        return consumeInternal(AmbianceUtils.clone(ambiance, i + 1), producedBy, name, value, groupName);
-      }
-    }
+    return consumeInternal(
+        ResolverUtils.obtainGroupScopedAmbiance(ambiance, groupName), producedBy, name, value, groupName);
+  }
 
-    throw new GroupNotFoundException(groupName);
+  /**
+   * Consumes all the values produced together by the current level of the ambiance, returns their instance ids in the
+   * same order. Implementations persist them in a single write.
+   */
+  default List<String> consumeAll(@NotNull Ambiance ambiance, @NotNull List<ConsumeRequest> consumeRequests) {
+    return consumeRequests.stream()
+        .map(request -> consume(ambiance, request.getName(), request.getValue(), request.getGroupName()))
+        .collect(Collectors.toList());
   }
 
   String consumeInternal(
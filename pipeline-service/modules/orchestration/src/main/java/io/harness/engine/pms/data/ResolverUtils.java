@@ -13,6 +13,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.ambiance.Level;
+import io.harness.pms.execution.utils.AmbianceUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,4 +45,30 @@ public class ResolverUtils {
     }
     return levelRuntimeIdIndices;
   }
+
+  /**
+   * Returns the ambiance whose levels a value consumed with the given group is saved at.
+   */
+  public Ambiance obtainGroupScopedAmbiance(@NotNull Ambiance ambiance, String groupName) {
+    if (EmptyPredicate.isEmpty(groupName)) {
+      return ambiance;
+    }
+    if (groupName.equals(GLOBAL_GROUP_SCOPE)) {
+      return AmbianceUtils.clone(ambiance, 0);
+    }
+
+    if (EmptyPredicate.isEmpty(ambiance.getLevelsList())) {
+      throw new GroupNotFoundException(groupName);
+    }
+
+    List<Level> levels = ambiance.getLevelsList();
+    for (int i = levels.size() - 1; i >= 0; i--) {
+      Level level = levels.get(i);
+      if (groupName.equals(level.getGroup())) {
+        return AmbianceUtils.clone(ambiance, i + 1);
+      }
+    }
+
+    throw new GroupNotFoundException(groupName);
+  }
 }
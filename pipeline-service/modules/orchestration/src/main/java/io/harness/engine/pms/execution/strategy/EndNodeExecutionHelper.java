@@ -14,6 +14,7 @@ import static io.harness.springdata.SpringDataMongoUtils.setUnset;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.engine.executions.node.NodeExecutionService;
+import io.harness.engine.pms.data.ConsumeRequest;
 import io.harness.engine.pms.data.PmsOutcomeService;
 import io.harness.engine.pms.execution.strategy.plannode.PlanNodeExecutionStrategy;
 import io.harness.execution.NodeExecution;
@@ -71,21 +72,34 @@ public class EndNodeExecutionHelper {
       return outcomeRefs;
     }
 
-    stepOutcomeProtos.forEach(proto -> {
-      if (isNotEmpty(proto.getOutcome())) {
-        String instanceId = pmsOutcomeService.consume(ambiance, proto.getName(), proto.getOutcome(), proto.getGroup());
-        outcomeRefs.add(StepOutcomeRef.newBuilder().setName(proto.getName()).setInstanceId(instanceId).build());
-      }
-    });
-    graphOutcomesList.forEach(proto -> {
-      if (isNotEmpty(proto.getOutcome())) {
-        String instanceId = pmsOutcomeService.consume(ambiance, proto.getName(), proto.getOutcome(), proto.getGroup());
-        outcomeRefs.add(StepOutcomeRef.newBuilder().setName(proto.getName()).setInstanceId(instanceId).build());
-      }
-    });
+    // All the outcomes of the step are saved in one write
+    List<ConsumeRequest> consumeRequests = new ArrayList<>();
+    stepOutcomeProtos.forEach(proto -> addConsumeRequest(consumeRequests, proto));
+    graphOutcomesList.forEach(proto -> addConsumeRequest(consumeRequests, proto));
+    if (isEmpty(consumeRequests)) {
+      return outcomeRefs;
+    }
+
+    List<String> instanceIds = pmsOutcomeService.consumeAll(ambiance, consumeRequests);
+    for (int i = 0; i < consumeRequests.size(); i++) {
+      outcomeRefs.add(StepOutcomeRef.newBuilder()
+                          .setName(consumeRequests.get(i).getName())
+                          .setInstanceId(instanceIds.get(i))
+                          .build());
+    }
     return outcomeRefs;
   }
 
+  private void addConsumeRequest(List<ConsumeRequest> consumeRequests, StepOutcomeProto proto) {
+    if (isNotEmpty(proto.getOutcome())) {
+      consumeRequests.add(ConsumeRequest.builder()
+                              .name(proto.getName())
+                              .value(proto.getOutcome())
+                              .groupName(proto.getGroup())
+                              .build());
+    }
+  }
+
   public NodeExecution handleStepResponsePreAdviser(Ambiance ambiance, StepResponseProto stepResponse) {
     log.info("Handling Step response before calling advisers");
     return processStepResponsePreAdvisers(ambiance, stepResponse);
@@ -11,18 +11,24 @@ import static io.harness.rule.OwnerRule.ARCHIT;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.engine.OrchestrationTestHelper;
 import io.harness.engine.executions.node.NodeExecutionService;
 import io.harness.engine.executions.plan.PlanService;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.contracts.ambiance.Ambiance;
 import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.data.stepparameters.PmsStepParameters;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.rule.Owner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Before;
@@ -57,4 +63,34 @@ public class NodeExecutionsCacheTest extends CategoryTest {
     List<Status> allChildren = nodeExecutionsCache.findAllTerminalChildrenStatusOnly("PARENT_ID", false);
     assertThat(allChildren.size()).isEqualTo(1);
   }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testChildrenAreFetchedOnceWithoutResolvedParams() {
+    NodeExecution child = NodeExecution.builder().uuid("CHILD").parentId("PARENT_ID").build();
+    NodeExecution otherChild = NodeExecution.builder().uuid("OTHER_CHILD").parentId("PARENT_ID").build();
+    doReturn(OrchestrationTestHelper.createCloseableIterator(Arrays.asList(child, otherChild).iterator()))
+        .when(nodeExecutionService)
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngineChildren);
+    PmsStepParameters resolvedParams = new PmsStepParameters(Collections.singletonMap("key", "value"));
+    doReturn(NodeExecution.builder().uuid("CHILD").parentId("PARENT_ID").resolvedParams(resolvedParams).build())
+        .when(nodeExecutionService)
+        .getWithFieldsIncluded("CHILD", NodeProjectionUtils.fieldsForExpressionEngine);
+
+    assertThat(nodeExecutionsCache.fetchChildren("PARENT_ID")).containsExactly(child, otherChild);
+    assertThat(nodeExecutionsCache.fetchChildren("PARENT_ID")).containsExactly(child, otherChild);
+    assertThat(nodeExecutionsCache.fetch("OTHER_CHILD")).isSameAs(otherChild);
+    verify(nodeExecutionService, times(1))
+        .fetchChildrenNodeExecutionsIterator(
+            "PLAN_EXECUTION_ID", "PARENT_ID", NodeProjectionUtils.fieldsForExpressionEngineChildren);
+
+    // The resolved params are loaded once, only for the child whose parameters are read
+    assertThat(nodeExecutionsCache.fetchResolvedStepParameters(child)).isEqualTo(resolvedParams);
+    assertThat(nodeExecutionsCache.fetchResolvedStepParameters(nodeExecutionsCache.fetch("CHILD")))
+        .isEqualTo(resolvedParams);
+    verify(nodeExecutionService, times(1))
+        .getWithFieldsIncluded("CHILD", NodeProjectionUtils.fieldsForExpressionEngine);
+  }
 }
@@ -276,50 +276,50 @@ public class NodeExecutionValueTest extends OrchestrationTestBase {
     CloseableIterator<NodeExecution> iterator1 =
         OrchestrationTestHelper.createCloseableIterator(nodeExecutionsList1.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, null, NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, null, NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator1);
 
     List<NodeExecution> nodeExecutionList2 = asList(nodeExecution2, nodeExecution3);
     CloseableIterator<NodeExecution> iterator2 =
         OrchestrationTestHelper.createCloseableIterator(nodeExecutionList2.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution1.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution1.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator2);
 
     List<NodeExecution> nodeExecutionList3 = asList(nodeExecution4, nodeExecution5);
     CloseableIterator<NodeExecution> iterator3 =
         OrchestrationTestHelper.createCloseableIterator(nodeExecutionList3.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution3.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution3.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator3);
 
     List<NodeExecution> nodeExecutionList4 = Collections.singletonList(nodeExecution6);
     CloseableIterator<NodeExecution> iterator4 =
         OrchestrationTestHelper.createCloseableIterator(nodeExecutionList4.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution4.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution4.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator4);
 
     List<NodeExecution> nodeExecutionList5 = asList(nodeExecution7, nodeExecution8);
     CloseableIterator<NodeExecution> iterator5 =
         OrchestrationTestHelper.createCloseableIterator(nodeExecutionList5.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution6.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution6.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator5);
 
     CloseableIterator<NodeExecution> emptyIterator =
         OrchestrationTestHelper.createCloseableIterator(Collections.emptyListIterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution2.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution2.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(emptyIterator);
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution5.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution5.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(emptyIterator);
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution7.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution7.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(emptyIterator);
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution8.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution8.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(emptyIterator);
   }
 
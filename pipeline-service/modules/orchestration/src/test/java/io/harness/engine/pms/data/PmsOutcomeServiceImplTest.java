@@ -184,6 +184,35 @@ public class PmsOutcomeServiceImplTest extends OrchestrationTestBase {
         .containsExactlyInAnyOrder("test1", "test2");
   }
 
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldConsumeAllInOrder() {
+    Ambiance ambiance = AmbianceTestUtils.buildAmbiance();
+
+    String outcome1 = RecastOrchestrationUtils.toJson(DummyOrchestrationOutcome.builder().test("test1").build());
+    String outcome2 = RecastOrchestrationUtils.toJson(DummyOrchestrationOutcome.builder().test("test2").build());
+    List<String> instanceIds = pmsOutcomeService.consumeAll(ambiance,
+        Arrays.asList(ConsumeRequest.builder().name("outcome1").value(outcome1).build(),
+            ConsumeRequest.builder()
+                .name("outcome2")
+                .value(outcome2)
+                .groupName(ResolverUtils.GLOBAL_GROUP_SCOPE)
+                .build()));
+
+    assertThat(instanceIds).hasSize(2);
+    assertThat(pmsOutcomeService.fetchOutcomes(instanceIds)
+                   .stream()
+                   .map(oc -> RecastOrchestrationUtils.fromJson(oc, DummyOrchestrationOutcome.class).getTest())
+                   .collect(Collectors.toList()))
+        .containsExactlyInAnyOrder("test1", "test2");
+    assertThat(RecastOrchestrationUtils.fromJson(pmsOutcomeService.fetchOutcome(instanceIds.get(1)),
+                   DummyOrchestrationOutcome.class)
+                   .getTest())
+        .isEqualTo("test2");
+    assertThat(pmsOutcomeService.consumeAll(ambiance, Collections.emptyList())).isEmpty();
+  }
+
   @Test
   @Owner(developers = PRASHANT)
   @Category(UnitTests.class)
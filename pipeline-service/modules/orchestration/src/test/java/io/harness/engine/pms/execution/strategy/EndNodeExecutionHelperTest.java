@@ -13,6 +13,7 @@ import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
@@ -35,6 +36,7 @@ import io.harness.pms.contracts.steps.io.StepResponseProto;
 import io.harness.rule.Owner;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Consumer;
@@ -94,7 +96,7 @@ public class EndNodeExecutionHelperTest extends OrchestrationTestBase {
         endNodeExecutionHelper.handleOutcomes(Ambiance.newBuilder().build(), new ArrayList<>(), new ArrayList<>()));
     StepOutcomeProto stepOutcomeProto =
         StepOutcomeProto.newBuilder().setOutcome("1").setName("proto").setGroup("group1").build();
-    doReturn("id1").when(pmsOutcomeService).consume(any(Ambiance.class), anyString(), anyString(), anyString());
+    doReturn(Collections.singletonList("id1")).when(pmsOutcomeService).consumeAll(any(Ambiance.class), anyList());
     List<StepOutcomeProto> stepOutcomeProtoList = new ArrayList<>();
     stepOutcomeProtoList.add(stepOutcomeProto);
     List<StepOutcomeRef> stepOutcomeRefs =
@@ -60,6 +60,7 @@ import io.harness.event.PlanExecutionMetadataDeleteObserver;
 import io.harness.exception.GeneralException;
 import io.harness.execution.consumers.InitiateNodeEventRedisConsumer;
 import io.harness.execution.consumers.SdkResponseEventRedisConsumer;
+import io.harness.expression.JexlExpressionCache;
 import io.harness.ff.FeatureFlagConfig;
 import io.harness.gitsync.AbstractGitSyncSdkModule;
 import io.harness.gitsync.GitSdkConfiguration;
@@ -394,6 +395,7 @@ public class PipelineServiceApplication extends Application<PipelineServiceConfi
     initializeEnforcementSdk(injector);
 
     harnessMetricRegistry = injector.getInstance(HarnessMetricRegistry.class);
+    JexlExpressionCache.getDefault().registerMetrics(harnessMetricRegistry.getMetricRegistry());
     PipelineServiceIteratorsConfig iteratorsConfig = appConfig.getIteratorsConfig();
     injector.getInstance(TriggerWebhookExecutionService.class)
         .registerIterators(iteratorsConfig.getTriggerWebhookConfig());
@@ -159,6 +159,8 @@ public class PipelineServiceConfiguration extends Configuration {
   @JsonProperty(value = "grpcNegotiationType") NegotiationType grpcNegotiationType;
   // If flag is enabled, only one thread does Notify response cleanup.
   @JsonProperty(value = "lockNotifyResponseCleanup") private boolean lockNotifyResponseCleanup;
+  // When positive, the notify responses are written in bulk at most after this interval
+  @JsonProperty(value = "notifyResponseFlushIntervalMillis") private long notifyResponseFlushIntervalMillis;
   @JsonProperty("queueServiceClientConfig") private QueueServiceClientConfig queueServiceClientConfig;
   @JsonProperty(value = "disableFreezeNotificationTemplate") private boolean disableFreezeNotificationTemplate;
   @JsonProperty("cfClientConfig") @ConfigSecret private CfClientConfig cfClientConfig;
@@ -315,6 +315,7 @@ public class PipelineServiceModule extends AbstractModule {
             .licenseClientConfig(configuration.getNgManagerServiceHttpClientConfig())
             .licenseClientId(PIPELINE_SERVICE.getServiceId())
             .expandedJsonLockConfig(configuration.getExpandedJsonLockConfig())
+            .notifyResponseFlushIntervalMillis(configuration.getNotifyResponseFlushIntervalMillis())
             .build()));
     install(OrchestrationStepsModule.getInstance(configuration.getOrchestrationStepConfig()));
     install(FeatureFlagModule.getInstance());
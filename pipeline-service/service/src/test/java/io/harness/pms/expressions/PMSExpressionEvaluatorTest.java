@@ -194,37 +194,37 @@ public class PMSExpressionEvaluatorTest extends PipelineServiceTestBase {
     CloseableIterator<NodeExecution> iterator1 =
         PipelineServiceTestHelper.createCloseableIterator(nodeExecutionsList1.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, null, NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, null, NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator1);
 
     List<NodeExecution> nodeExecutionsList2 = Collections.singletonList(nodeExecution2);
     CloseableIterator<NodeExecution> iterator2 =
         PipelineServiceTestHelper.createCloseableIterator(nodeExecutionsList2.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution1.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution1.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator2);
 
     List<NodeExecution> nodeExecutionList3 = Collections.singletonList(nodeExecution3);
     CloseableIterator<NodeExecution> iterator3 =
         PipelineServiceTestHelper.createCloseableIterator(nodeExecutionList3.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution2.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution2.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator3);
 
     List<NodeExecution> nodeExecutionList4 = asList(nodeExecution4, nodeExecution5);
     CloseableIterator<NodeExecution> iterator4 =
         PipelineServiceTestHelper.createCloseableIterator(nodeExecutionList4.iterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution3.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution3.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(iterator4);
 
     CloseableIterator<NodeExecution> emptyIterator =
         PipelineServiceTestHelper.createCloseableIterator(Collections.emptyListIterator());
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution4.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution4.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(emptyIterator);
     when(nodeExecutionService.fetchChildrenNodeExecutionsIterator(
-             planExecutionId, nodeExecution5.getUuid(), NodeProjectionUtils.fieldsForExpressionEngine))
+             planExecutionId, nodeExecution5.getUuid(), NodeProjectionUtils.fieldsForExpressionEngineChildren))
         .thenReturn(emptyIterator);
     when(planExecutionService.getPlanExecutionMetadata(planExecutionId)).thenReturn(PlanExecution.builder().build());
   }